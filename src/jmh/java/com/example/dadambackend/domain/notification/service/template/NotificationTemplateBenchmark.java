@@ -0,0 +1,101 @@
+package com.example.dadambackend.domain.notification.service.template;
+
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.model.OutboundNotification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 디스패처 한 묶음 (가족 100곳) 을 렌더하는 비용
+ * - fanOutBurst : 가족마다 이벤트 1건을 작성자를 뺀 구성원 5명에게 (renderSingle)
+ * - digestBurst : 가족마다 이벤트 4건 (작성자 2명) 을 구성원 6명에게 묶어서 (renderDigest)
+ * 이벤트 / 이름은 묶음마다 새 값이라 실제처럼 같은 인자는 한 묶음 안에서만 반복된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationTemplateBenchmark {
+
+    private static final int BURSTS = 500;
+    private static final int FAMILIES_PER_BURST = 100;
+    private static final String[] NAMES = {"엄마", "아빠", "민수", "지연", "할머니", "할아버지"};
+    private static final String[] ROLES = {"parent", "parent", "child", "child", "grandparent", "grandparent"};
+    private static final NotificationType[] DIGEST_TYPES = {
+            NotificationType.ANSWER_CREATED, NotificationType.COMMENT_CREATED,
+            NotificationType.COMMENT_CREATED, NotificationType.SCHEDULE_CREATED};
+
+    private NotificationTemplateService service;
+    // 묶음 → 가족별 이벤트 1건
+    private final List<List<OutboundNotification>> singleBursts = new ArrayList<>();
+    // 묶음 → (가족, 받는 사람) 별 digest 에 들어갈 이벤트
+    private final List<List<List<OutboundNotification>>> digestBursts = new ArrayList<>();
+    private int next;
+
+    @Setup
+    public void setUp() {
+        service = new NotificationTemplateService("ko");
+        LocalDateTime now = LocalDateTime.now();
+
+        long familyId = 0;
+        for (int burst = 0; burst < BURSTS; burst++) {
+            List<OutboundNotification> singles = new ArrayList<>(FAMILIES_PER_BURST);
+            List<List<OutboundNotification>> digests = new ArrayList<>(FAMILIES_PER_BURST * NAMES.length);
+
+            for (int family = 0; family < FAMILIES_PER_BURST; family++) {
+                familyId++;
+                int actor = family % NAMES.length;
+                singles.add(event(familyId, actor, NotificationType.SCHEDULE_CREATED, "가족 여행 " + familyId, now));
+
+                List<OutboundNotification> events = new ArrayList<>(DIGEST_TYPES.length);
+                for (int i = 0; i < DIGEST_TYPES.length; i++) {
+                    events.add(event(familyId, i % 2 == 0 ? 0 : 2, DIGEST_TYPES[i], "오늘 저녁 " + familyId + "-" + i, now));
+                }
+                for (long recipient = 0; recipient < NAMES.length; recipient++) {
+                    List<OutboundNotification> mine = new ArrayList<>(events.size());
+                    for (OutboundNotification event : events) {
+                        if (event.getActorId() != recipient) {
+                            mine.add(event);
+                        }
+                    }
+                    digests.add(mine);
+                }
+            }
+            singleBursts.add(singles);
+            digestBursts.add(digests);
+        }
+    }
+
+    @Benchmark
+    public void fanOutBurst(Blackhole blackhole) {
+        for (OutboundNotification event : singleBursts.get(next++ % BURSTS)) {
+            for (int recipient = 1; recipient < NAMES.length; recipient++) {
+                blackhole.consume(service.renderSingle(event));
+            }
+        }
+    }
+
+    @Benchmark
+    public void digestBurst(Blackhole blackhole) {
+        for (List<OutboundNotification> events : digestBursts.get(next++ % BURSTS)) {
+            blackhole.consume(events.size() == 1 ? service.renderSingle(events.get(0)) : service.renderDigest(events));
+        }
+    }
+
+    private static OutboundNotification event(long familyId, int actor, NotificationType type, String subject,
+                                              LocalDateTime now) {
+        // 이름은 가족마다 달라서 다른 가족의 digest 와 인자가 겹치지 않는다
+        return OutboundNotification.familyEvent(familyId, (long) actor, NAMES[actor] + familyId, ROLES[actor],
+                type, subject, now);
+    }
+}
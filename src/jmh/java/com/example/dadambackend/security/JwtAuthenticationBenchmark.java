@@ -0,0 +1,81 @@
+package com.example.dadambackend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 한 건의 토큰 처리 비용 (활성 사용자 1,000명의 토큰을 돌아가며)
+ * - legacyParsePerRequest : 필터 도입 전 컨트롤러 헬퍼 (validateToken + getUserIdFromToken, 호출마다 파서를 새로 만들어 두 번 검증)
+ * - filterParseEveryRequest : 지금 필터 경로에서 캐시만 뺀 것 (공유 파서로 한 번 검증)
+ * - filterWithVerifiedTokenCache : JwtAuthenticationFilter 그대로 (첫 바퀴 뒤로는 모두 캐시 hit)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private final MockHttpServletRequest[] requests = new MockHttpServletRequest[USERS];
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain chain = (request, response) -> { };
+    private int next;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        tokenProvider = new JwtTokenProvider(SECRET, TimeUnit.HOURS.toMillis(1));
+        filter = new JwtAuthenticationFilter(tokenProvider, new VerifiedTokenCache(10_000));
+
+        for (int i = 0; i < USERS; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/home");
+            request.addHeader("Authorization", "Bearer " + tokenProvider.createToken((long) i, "user" + i + "@dadam.com"));
+            requests[i] = request;
+        }
+    }
+
+    @Benchmark
+    public Long legacyParsePerRequest() {
+        String token = requests[next++ % USERS].getHeader("Authorization").substring(7);
+        // 예전 JwtTokenProvider.validateToken
+        Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+        // 예전 JwtTokenProvider.getUserIdFromToken
+        Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    @Benchmark
+    public AuthenticatedUser filterParseEveryRequest() {
+        String token = requests[next++ % USERS].getHeader("Authorization").substring(7);
+        Claims claims = tokenProvider.parseClaims(token);
+        return new AuthenticatedUser(Long.parseLong(claims.getSubject()), claims.get("email", String.class));
+    }
+
+    @Benchmark
+    public void filterWithVerifiedTokenCache(Blackhole blackhole) throws Exception {
+        filter.doFilter(requests[next++ % USERS], response, chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.dadambackend.common.ai;
+
+/**
+ * AI 호출용 서킷 브레이커 (최근 N건 기준 실패율)
+ * - CLOSED : 정상. 최근 windowSize 건 중 실패율이 임계치를 넘으면 OPEN
+ * - OPEN : openMillis 동안 호출하지 않고 즉시 실패
+ * - HALF_OPEN : 시험 호출 1건만 통과시키고, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class AiCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openMillis;
+
+    // 최근 결과 링버퍼 (true = 실패)
+    private final boolean[] outcomes;
+    private int index;
+    private int count;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public AiCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMillis) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+        this.outcomes = new boolean[this.windowSize];
+    }
+
+    /**
+     * 이번 호출을 보내도 되는지 확인 (false 면 즉시 실패 처리)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+            System.out.println("[AiCircuitBreaker] OPEN → HALF_OPEN (시험 호출 허용)");
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            clearWindow();
+            System.out.println("[AiCircuitBreaker] HALF_OPEN → CLOSED");
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.OPEN) {
+            // OPEN 전에 나간 호출이 늦게 실패한 경우 → 이미 열려 있으므로 무시
+            return;
+        }
+        record(true);
+        if (count >= minimumCalls && failures * 100.0 / count >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 현재 윈도우 기준 실패율 (%)
+     */
+    public synchronized double getFailureRate() {
+        return count == 0 ? 0 : failures * 100.0 / count;
+    }
+
+    private void record(boolean failure) {
+        if (count == windowSize) {
+            if (outcomes[index]) {
+                failures--;
+            }
+        } else {
+            count++;
+        }
+        outcomes[index] = failure;
+        if (failure) {
+            failures++;
+        }
+        index = (index + 1) % windowSize;
+    }
+
+    private void open() {
+        System.out.println("[AiCircuitBreaker] " + state + " → OPEN (실패율 " + getFailureRate() + "%)");
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        probeInFlight = false;
+        clearWindow();
+    }
+
+    private void clearWindow() {
+        index = 0;
+        count = 0;
+        failures = 0;
+    }
+}
@@ -1,100 +1,258 @@
 package com.example.dadambackend.common.ai;
 
+import com.example.dadambackend.common.ai.cache.AiCachePolicy;
+import com.example.dadambackend.common.ai.cache.AiResponseCache;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * OpenAI chat/completions 클라이언트
+ * - JDK HttpClient 하나를 공유 (HTTP/2 우선, 커넥션 keep-alive 재사용)
+ * - connect timeout + 호출별 deadline
+ * - requestAsync 는 응답을 기다리는 동안 스레드를 점유하지 않는 CompletableFuture API
+ * - 직렬화는 Spring 이 관리하는 ObjectMapper 를 그대로 사용
+ * - 모든 요청은 AiResilience (서킷 브레이커 / 재시도 / 헤지) 를 거친다
+ * - AiCachePolicy 를 넘기면 AiResponseCache (메모리 + DB) 를 먼저 확인한다
+ */
 @Component
-@RequiredArgsConstructor
 public class AiClient {
 
-    @Value("${ai.api.key}")
-    private String apiKey;
+    private final ObjectMapper objectMapper;
+    private final AiResilience resilience;
+    private final AiResponseCache responseCache;
+    private final String apiKey;
+    private final String model;
+    private final URI apiUri;
+    private final Duration requestTimeout;
+    private final ExecutorService ioExecutor;
+    private final HttpClient httpClient;
+
+    public AiClient(
+            ObjectMapper objectMapper,
+            AiResilience resilience,
+            AiResponseCache responseCache,
+            @Value("${ai.api.key}") String apiKey,
+            @Value("${ai.api.model:gpt-4o-mini}") String model,
+            // 로컬 AI 스텁(stub 프로필) 등으로 교체할 수 있도록 URL 을 설정값으로 분리
+            @Value("${ai.api.url:https://api.openai.com/v1/chat/completions}") String apiUrl,
+            @Value("${ai.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${ai.http.request-timeout-ms:20000}") long requestTimeoutMs,
+            @Value("${ai.http.io-threads:4}") int ioThreads
+    ) {
+        this.objectMapper = objectMapper;
+        this.resilience = resilience;
+        this.responseCache = responseCache;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.apiUri = URI.create(apiUrl);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+        // 응답 콜백만 처리하는 작은 스레드 풀 (응답 대기 중에는 스레드를 쓰지 않음)
+        AtomicInteger seq = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads, r -> {
+            Thread t = new Thread(r, "ai-http-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(ioExecutor)
+                .build();
+    }
 
-    private static final String AI_API_URL = "https://api.openai.com/v1/chat/completions";
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+    }
+
+    /**
+     * AI 호출 (실패 시 AiClientException)
+     * - fallback 으로 조용히 대체되면 안 되는 호출부(사전 생성 파이프라인 등)용
+     */
+    public String requestOrThrow(String systemPrompt, String userPrompt) {
+        return await(requestAsync(systemPrompt, userPrompt));
+    }
+
+    /**
+     * 비동기 AI 호출 (기본 deadline = ai.http.request-timeout-ms)
+     * - 실패 시 AiClientException 으로 예외 완료
+     */
+    public CompletableFuture<String> requestAsync(String systemPrompt, String userPrompt) {
+        return requestAsync(systemPrompt, userPrompt, requestTimeout);
+    }
 
-    public String request(String systemPrompt, String userPrompt) {
+    /**
+     * 비동기 AI 호출 (호출별 deadline 지정, deadline 은 시도 1회 기준)
+     */
+    public CompletableFuture<String> requestAsync(String systemPrompt, String userPrompt, Duration deadline) {
+        // 1. API 키 체크 (설정 문제라 재시도/서킷 대상이 아님)
+        if (apiKey == null || apiKey.isBlank()) {
+            return CompletableFuture.failedFuture(AiClientException.nonRetryable(
+                    "ai.api.key 설정이 비어 있습니다. application.yml 또는 환경 변수를 확인하세요."));
+        }
+
+        HttpRequest httpRequest;
         try {
-            // 1. API 키 체크
-            if (apiKey == null || apiKey.isBlank()) {
-                System.out.println("[AiClient] ai.api.key 설정이 비어 있습니다. application.yml 또는 환경 변수를 확인하세요.");
-                return buildFallbackJson();
+            httpRequest = HttpRequest.newBuilder(apiUri)
+                    .timeout(deadline)
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + apiKey)
+                    .POST(HttpRequest.BodyPublishers.ofString(buildRequestBody(systemPrompt, userPrompt)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(
+                    AiClientException.nonRetryable("요청 직렬화 실패: " + e.getMessage()));
+        }
+
+        // 2. 재시도/헤지 때마다 같은 요청을 다시 보낸다 (HttpRequest 는 불변이라 재사용 가능)
+        return resilience.execute(() -> send(httpRequest));
+    }
+
+    /**
+     * 요청 1회 전송
+     * - 반환된 future 를 취소하면 (헤지에서 진 쪽 등) sendAsync 의 future 도 취소해서 실제 HTTP 교환을 끊는다.
+     *   handle 로 만든 파생 future 만 취소하면 원래 요청은 응답을 다 받을 때까지 계속 진행된다.
+     */
+    private CompletableFuture<String> send(HttpRequest httpRequest) {
+        CompletableFuture<HttpResponse<String>> exchange =
+                httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<String> content = exchange.handle((response, error) -> {
+            if (error != null) {
+                throw AiClientException.from(error);
+            }
+            return extractContent(response);
+        });
+        content.whenComplete((value, error) -> {
+            if (content.isCancelled()) {
+                exchange.cancel(true);
             }
+        });
+        return content;
+    }
 
-            // 2. 헤더
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
+    /**
+     * 캐시를 거치는 비동기 AI 호출
+     * - fresh 가 아니면 캐시된 응답을 parser 로 검증해서 바로 반환 (검증 실패한 캐시는 제거)
+     * - 새로 받은 응답은 parser 를 통과한 경우에만 캐시에 저장 → 잘못된 응답이 재사용되지 않음
+     * - parser 는 실패 시 AiClientException 을 던져야 한다
+     */
+    public <T> CompletableFuture<T> requestAsync(String systemPrompt, String userPrompt,
+                                                 AiCachePolicy cachePolicy, Function<String, T> parser) {
+        String fingerprint = AiResponseCache.fingerprint(model, systemPrompt, userPrompt, cachePolicy.category());
 
-            // 3. 메시지 구성
-            OpenAiMessage systemMsg = new OpenAiMessage();
-            systemMsg.setRole("system");
-            systemMsg.setContent(systemPrompt);
+        if (cachePolicy.fresh()) {
+            return requestAndCache(systemPrompt, userPrompt, fingerprint, cachePolicy, parser);
+        }
 
-            OpenAiMessage userMsg = new OpenAiMessage();
-            userMsg.setRole("user");
-            userMsg.setContent(userPrompt);
+        // 캐시 조회는 DB 를 탈 수 있으므로 호출 스레드가 아니라 AiResponseCache 의 스레드에서 이어간다
+        return responseCache.getAsync(fingerprint).thenCompose(cached -> {
+            if (cached.isPresent()) {
+                try {
+                    T result = parser.apply(cached.get());
+                    System.out.println("[AiClient] 캐시 hit → " + cachePolicy.category());
+                    return CompletableFuture.completedFuture(result);
+                } catch (AiClientException e) {
+                    System.out.println("[AiClient] 캐시된 응답 검증 실패 → 제거 후 재요청: " + e.getMessage());
+                    responseCache.evict(fingerprint);
+                }
+            }
+            return requestAndCache(systemPrompt, userPrompt, fingerprint, cachePolicy, parser);
+        });
+    }
 
-            OpenAiRequest body = new OpenAiRequest();
-            body.setModel("gpt-4o-mini");
-            body.setMessages(new OpenAiMessage[]{systemMsg, userMsg});
+    private <T> CompletableFuture<T> requestAndCache(String systemPrompt, String userPrompt, String fingerprint,
+                                                     AiCachePolicy cachePolicy, Function<String, T> parser) {
+        // put 은 메모리 저장 + DB 작업 제출만 하므로 ai-http 콜백 스레드를 막지 않는다
+        return requestAsync(systemPrompt, userPrompt)
+                .thenApply(content -> {
+                    T result = parser.apply(content);
+                    responseCache.put(fingerprint, model, cachePolicy.category(), content);
+                    return result;
+                });
+    }
 
-            // 4. 응답 포맷: JSON 오브젝트 강제
-            OpenAiRequest.ResponseFormat responseFormat = new OpenAiRequest.ResponseFormat();
-            responseFormat.setType("json_object");
-            body.setResponse_format(responseFormat);
+    /**
+     * CompletableFuture 결과를 기다리고, 실패 원인을 AiClientException 으로 풀어서 던진다.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw AiClientException.from(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiClientException("AI 응답 대기 중 인터럽트", e);
+        }
+    }
 
-            HttpEntity<OpenAiRequest> entity = new HttpEntity<>(body, headers);
+    private String buildRequestBody(String systemPrompt, String userPrompt) throws JsonProcessingException {
+        // 메시지 구성
+        OpenAiMessage systemMsg = new OpenAiMessage();
+        systemMsg.setRole("system");
+        systemMsg.setContent(systemPrompt);
 
-            // 5. OpenAI 호출
-            ResponseEntity<String> response =
-                    restTemplate.exchange(AI_API_URL, HttpMethod.POST, entity, String.class);
+        OpenAiMessage userMsg = new OpenAiMessage();
+        userMsg.setRole("user");
+        userMsg.setContent(userPrompt);
 
-            System.out.println("[AiClient] status = " + response.getStatusCodeValue());
-            System.out.println("[AiClient] body   = " + response.getBody());
+        OpenAiRequest body = new OpenAiRequest();
+        body.setModel(model);
+        body.setMessages(new OpenAiMessage[]{systemMsg, userMsg});
 
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                System.out.println("[AiClient] OpenAI HTTP 에러 → " + response.getStatusCode());
-                return buildFallbackJson();
-            }
+        // 응답 포맷: JSON 오브젝트 강제
+        OpenAiRequest.ResponseFormat responseFormat = new OpenAiRequest.ResponseFormat();
+        responseFormat.setType("json_object");
+        body.setResponse_format(responseFormat);
 
-            // 6. JSON 파싱 (알 수 없는 필드는 모두 무시)
-            OpenAiResponse aiResponse =
-                    objectMapper.readValue(response.getBody(), OpenAiResponse.class);
+        return objectMapper.writeValueAsString(body);
+    }
 
-            String content = aiResponse.getContentText();
-            if (content == null || content.isBlank()) {
-                System.out.println("[AiClient] GPT content 비어 있음 → fallback 사용");
-                return buildFallbackJson();
-            }
+    private String extractContent(HttpResponse<String> response) {
+        System.out.println("[AiClient] status = " + response.statusCode() + " (" + response.version() + ")");
 
-            return content;
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            System.out.println("[AiClient] response body: " + response.body());
+            // 429 / 5xx 는 일시적 장애로 보고 재시도, 나머지 4xx 는 다시 보내도 같은 결과
+            if (status == 429 || status >= 500) {
+                throw new AiClientException("OpenAI HTTP 에러 → " + status);
+            }
+            throw AiClientException.nonRetryable("OpenAI HTTP 에러 → " + status);
+        }
 
-        } catch (HttpStatusCodeException e) {
-            System.out.println("[AiClient] HTTP 예외 발생 → status: " + e.getStatusCode());
-            System.out.println("[AiClient] response body: " + e.getResponseBodyAsString());
-            return buildFallbackJson();
-        } catch (Exception e) {
-            System.out.println("[AiClient] GPT 호출 실패 → fallback 사용");
-            e.printStackTrace();
-            return buildFallbackJson();
+        // JSON 파싱 (알 수 없는 필드는 모두 무시)
+        OpenAiResponse aiResponse;
+        try {
+            aiResponse = objectMapper.readValue(response.body(), OpenAiResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new AiClientException("응답 JSON 파싱 실패: " + e.getMessage(), e);
         }
-    }
 
-    public String request(String prompt) {
-        String systemPrompt = "너는 사용자의 요청에 맞는 JSON을 생성하는 어시스턴트야. " +
-                "사용자가 요구한 형식 그대로 JSON만 출력해라.";
-        return request(systemPrompt, prompt);
+        String content = aiResponse.getContentText();
+        if (content == null || content.isBlank()) {
+            throw new AiClientException("GPT content 비어 있음");
+        }
+        return content;
     }
 
     @Data
@@ -152,16 +310,4 @@ public class AiClient {
             }
         }
     }
-
-    /**
-     * Question 용 기본 fallback JSON
-     */
-    private String buildFallbackJson() {
-        return """
-            {
-              "content": "요즘 가장 감사했던 순간은 뭐야?",
-              "category": "MEMORY"
-            }
-            """;
-    }
 }
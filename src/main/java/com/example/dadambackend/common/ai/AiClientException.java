@@ -0,0 +1,54 @@
+package com.example.dadambackend.common.ai;
+
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * AI 호출 실패 (HTTP 오류, 빈 응답, 타임아웃 등)
+ * - fallback 없이 실패 여부를 알아야 하는 호출부(사전 생성 파이프라인 등)에서 사용
+ * - retryable=false 면 다시 보내도 결과가 같은 실패 (설정 누락, 4xx, 서킷 OPEN 등)
+ */
+public class AiClientException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public AiClientException(String message) {
+        this(message, null, true);
+    }
+
+    public AiClientException(String message, Throwable cause) {
+        this(message, cause, true);
+    }
+
+    private AiClientException(String message, Throwable cause, boolean retryable) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public static AiClientException nonRetryable(String message) {
+        return new AiClientException(message, null, false);
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    /**
+     * CompletableFuture 가 감싼 예외를 풀어서 AiClientException 으로 변환
+     */
+    public static AiClientException from(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof AiClientException aiClientException) {
+            return aiClientException;
+        }
+        if (cause instanceof HttpTimeoutException) {
+            return new AiClientException("AI 응답 시간 초과", cause);
+        }
+        return new AiClientException("GPT 호출 실패: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.dadambackend.common.ai;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * AI 호출 복원력 계층 (AiClient 가 모든 요청을 이 계층을 거쳐 보낸다)
+ * - 서킷 브레이커 : 최근 실패율이 임계치를 넘으면 OpenAI 를 기다리지 않고 즉시 실패
+ * - 재시도 : 지수 백오프 + full jitter, 최대 시도 횟수 제한
+ * - 재시도 예산 : 전체 요청 대비 재시도 비율을 제한해서 장애 시 재시도 폭주 방지
+ * - 헤지 요청 : 첫 요청이 최근 p95 지연보다 늦어지면 두 번째 요청을 보내고 먼저 온 응답 사용 (기본 off)
+ *   헤지 요청도 과금되므로 재시도 예산을 함께 소모하고, 진 쪽 요청은 취소한다.
+ */
+@Component
+public class AiResilience {
+
+    private static final int LATENCY_MIN_SAMPLES = 20;
+
+    private final AiCircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final LatencyWindow latencies = new LatencyWindow(200);
+    private final ScheduledExecutorService scheduler;
+
+    private final int maxAttempts;
+    private final long retryBaseDelayMs;
+    private final long retryMaxDelayMs;
+    private final boolean hedgeEnabled;
+    private final long hedgeMinDelayMs;
+
+    public AiResilience(
+            @Value("${ai.resilience.max-attempts:3}") int maxAttempts,
+            @Value("${ai.resilience.retry-base-delay-ms:200}") long retryBaseDelayMs,
+            @Value("${ai.resilience.retry-max-delay-ms:2000}") long retryMaxDelayMs,
+            // 요청 1건당 적립되는 재시도 토큰 (0.2 → 재시도는 전체 요청의 약 20% 까지)
+            @Value("${ai.resilience.retry-budget-ratio:0.2}") double retryBudgetRatio,
+            @Value("${ai.resilience.retry-budget-max-tokens:10}") double retryBudgetMaxTokens,
+            @Value("${ai.resilience.breaker-window-size:20}") int breakerWindowSize,
+            @Value("${ai.resilience.breaker-minimum-calls:10}") int breakerMinimumCalls,
+            @Value("${ai.resilience.breaker-failure-rate:50}") double breakerFailureRate,
+            @Value("${ai.resilience.breaker-open-ms:30000}") long breakerOpenMs,
+            @Value("${ai.resilience.hedge-enabled:false}") boolean hedgeEnabled,
+            @Value("${ai.resilience.hedge-min-delay-ms:1000}") long hedgeMinDelayMs
+    ) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBaseDelayMs = retryBaseDelayMs;
+        this.retryMaxDelayMs = retryMaxDelayMs;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelayMs = hedgeMinDelayMs;
+        this.retryBudget = new RetryBudget(retryBudgetRatio, retryBudgetMaxTokens);
+        this.circuitBreaker = new AiCircuitBreaker(
+                breakerWindowSize, breakerMinimumCalls, breakerFailureRate, breakerOpenMs);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ai-resilience");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * call 을 복원력 정책에 따라 실행
+     * - call 은 시도마다 새 요청을 만들어 보내야 한다 (재시도/헤지 때 여러 번 호출됨)
+     * - 최종 실패는 AiClientException 으로 예외 완료
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        retryBudget.deposit();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(call, 1, result);
+        return result;
+    }
+
+    public AiCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 헤지 요청 기준 지연 (최근 성공 응답 p95, 표본이 적으면 hedge-min-delay-ms)
+     */
+    public long currentHedgeDelayMs() {
+        long p95 = latencies.percentile(0.95, LATENCY_MIN_SAMPLES);
+        return Math.max(hedgeMinDelayMs, p95);
+    }
+
+    private <T> void attempt(Supplier<CompletableFuture<T>> call, int attemptNo, CompletableFuture<T> result) {
+        if (!circuitBreaker.tryAcquire()) {
+            result.completeExceptionally(AiClientException.nonRetryable("AI 서킷 브레이커 OPEN → 호출 생략"));
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> current;
+        try {
+            current = hedgeEnabled ? hedged(call) : call.get();
+        } catch (RuntimeException e) {
+            current = CompletableFuture.failedFuture(e);
+        }
+
+        current.whenComplete((value, error) -> {
+            if (error == null) {
+                circuitBreaker.onSuccess();
+                latencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                result.complete(value);
+                return;
+            }
+
+            circuitBreaker.onFailure();
+            AiClientException failure = AiClientException.from(error);
+
+            if (!failure.isRetryable() || attemptNo >= maxAttempts) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            if (!retryBudget.tryWithdraw()) {
+                System.out.println("[AiResilience] 재시도 예산 소진 → 재시도 생략: " + failure.getMessage());
+                result.completeExceptionally(failure);
+                return;
+            }
+
+            long delay = backoffWithJitter(attemptNo);
+            System.out.println("[AiResilience] " + attemptNo + "차 시도 실패 → " + delay + "ms 후 재시도: "
+                    + failure.getMessage());
+            scheduler.schedule(() -> attempt(call, attemptNo + 1, result), delay, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * 첫 요청이 p95 지연 안에 끝나지 않으면 두 번째 요청을 보내고, 먼저 성공한 응답을 사용
+     * - 헤지 요청도 재시도 예산을 소모한다 (장애 시 요청량이 두 배가 되지 않도록)
+     * - 승부가 나면 나머지 요청은 취소 (call 이 돌려준 future 의 cancel 이 실제 HTTP 요청까지 끊어야 한다)
+     * - 헤지 비율 상한 = retry-budget-ratio (기본 전체 요청의 약 20%)
+     */
+    private <T> CompletableFuture<T> hedged(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+
+        CompletableFuture<T> primary = call.get();
+        primary.whenComplete((value, error) -> settle(winner, pending, value, error));
+
+        scheduler.schedule(() -> {
+            if (winner.isDone() || !retryBudget.tryWithdraw()) {
+                return;
+            }
+            System.out.println("[AiResilience] 응답 지연 → 헤지 요청 전송");
+            pending.incrementAndGet();
+            CompletableFuture<T> second;
+            try {
+                second = call.get();
+            } catch (RuntimeException e) {
+                second = CompletableFuture.failedFuture(e);
+            }
+            hedge.set(second);
+            second.whenComplete((value, error) -> settle(winner, pending, value, error));
+        }, currentHedgeDelayMs(), TimeUnit.MILLISECONDS);
+
+        winner.whenComplete((value, error) -> {
+            primary.cancel(true);
+            CompletableFuture<T> second = hedge.get();
+            if (second != null) {
+                second.cancel(true);
+            }
+        });
+        return winner;
+    }
+
+    private <T> void settle(CompletableFuture<T> winner, AtomicInteger pending, T value, Throwable error) {
+        if (error == null) {
+            winner.complete(value);
+        } else if (pending.decrementAndGet() == 0) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * 지수 백오프 + full jitter : [0, min(max, base * 2^(n-1))) 구간에서 무작위
+     */
+    private long backoffWithJitter(int attemptNo) {
+        long ceiling = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attemptNo - 1, 16));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling);
+    }
+
+    /**
+     * 재시도 예산 (토큰 버킷)
+     * - 요청마다 ratio 만큼 적립, 재시도/헤지마다 1 소모, 최대 maxTokens 까지 보관
+     */
+    private static class RetryBudget {
+        private final double ratio;
+        private final double maxTokens;
+        private double tokens;
+
+        RetryBudget(double ratio, double maxTokens) {
+            this.ratio = ratio;
+            this.maxTokens = maxTokens;
+            this.tokens = maxTokens;
+        }
+
+        synchronized void deposit() {
+            tokens = Math.min(maxTokens, tokens + ratio);
+        }
+
+        synchronized boolean tryWithdraw() {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+
+    /**
+     * 최근 성공 응답 지연(ms) 링버퍼
+     */
+    private static class LatencyWindow {
+        private final long[] samples;
+        private int index;
+        private int count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long millis) {
+            samples[index] = millis;
+            index = (index + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+        }
+
+        synchronized long percentile(double p, int minSamples) {
+            if (count < minSamples) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int idx = (int) Math.ceil(p * count) - 1;
+            return sorted[Math.max(0, Math.min(idx, count - 1))];
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.dadambackend.common.ai.cache;
+
+/**
+ * AI 호출별 캐시 정책
+ * - category : fingerprint 에 함께 들어가는 구분값 (콘텐츠 종류 / 카테고리 / 대상 날짜 등)
+ * - fresh : true 면 캐시를 읽지 않고 새로 생성 ("새 걸로 줘"), 결과는 캐시에 덮어쓴다
+ */
+public record AiCachePolicy(String category, boolean fresh) {
+
+    public static AiCachePolicy cached(String category) {
+        return new AiCachePolicy(category, false);
+    }
+
+    public static AiCachePolicy fresh(String category) {
+        return new AiCachePolicy(category, true);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.dadambackend.common.ai.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 응답 캐시 (메모리 LRU + DB 2단)
+ * - 조회 : 메모리 → DB 순서, DB 에서 찾으면 메모리에도 올린다
+ * - 저장 : 메모리 + DB 모두 (DB 저장 실패는 로그만 남기고 무시)
+ * - TTL 이 지난 항목은 조회 시 무시하고, DB 는 주기적으로 정리
+ * - 캐시 장애가 AI 호출 자체를 실패시키면 안 되므로 DB 예외는 모두 삼킨다
+ * - DB 조회/저장/삭제는 전용 스레드 풀(ai-cache)에서 실행한다.
+ *   호출 스레드나 ai-http 응답 콜백 스레드가 DB 지연에 묶이지 않도록 하기 위함
+ *   (큐가 차면 조회는 miss, 저장/삭제는 생략)
+ */
+@Component
+public class AiResponseCache {
+
+    private final AiResponseCacheRepository repository;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Map<String, CachedResponse> memory;
+    private final ThreadPoolExecutor dbExecutor;
+
+    public AiResponseCache(
+            AiResponseCacheRepository repository,
+            @Value("${ai.cache.enabled:true}") boolean enabled,
+            @Value("${ai.cache.ttl-hours:168}") long ttlHours,
+            @Value("${ai.cache.memory-max-entries:500}") int memoryMaxEntries,
+            @Value("${ai.cache.db-threads:2}") int dbThreads,
+            @Value("${ai.cache.db-queue-capacity:200}") int dbQueueCapacity
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.ttl = Duration.ofHours(ttlHours);
+
+        // accessOrder = true → 가장 오래 안 쓴 항목부터 밀어냄
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > memoryMaxEntries;
+            }
+        };
+
+        AtomicInteger seq = new AtomicInteger();
+        this.dbExecutor = new ThreadPoolExecutor(dbThreads, dbThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(dbQueueCapacity), r -> {
+            Thread t = new Thread(r, "ai-cache-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dbExecutor.shutdown();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 fingerprint (sha256 hex)
+     * - 구분자로 NUL 을 넣어서 필드 경계가 바뀌어도 같은 해시가 나오지 않게 한다
+     */
+    public static String fingerprint(String model, String systemPrompt, String userPrompt, String category) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{model, systemPrompt, userPrompt, category}) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 조회 (메모리 hit 은 바로 완료, 메모리 miss 면 ai-cache 스레드에서 DB 조회)
+     */
+    public CompletableFuture<Optional<String>> getAsync(String fingerprint) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        // 1. 메모리
+        synchronized (memory) {
+            CachedResponse cached = memory.get(fingerprint);
+            if (cached != null) {
+                if (cached.expiresAt().isAfter(LocalDateTime.now())) {
+                    return CompletableFuture.completedFuture(Optional.of(cached.content()));
+                }
+                memory.remove(fingerprint);
+            }
+        }
+
+        // 2. DB
+        try {
+            return CompletableFuture.supplyAsync(() -> loadFromDb(fingerprint), dbExecutor);
+        } catch (RejectedExecutionException e) {
+            System.out.println("[AiResponseCache] DB 작업 큐 가득 참 → 캐시 miss 처리");
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+    }
+
+    /**
+     * 캐시 저장 (메모리는 즉시, DB 는 ai-cache 스레드에서 fire-and-forget)
+     */
+    public void put(String fingerprint, String model, String category, String content) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        putMemory(fingerprint, new CachedResponse(content, expiresAt));
+
+        runOnDbExecutor("저장", () ->
+                repository.save(new AiResponseCacheEntry(fingerprint, model, category, content, expiresAt)));
+    }
+
+    /**
+     * 캐시된 응답이 더 이상 쓸 수 없을 때 (파싱/검증 실패 등) 제거
+     */
+    public void evict(String fingerprint) {
+        synchronized (memory) {
+            memory.remove(fingerprint);
+        }
+        runOnDbExecutor("삭제", () -> repository.deleteById(fingerprint));
+    }
+
+    /**
+     * 만료된 DB 캐시 정리 (기본 1시간마다)
+     */
+    @Scheduled(
+            initialDelayString = "${ai.cache.purge-interval-ms:3600000}",
+            fixedDelayString = "${ai.cache.purge-interval-ms:3600000}"
+    )
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = repository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                System.out.println("[AiResponseCache] 만료 캐시 삭제: " + deleted + "건");
+            }
+        } catch (RuntimeException e) {
+            System.out.println("[AiResponseCache] 만료 캐시 정리 실패: " + e.getMessage());
+        }
+    }
+
+    private Optional<String> loadFromDb(String fingerprint) {
+        try {
+            Optional<AiResponseCacheEntry> entry = repository.findById(fingerprint)
+                    .filter(e -> !e.isExpired(LocalDateTime.now()));
+            entry.ifPresent(e -> putMemory(fingerprint, new CachedResponse(e.getContent(), e.getExpiresAt())));
+            return entry.map(AiResponseCacheEntry::getContent);
+        } catch (RuntimeException e) {
+            System.out.println("[AiResponseCache] DB 조회 실패 → 캐시 miss 처리: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void runOnDbExecutor(String action, Runnable task) {
+        try {
+            dbExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.out.println("[AiResponseCache] DB " + action + " 실패: " + e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            System.out.println("[AiResponseCache] DB 작업 큐 가득 참 → " + action + " 생략");
+        }
+    }
+
+    private void putMemory(String fingerprint, CachedResponse response) {
+        synchronized (memory) {
+            memory.put(fingerprint, response);
+        }
+    }
+
+    private record CachedResponse(String content, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.dadambackend.common.ai.cache;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 응답 캐시 (DB 계층)
+ * - fingerprint = sha256(model, system 프롬프트, user 프롬프트, category)
+ * - 재배포 후에도 같은 요청은 OpenAI 를 다시 호출하지 않고 저장된 응답을 재사용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ai_response_cache",
+        indexes = {
+                @Index(name = "idx_ai_response_cache_expires_at", columnList = "expires_at")
+        }
+)
+public class AiResponseCacheEntry {
+
+    @Id
+    @Column(length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false, length = 50)
+    private String model;
+
+    @Column(length = 100)
+    private String category;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public AiResponseCacheEntry(String fingerprint, String model, String category,
+                                String content, LocalDateTime expiresAt) {
+        this.fingerprint = fingerprint;
+        this.model = model;
+        this.category = category;
+        this.content = content;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.dadambackend.common.ai.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface AiResponseCacheRepository extends JpaRepository<AiResponseCacheEntry, String> {
+
+    /**
+     * 만료된 캐시 일괄 삭제 (엔티티를 읽지 않고 바로 delete)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from AiResponseCacheEntry e where e.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
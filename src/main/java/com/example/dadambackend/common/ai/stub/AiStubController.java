@@ -0,0 +1,136 @@
+package com.example.dadambackend.common.ai.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 AI 스텁 (stub 프로필 전용)
+ * - OpenAI chat/completions 와 같은 형식으로 응답해서, AiClient 를 실제 HTTP 경로 그대로 태운다.
+ * - system 프롬프트 내용을 보고 질문 / 밸런스 게임 / 신조어 퀴즈 JSON 중 하나를 돌려준다.
+ * - 배치 요청({"items": [...]} 형식 요청)이면 요청한 개수만큼 items 배열로 돌려준다.
+ * - ai.stub.latency-ms (+ latency-jitter-ms) 로 응답 지연을 흉내낼 수 있다.
+ * - ai.stub.error-rate (0.0 ~ 1.0) 비율만큼 503 을 돌려줘서 재시도 / 서킷 브레이커 동작을 확인할 수 있다.
+ * - ai.stub.slow-rate 비율만큼은 slow-latency-ms 로 느리게 응답해서 헤지 요청을 확인할 수 있다.
+ * - inFlight() 로 지금 응답을 기다리게 하고 있는 요청 수를 볼 수 있다. (AI 대기 구간만 관찰하는 테스트용)
+ */
+@Profile("stub")
+@RestController
+@RequestMapping("/stub/ai")
+@RequiredArgsConstructor
+public class AiStubController {
+
+    private static final Pattern BATCH_COUNT = Pattern.compile("정확히 (\\d+)개");
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Value("${ai.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${ai.stub.latency-jitter-ms:0}")
+    private long latencyJitterMs;
+
+    @Value("${ai.stub.error-rate:0}")
+    private double errorRate;
+
+    @Value("${ai.stub.slow-rate:0}")
+    private double slowRate;
+
+    @Value("${ai.stub.slow-latency-ms:5000}")
+    private long slowLatencyMs;
+
+    @PostMapping("/v1/chat/completions")
+    public ResponseEntity<JsonNode> chatCompletions(@RequestBody JsonNode request) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long delay = random.nextDouble() < slowRate
+                ? slowLatencyMs
+                : latencyMs + (latencyJitterMs > 0 ? random.nextLong(latencyJitterMs) : 0);
+        if (delay > 0) {
+            inFlight.incrementAndGet();
+            try {
+                Thread.sleep(delay);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        if (random.nextDouble() < errorRate) {
+            ObjectNode error = objectMapper.createObjectNode();
+            error.putObject("error").put("message", "stub injected error");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+
+        String systemPrompt = request.path("messages").path(0).path("content").asText("");
+        String userPrompt = request.path("messages").path(1).path("content").asText("");
+
+        ObjectNode content;
+        Matcher batch = BATCH_COUNT.matcher(userPrompt);
+        if (userPrompt.contains("\"items\"") && batch.find()) {
+            content = objectMapper.createObjectNode();
+            ArrayNode items = content.putArray("items");
+            int count = Integer.parseInt(batch.group(1));
+            for (int i = 0; i < count; i++) {
+                items.add(buildItem(systemPrompt));
+            }
+        } else {
+            content = buildItem(systemPrompt);
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        ObjectNode message = response.putArray("choices").addObject().putObject("message");
+        message.put("role", "assistant");
+        message.put("content", content.toString());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 지연 중인 (응답을 아직 돌려주지 않은) 요청 수
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private ObjectNode buildItem(String systemPrompt) {
+        long seq = sequence.incrementAndGet();
+
+        ObjectNode content = objectMapper.createObjectNode();
+        if (systemPrompt.contains("밸런스 게임")) {
+            content.put("question", "[stub " + seq + "] 여름 바다 vs 겨울 산, 가족 여행은 어디로?");
+            content.put("optionA", "여름 바다");
+            content.put("optionB", "겨울 산");
+            content.put("category", "HOBBY");
+        } else if (systemPrompt.contains("신조어")) {
+            content.put("question", "[stub " + seq + "] ‘스불재’의 의미는 무엇일까?");
+            content.put("answer", "스스로 불러온 재앙");
+            content.putArray("choices")
+                    .add("스스로 불러온 재앙")
+                    .add("스마트폰 불량 재고")
+                    .add("스포츠 불꽃 재능");
+            content.put("explanation", "자기가 한 선택 때문에 생긴 곤란한 상황을 가볍게 이르는 말이야.");
+        } else {
+            content.put("content", "[stub " + seq + "] 가족과 함께 다시 가 보고 싶은 장소는 어디야?");
+            content.put("category", "TRAVEL");
+        }
+        return content;
+    }
+}
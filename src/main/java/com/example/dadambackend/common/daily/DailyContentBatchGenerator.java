@@ -0,0 +1,16 @@
+package com.example.dadambackend.common.daily;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AI 호출 한 번으로 여러 건을 생성하는 콘텐츠 종류 (DailyContentBufferRefiller 가 사용)
+ * - 각 항목은 개별로 검증하고, 통과한 항목만 결과에 담는다.
+ * - 통과한 항목이 하나도 없으면 AiClientException 으로 예외 완료
+ */
+public interface DailyContentBatchGenerator<T> {
+
+    DailyContentType getContentType();
+
+    CompletableFuture<List<T>> generateBatchAsync(int count);
+}
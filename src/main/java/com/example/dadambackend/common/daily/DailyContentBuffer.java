@@ -0,0 +1,115 @@
+package com.example.dadambackend.common.daily;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 콘텐츠 종류별 DB 버퍼
+ * - push : 배치 생성 결과를 JSON 으로 저장
+ * - poll : 가장 오래된 항목을 선점(claim-lease-ms 동안)해서 돌려준다. 이때는 삭제하지 않는다.
+ * - consume : 콘텐츠를 저장하는 트랜잭션 안에서 선점한 항목을 삭제 (한 항목은 한 날짜에만 쓰인다)
+ *   저장이 실패하거나 unique 충돌로 롤백되면 삭제도 롤백되고, 선점이 만료되면 다시 꺼낼 수 있다.
+ *   선점할 때 기록한 claimed_until 이 그대로인 행만 지우고, 선점을 잃었으면 저장 트랜잭션을 롤백시킨다.
+ * - push / poll 은 자체 트랜잭션으로 짧게 끝난다 (AI 호출과 같은 트랜잭션에 묶지 않음)
+ */
+@Component
+public class DailyContentBuffer {
+
+    private final DailyContentBufferRepository bufferRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration claimLease;
+
+    public DailyContentBuffer(
+            DailyContentBufferRepository bufferRepository,
+            ObjectMapper objectMapper,
+            @Value("${daily-content.buffer.claim-lease-ms:300000}") long claimLeaseMs
+    ) {
+        this.bufferRepository = bufferRepository;
+        this.objectMapper = objectMapper;
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+    }
+
+    @Transactional
+    public int push(DailyContentType type, List<?> items) {
+        int pushed = 0;
+        for (Object item : items) {
+            try {
+                bufferRepository.save(new DailyContentBufferItem(type, objectMapper.writeValueAsString(item)));
+                pushed++;
+            } catch (JsonProcessingException e) {
+                System.out.println("[DailyContentBuffer] 직렬화 실패 → 건너뜀: " + e.getMessage());
+            }
+        }
+        return pushed;
+    }
+
+    @Transactional
+    public <T> Optional<DailyContentCandidate<T>> poll(DailyContentType type, Class<T> itemType) {
+        return poll(type, itemType, item -> true);
+    }
+
+    /**
+     * 가장 오래된 항목부터 보면서 accept 를 통과한 첫 항목을 선점해서 반환한다.
+     * - 역직렬화할 수 없거나 accept 를 통과하지 못한 항목(유사 중복 등)은 쓸 일이 없으므로 바로 삭제한다.
+     */
+    @Transactional
+    public <T> Optional<DailyContentCandidate<T>> poll(DailyContentType type, Class<T> itemType, Predicate<T> accept) {
+        LocalDateTime now = LocalDateTime.now();
+        while (true) {
+            Optional<DailyContentBufferItem> head = bufferRepository.findFirstClaimable(type.name(), now);
+            if (head.isEmpty()) {
+                return Optional.empty();
+            }
+
+            DailyContentBufferItem item = head.get();
+            T value;
+            try {
+                value = objectMapper.readValue(item.getPayload(), itemType);
+            } catch (JsonProcessingException e) {
+                System.out.println("[DailyContentBuffer] 깨진 항목 삭제 → " + type + " #" + item.getId());
+                bufferRepository.delete(item);
+                continue;
+            }
+            if (accept.test(value)) {
+                // 컬럼 정밀도(datetime(6))에 맞춰야 삭제할 때 같은 값으로 비교된다
+                LocalDateTime claimedUntil = now.plus(claimLease).truncatedTo(ChronoUnit.MICROS);
+                item.claim(claimedUntil);
+                return Optional.of(DailyContentCandidate.buffered(item.getId(), claimedUntil, value));
+            }
+            System.out.println("[DailyContentBuffer] 조건에 맞지 않는 항목 삭제 → " + type + " #" + item.getId());
+            bufferRepository.delete(item);
+        }
+    }
+
+    /**
+     * 선점한 버퍼 항목 삭제 (콘텐츠 저장 트랜잭션 안에서만 호출)
+     * - 선점이 만료된 뒤 다른 노드가 다시 꺼냈거나 먼저 썼으면 DailyContentClaimLostException
+     *   (같은 항목이 두 날짜에 저장되지 않도록 이번 저장을 롤백시킨다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void consume(DailyContentType type, DailyContentCandidate<?> candidate) {
+        if (candidate.bufferItemId() == null) {
+            return;
+        }
+        if (bufferRepository.deleteClaimed(candidate.bufferItemId(), candidate.claimedUntil()) == 0) {
+            System.out.println("[DailyContentBuffer] 버퍼 항목 선점을 잃음 → 저장 롤백: " + type + " #" + candidate.bufferItemId());
+            throw new DailyContentClaimLostException(type, candidate.bufferItemId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long size(DailyContentType type) {
+        return bufferRepository.countByContentType(type);
+    }
+}
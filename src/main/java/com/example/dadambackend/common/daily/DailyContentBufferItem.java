@@ -0,0 +1,53 @@
+package com.example.dadambackend.common.daily;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일일 콘텐츠 버퍼 항목
+ * - 배치 생성으로 미리 받아 둔 AI 결과(JSON)를 콘텐츠 종류별로 쌓아 두고,
+ *   날짜별 콘텐츠가 필요할 때 오래된 것부터 하나씩 꺼내 쓴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "daily_content_buffer",
+        indexes = {
+                @Index(name = "idx_daily_content_buffer_type_id", columnList = "content_type, id")
+        }
+)
+public class DailyContentBufferItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 30)
+    private DailyContentType contentType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 이 시각까지 선점됨 (null 이면 아무도 꺼내지 않은 항목)
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    public DailyContentBufferItem(DailyContentType contentType, String payload) {
+        this.contentType = contentType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void claim(LocalDateTime until) {
+        this.claimedUntil = until;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.dadambackend.common.daily;
+
+import com.example.dadambackend.common.ai.AiClient;
+import com.example.dadambackend.common.ai.AiClientException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 콘텐츠 버퍼 채우기
+ * - 종류별 버퍼가 low-water-mark 아래로 내려가면 AI 호출 한 번에 batch-size 건씩 생성해서 채운다.
+ * - 기본은 트래픽이 적은 새벽(Asia/Seoul 04:00)에 실행
+ * - 종류별 요청은 동시에 보내고 모두 끝날 때까지 기다린다.
+ * - 저장(push)은 AI 응답 스레드가 아니라 이 스레드에서 종류별로 따로 한다. (한 종류의 저장 실패가 나머지를 막지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyContentBufferRefiller {
+
+    private final List<DailyContentBatchGenerator<?>> generators;
+    private final DailyContentBuffer buffer;
+
+    @Value("${daily-content.buffer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${daily-content.buffer.batch-size:10}")
+    private int batchSize;
+
+    @Value("${daily-content.buffer.low-water-mark:5}")
+    private int lowWaterMark;
+
+    @Value("${daily-content.buffer.max-size:30}")
+    private int maxSize;
+
+    @Scheduled(cron = "${daily-content.buffer.refill-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledRefill() {
+        if (!enabled) {
+            return;
+        }
+        refill();
+    }
+
+    /**
+     * 한 번 채우고 종류별로 추가된 건수를 반환
+     */
+    public synchronized Map<DailyContentType, Integer> refill() {
+        Map<DailyContentType, CompletableFuture<? extends List<?>>> pending = new LinkedHashMap<>();
+
+        for (DailyContentBatchGenerator<?> generator : generators) {
+            DailyContentType type = generator.getContentType();
+            long size = buffer.size(type);
+            if (size >= lowWaterMark) {
+                continue;
+            }
+
+            int count = (int) Math.min(batchSize, maxSize - size);
+            if (count <= 0) {
+                continue;
+            }
+            pending.put(type, generator.generateBatchAsync(count));
+        }
+
+        Map<DailyContentType, Integer> pushed = new LinkedHashMap<>();
+        pending.forEach((type, future) -> {
+            List<?> items;
+            try {
+                items = AiClient.await(future);
+            } catch (AiClientException e) {
+                pushed.put(type, 0);
+                System.out.println("[DailyContentBufferRefiller] 배치 생성 실패 → " + type + " : " + e.getMessage());
+                return;
+            }
+            try {
+                int added = buffer.push(type, items);
+                pushed.put(type, added);
+                System.out.println("[DailyContentBufferRefiller] 버퍼 채움 → " + type + " +" + added
+                        + " (현재 " + buffer.size(type) + "건)");
+            } catch (RuntimeException e) {
+                pushed.put(type, 0);
+                System.out.println("[DailyContentBufferRefiller] 버퍼 저장 실패 → " + type + " : " + e.getMessage());
+            }
+        });
+        return pushed;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.dadambackend.common.daily;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface DailyContentBufferRepository extends JpaRepository<DailyContentBufferItem, Long> {
+
+    long countByContentType(DailyContentType contentType);
+
+    /**
+     * 선점되지 않은(또는 선점이 만료된) 가장 오래된 항목 1개
+     * - 꺼내는 동안 다른 노드가 같은 항목을 가져가지 않도록 행 잠금, 이미 잠긴 행은 건너뛴다
+     */
+    @Query(value = """
+            select * from daily_content_buffer
+             where content_type = :type
+               and (claimed_until is null or claimed_until < :now)
+             order by id
+             limit 1
+             for update skip locked
+            """, nativeQuery = true)
+    Optional<DailyContentBufferItem> findFirstClaimable(@Param("type") String type,
+                                                        @Param("now") LocalDateTime now);
+
+    /**
+     * 내가 선점한 항목만 삭제 (claimed_until 이 선점할 때 기록한 값 그대로일 때)
+     * - 0 이면 선점이 만료된 뒤 다른 노드가 다시 꺼냈거나 이미 삭제한 것
+     */
+    @Modifying
+    @Query("delete from DailyContentBufferItem b where b.id = :id and b.claimedUntil = :claimedUntil")
+    int deleteClaimed(@Param("id") Long id, @Param("claimedUntil") LocalDateTime claimedUntil);
+}
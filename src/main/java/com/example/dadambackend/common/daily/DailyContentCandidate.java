@@ -0,0 +1,20 @@
+package com.example.dadambackend.common.daily;
+
+import java.time.LocalDateTime;
+
+/**
+ * 날짜별 콘텐츠로 저장할 생성 결과
+ * - bufferItemId 가 있으면 버퍼에서 선점(claim)한 항목이고, 콘텐츠를 저장하는 트랜잭션에서 함께 삭제해야 한다.
+ *   claimedUntil 은 선점할 때 기록한 claimed_until 값으로, 삭제할 때 아직 내 선점인지 확인하는 데 쓴다.
+ * - AI 생성 / fallback 결과는 bufferItemId / claimedUntil 이 null
+ */
+public record DailyContentCandidate<T>(T value, Long bufferItemId, LocalDateTime claimedUntil) {
+
+    public static <T> DailyContentCandidate<T> generated(T value) {
+        return new DailyContentCandidate<>(value, null, null);
+    }
+
+    public static <T> DailyContentCandidate<T> buffered(Long bufferItemId, LocalDateTime claimedUntil, T value) {
+        return new DailyContentCandidate<>(value, bufferItemId, claimedUntil);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.dadambackend.common.daily;
+
+/**
+ * 선점한 버퍼 항목을 저장 시점에 더 이상 갖고 있지 않음
+ * - 선점이 만료된 뒤 다른 노드가 다시 꺼냈거나 이미 사용(삭제)한 경우
+ * - 같은 항목이 두 날짜에 쓰이지 않도록 콘텐츠 저장 트랜잭션을 롤백시키는 데 쓴다.
+ */
+public class DailyContentClaimLostException extends RuntimeException {
+
+    public DailyContentClaimLostException(DailyContentType type, Long bufferItemId) {
+        super("버퍼 항목 선점을 잃음: " + type + " #" + bufferItemId);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.dadambackend.common.daily;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DailyContentPipeline 실행 지표
+ * - 누적 카운터 + 마지막 실행 결과만 메모리에 보관
+ */
+@Component
+public class DailyContentMetrics {
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Map<DailyContentType, AtomicLong> failedByType = new EnumMap<>(DailyContentType.class);
+
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunMillis;
+    private volatile int lastRunFailures;
+
+    public DailyContentMetrics() {
+        for (DailyContentType type : DailyContentType.values()) {
+            failedByType.put(type, new AtomicLong());
+        }
+    }
+
+    void recordGenerated() {
+        generated.incrementAndGet();
+    }
+
+    void recordSkipped() {
+        skipped.incrementAndGet();
+    }
+
+    void recordFailed(DailyContentType type) {
+        failed.incrementAndGet();
+        failedByType.get(type).incrementAndGet();
+    }
+
+    void recordRun(LocalDateTime startedAt, long elapsedMillis, int failures) {
+        runs.incrementAndGet();
+        this.lastRunAt = startedAt;
+        this.lastRunMillis = elapsedMillis;
+        this.lastRunFailures = failures;
+    }
+
+    public Snapshot snapshot() {
+        Map<DailyContentType, Long> failures = new EnumMap<>(DailyContentType.class);
+        failedByType.forEach((type, count) -> failures.put(type, count.get()));
+
+        return Snapshot.builder()
+                .runs(runs.get())
+                .generated(generated.get())
+                .skipped(skipped.get())
+                .failed(failed.get())
+                .failedByType(failures)
+                .lastRunAt(lastRunAt)
+                .lastRunMillis(lastRunMillis)
+                .lastRunFailures(lastRunFailures)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Snapshot {
+        private long runs;
+        private long generated;     // 새로 생성한 콘텐츠 수
+        private long skipped;       // 이미 있어서 건너뛴 수
+        private long failed;        // AI 실패로 다음 실행에 재시도할 수
+        private Map<DailyContentType, Long> failedByType;
+        private LocalDateTime lastRunAt;
+        private long lastRunMillis;
+        private int lastRunFailures;
+    }
+}
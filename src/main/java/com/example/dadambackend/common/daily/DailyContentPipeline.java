@@ -0,0 +1,83 @@
+package com.example.dadambackend.common.daily;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 일일 콘텐츠(질문 / 밸런스 게임 / 신조어 퀴즈) 사전 생성 파이프라인
+ * - 오늘부터 lookAheadDays 일 뒤까지 비어 있는 날짜를 AI로 미리 채워 둔다.
+ * - 실패한 날짜는 fallback 으로 채우지 않고 다음 실행 때 다시 시도한다.
+ * - 조회 API 는 미리 만들어진 콘텐츠를 읽기만 하므로 AI 응답을 기다리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyContentPipeline {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final List<DailyContentProvider> providers;
+    private final DailyContentMetrics metrics;
+
+    @Value("${daily-content.enabled:true}")
+    private boolean enabled;
+
+    // 오늘 이후 며칠치를 미리 만들어 둘지 (0 이면 오늘만)
+    @Value("${daily-content.look-ahead-days:3}")
+    private int lookAheadDays;
+
+    /**
+     * 주기 실행 (이미 채워진 날짜는 조회 1번으로 건너뛰므로 자주 돌아도 비용이 거의 없음)
+     */
+    @Scheduled(
+            initialDelayString = "${daily-content.initial-delay-ms:10000}",
+            fixedDelayString = "${daily-content.interval-ms:600000}"
+    )
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        run();
+    }
+
+    /**
+     * 한 번 실행하고 이번 실행에서 실패한 건수를 반환
+     */
+    public synchronized int run() {
+        LocalDateTime startedAt = LocalDateTime.now(ZONE_SEOUL);
+        long start = System.currentTimeMillis();
+        LocalDate today = startedAt.toLocalDate();
+        int failures = 0;
+
+        for (int offset = 0; offset <= lookAheadDays; offset++) {
+            LocalDate date = today.plusDays(offset);
+
+            for (DailyContentProvider provider : providers) {
+                try {
+                    if (provider.prepareForDate(date)) {
+                        metrics.recordGenerated();
+                        System.out.println("[DailyContentPipeline] 생성 완료 → " + provider.getContentType() + " / " + date);
+                    } else {
+                        metrics.recordSkipped();
+                    }
+                } catch (Exception e) {
+                    failures++;
+                    metrics.recordFailed(provider.getContentType());
+                    System.out.println("[DailyContentPipeline] 생성 실패, 다음 실행에 재시도 → "
+                            + provider.getContentType() + " / " + date + " : " + e.getMessage());
+                }
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        metrics.recordRun(startedAt, elapsed, failures);
+        System.out.println("[DailyContentPipeline] 실행 종료 (" + elapsed + "ms, 실패 " + failures + "건)");
+        return failures;
+    }
+}
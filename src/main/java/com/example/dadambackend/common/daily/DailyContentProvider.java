@@ -0,0 +1,26 @@
+package com.example.dadambackend.common.daily;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DailyContentPipeline 이 미리 생성할 수 있는 일일 콘텐츠 서비스
+ * - QuestionService / BalanceGameService / SlangQuizService 가 구현
+ */
+public interface DailyContentProvider {
+
+    DailyContentType getContentType();
+
+    /**
+     * 해당 날짜의 콘텐츠가 없으면 AI로 생성해서 저장합니다.
+     * - AI 호출이 실패하면 fallback 으로 대체하지 않고 AiClientException 을 던집니다. (다음 실행 때 재시도)
+     *
+     * @return 새로 생성했으면 true, 이미 있었으면 false
+     */
+    boolean prepareForDate(LocalDate date);
+
+    /**
+     * 저장된 콘텐츠 전체의 중복 비교용 문장 (NearDuplicateIndex 초기 적재용)
+     */
+    List<String> findAllDedupTexts();
+}
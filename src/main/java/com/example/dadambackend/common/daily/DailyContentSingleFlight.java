@@ -0,0 +1,154 @@
+package com.example.dadambackend.common.daily;
+
+import com.example.dadambackend.global.config.HibernateCacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * (콘텐츠 종류, 날짜) 단위 single-flight 레지스트리
+ * - 같은 키로 동시에 들어온 생성 요청 중 하나만 실제로 생성을 실행하고,
+ *   나머지는 그 결과(CompletableFuture)를 함께 기다렸다가 공유한다.
+ * - 생성은 두 단계로 나뉜다.
+ *   1) generator: 트랜잭션 밖에서 실행 (AI 호출 동안 DB 커넥션을 잡지 않음)
+ *   2) persister: 짧은 별도 트랜잭션(REQUIRES_NEW)에서 "다시 조회 후 없으면 저장"
+ *   대기자에게 결과가 전달되는 시점에는 이미 커밋되어 있다.
+ * - 한 노드 안에서만 동작하므로, 여러 노드 간 중복은 DB unique 제약조건(날짜 컬럼)으로 막고,
+ *   unique 충돌이 나면 다른 노드가 먼저 저장한 행을 다시 조회해서 돌려준다.
+ * - 저장하려던 버퍼 항목의 선점을 잃었으면 (DailyContentClaimLostException) 저장은 롤백되고, 생성을 한 번 더 한다.
+ * - 호출부는 트랜잭션 밖에서 호출해야 한다. (트랜잭션 안이면 generator 동안 커넥션이 묶임)
+ */
+@Component
+public class DailyContentSingleFlight {
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final TransactionTemplate requiresNew;
+    private final Cache secondLevelCache;
+
+    // 대기자가 먼저 실행 중인 생성을 기다리는 최대 시간 (넘으면 직접 생성 → DB unique 제약으로 정리)
+    @Value("${daily-content.single-flight-wait-ms:3000}")
+    private long maxWaitMs;
+
+    public DailyContentSingleFlight(PlatformTransactionManager transactionManager,
+                                    EntityManagerFactory entityManagerFactory) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    /**
+     * @param finder    해당 날짜의 저장된 콘텐츠 조회
+     * @param generator 콘텐츠 생성 (트랜잭션 밖에서 실행, AI 호출 가능)
+     * @param persister 생성 결과 저장 (짧은 트랜잭션 안에서 실행)
+     */
+    @SuppressWarnings("unchecked")
+    public <T, G> T execute(DailyContentType type,
+                            LocalDate date,
+                            Supplier<Optional<T>> finder,
+                            Supplier<G> generator,
+                            Function<G, T> persister) {
+        Key key = new Key(type, date);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            T shared = (T) await(existing);
+            if (shared != null) {
+                return shared;
+            }
+            // 기다리다 시간 초과 → 직접 실행 (중복 insert 는 DB unique 제약조건이 막아 줌)
+            return findOrCreate(type, finder, generator, persister);
+        }
+
+        try {
+            T result = findOrCreate(type, finder, generator, persister);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 현재 진행 중인 생성 건수 (모니터링용) */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T, G> T findOrCreate(DailyContentType type,
+                                  Supplier<Optional<T>> finder,
+                                  Supplier<G> generator,
+                                  Function<G, T> persister) {
+        // 0. 그 사이 다른 요청/노드가 이미 커밋했다면 그대로 사용
+        Optional<T> found = requiresNew.execute(status -> finder.get());
+        if (found.isPresent()) {
+            return found.get();
+        }
+
+        // 1. 생성 단계: 트랜잭션 밖
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            System.out.println("[DailyContentSingleFlight] 트랜잭션 안에서 생성이 호출됨 → 생성 동안 커넥션 점유: " + type);
+        }
+        G generated = generator.get();
+
+        // 2. 저장 단계: 짧은 트랜잭션 (다시 조회 후 없으면 저장)
+        try {
+            try {
+                return persist(finder, generated, persister);
+            } catch (DailyContentClaimLostException e) {
+                // 선점 만료 사이에 다른 노드가 같은 버퍼 항목을 가져감 → 다음 항목(또는 AI/fallback)으로 다시
+                return persist(finder, generator.get(), persister);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 저장함 → 새 트랜잭션에서 다시 조회하면 커밋된 행이 보인다
+            // (이 노드의 날짜 조회 쿼리 캐시에는 아직 "없음" 이 남아 있을 수 있어서 먼저 비운다)
+            secondLevelCache.evictQueryRegion(HibernateCacheConfig.DAILY_CONTENT_BY_DATE_REGION);
+            return requiresNew.execute(status -> finder.get())
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private <T, G> T persist(Supplier<Optional<T>> finder, G generated, Function<G, T> persister) {
+        return requiresNew.execute(status ->
+                finder.get().orElseGet(() -> persister.apply(generated)));
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일일 콘텐츠 생성 대기 중 인터럽트", e);
+        }
+    }
+
+    private record Key(DailyContentType type, LocalDate date) {
+    }
+}
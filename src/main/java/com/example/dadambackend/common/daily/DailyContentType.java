@@ -0,0 +1,10 @@
+package com.example.dadambackend.common.daily;
+
+/**
+ * 날짜별로 하루 1개씩 만들어지는 콘텐츠 종류
+ */
+public enum DailyContentType {
+    QUESTION,      // 오늘의 질문
+    BALANCE_GAME,  // 밸런스 게임
+    SLANG_QUIZ     // 신조어 퀴즈
+}
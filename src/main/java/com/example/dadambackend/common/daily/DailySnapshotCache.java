@@ -0,0 +1,85 @@
+package com.example.dadambackend.common.daily;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 날짜별 일일 콘텐츠 스냅샷 캐시 (질문 / 밸런스 게임 / 신조어 퀴즈)
+ * - 하루치 콘텐츠는 저장된 뒤 바뀌지 않으므로, 파싱/계산까지 끝낸 불변 스냅샷을 (종류, 날짜) 단위로 메모리에 둔다.
+ * - DailyContentPipeline 이 prepareForDate 에서 미리 만든(또는 이미 있던) 날짜를 put 하므로
+ *   자정이 되기 전에 다음 날 스냅샷이 올라와 있다.
+ * - 오늘(Asia/Seoul) 이전 날짜는 넣지 않고, 자정마다 지난 날짜를 지운다. (과거 날짜 조회는 DB 로)
+ * - 노드마다 따로 들고 있어도 날짜별 콘텐츠는 unique 제약조건으로 하나뿐이라 노드 간 내용이 어긋나지 않는다.
+ */
+@Component
+public class DailySnapshotCache {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final boolean enabled;
+    private final Map<DailyContentType, Map<LocalDate, Object>> snapshots = new EnumMap<>(DailyContentType.class);
+
+    public DailySnapshotCache(@Value("${daily-content.snapshot.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        for (DailyContentType type : DailyContentType.values()) {
+            snapshots.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 캐시된 스냅샷을 반환하고, 없으면 loader 로 만들어서 넣는다.
+     * - loader(DB 조회/fallback 생성)는 락 밖에서 실행한다. 동시에 몇 번 더 불려도 결과는 같은 날짜의 같은 콘텐츠
+     */
+    public <T> T get(DailyContentType type, LocalDate date, Class<T> snapshotType, Supplier<T> loader) {
+        if (enabled) {
+            Object cached = snapshots.get(type).get(date);
+            if (cached != null) {
+                return snapshotType.cast(cached);
+            }
+        }
+        T loaded = loader.get();
+        put(type, date, loaded);
+        return loaded;
+    }
+
+    /**
+     * 스냅샷 등록 (사전 생성 경로에서 호출, 지난 날짜는 무시)
+     */
+    public void put(DailyContentType type, LocalDate date, Object snapshot) {
+        if (!enabled || snapshot == null || date.isBefore(today())) {
+            return;
+        }
+        snapshots.get(type).put(date, snapshot);
+    }
+
+    public int size(DailyContentType type) {
+        return snapshots.get(type).size();
+    }
+
+    /**
+     * Asia/Seoul 자정 : 어제까지의 스냅샷 제거
+     */
+    @Scheduled(cron = "${daily-content.snapshot.rollover-cron:0 0 0 * * *}", zone = "Asia/Seoul")
+    public void rollover() {
+        LocalDate today = today();
+        int evicted = 0;
+        for (Map<LocalDate, Object> byDate : snapshots.values()) {
+            int before = byDate.size();
+            byDate.keySet().removeIf(date -> date.isBefore(today));
+            evicted += before - byDate.size();
+        }
+        System.out.println("[DailySnapshotCache] 날짜 변경 → 지난 스냅샷 " + evicted + "개 제거 (" + today + ")");
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZONE_SEOUL);
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.dadambackend.common.daily;
+
+import com.example.dadambackend.common.ai.AiClientException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 일일 콘텐츠 유사 중복 인덱스 (MinHash + LSH)
+ * - 문장을 정규화(공백/문장부호 제거, 소문자)한 뒤 글자 3-gram shingle 로 나누고 MinHash 시그니처를 만든다.
+ * - 시그니처를 bands x rows 로 잘라 band 별 해시 버킷에 넣고,
+ *   조회 시 같은 버킷에 걸린 후보만 시그니처 일치율(≈ Jaccard 유사도)로 비교한다.
+ * - 후보만 비교하므로 10만 건 이상에서도 조회는 1ms 미만
+ * - 콘텐츠 종류별로 따로 관리하고, 시작 시 NearDuplicateIndexLoader 가 과거 콘텐츠를 모두 올린 뒤 저장할 때마다 add 한다.
+ */
+@Component
+public class NearDuplicateIndex {
+
+    private static final int SHINGLE_SIZE = 3;
+
+    private final boolean enabled;
+    private final int bands;
+    private final int rows;
+    private final int numHashes;
+    private final double threshold;
+    private final int maxGenerateAttempts;
+
+    // MinHash 해시 함수 계수 (고정 seed → 재시작해도 같은 시그니처)
+    private final long[] hashMultipliers;
+    private final long[] hashOffsets;
+
+    private final Map<DailyContentType, TypeIndex> indexes = new EnumMap<>(DailyContentType.class);
+
+    public NearDuplicateIndex(
+            @Value("${daily-content.dedup.enabled:true}") boolean enabled,
+            @Value("${daily-content.dedup.bands:20}") int bands,
+            @Value("${daily-content.dedup.rows:5}") int rows,
+            // 시그니처 일치율이 이 값 이상이면 중복으로 본다
+            @Value("${daily-content.dedup.threshold:0.6}") double threshold,
+            @Value("${daily-content.dedup.max-generate-attempts:3}") int maxGenerateAttempts
+    ) {
+        this.enabled = enabled;
+        this.bands = bands;
+        this.rows = rows;
+        this.numHashes = bands * rows;
+        this.threshold = threshold;
+        this.maxGenerateAttempts = Math.max(1, maxGenerateAttempts);
+
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        this.hashMultipliers = new long[numHashes];
+        this.hashOffsets = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            hashMultipliers[i] = random.nextLong() | 1L;
+            hashOffsets[i] = random.nextLong();
+        }
+
+        for (DailyContentType type : DailyContentType.values()) {
+            indexes.put(type, new TypeIndex());
+        }
+    }
+
+    /**
+     * 기존 콘텐츠와 유사 중복인지 확인
+     */
+    public boolean isNearDuplicate(DailyContentType type, String text) {
+        if (!enabled || text == null) {
+            return false;
+        }
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        return indexes.get(type).contains(normalized, signature(normalized));
+    }
+
+    /**
+     * 저장된 콘텐츠를 인덱스에 추가 (완전히 같은 문장은 한 번만)
+     */
+    public void add(DailyContentType type, String text) {
+        if (!enabled || text == null) {
+            return;
+        }
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        indexes.get(type).add(normalized, signature(normalized));
+    }
+
+    public int size(DailyContentType type) {
+        return indexes.get(type).size();
+    }
+
+    /**
+     * 중복이 아닌 결과가 나올 때까지 생성을 반복 (최대 max-generate-attempts 번)
+     * - generator 에는 시도 번호(0부터)를 넘긴다. 두 번째 시도부터는 캐시를 건너뛰고 새로 생성해야 한다.
+     * - 끝까지 중복이면 AiClientException → 파이프라인이 다음 실행 때 다시 시도
+     */
+    public <T> T generateDistinct(DailyContentType type, Function<T, String> textOf, IntFunction<T> generator) {
+        for (int attempt = 0; attempt < maxGenerateAttempts; attempt++) {
+            T result = generator.apply(attempt);
+            if (!isNearDuplicate(type, textOf.apply(result))) {
+                return result;
+            }
+            System.out.println("[NearDuplicateIndex] 유사 중복 콘텐츠 → 다시 생성 (" + type + ", "
+                    + (attempt + 1) + "/" + maxGenerateAttempts + ")");
+        }
+        throw new AiClientException(type + " 유사 중복 콘텐츠만 생성됨");
+    }
+
+    /**
+     * 공백/문장부호를 빼고 글자와 숫자만 남긴다 (소문자)
+     */
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        text.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .map(Character::toLowerCase)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    private int[] signature(String normalized) {
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int shingles = Math.max(1, normalized.length() - SHINGLE_SIZE + 1);
+        for (int s = 0; s < shingles; s++) {
+            long shingleHash = mix64(normalized.substring(s, Math.min(normalized.length(), s + SHINGLE_SIZE)).hashCode());
+            for (int i = 0; i < numHashes; i++) {
+                int h = (int) (mix64(shingleHash * hashMultipliers[i] + hashOffsets[i]) >>> 33);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long h = band * 0x9E3779B97F4A7C15L;
+        for (int r = 0; r < rows; r++) {
+            h = mix64(h ^ signature[band * rows + r]);
+        }
+        return h;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 콘텐츠 종류 하나의 인덱스
+     * - signatures : 항목별 시그니처를 이어 붙인 배열 (item * numHashes)
+     * - buckets : band 키 → 그 키를 가진 마지막 posting, postings 는 (item * bands + band) 단위 연결 리스트
+     * - 박싱 없는 배열만 써서 10만 건 기준 수십 MB 이내
+     */
+    private class TypeIndex {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Set<String> exact = new HashSet<>();
+        private final LongIntHashMap buckets = new LongIntHashMap();
+        private int[] signatures = new int[0];
+        private int[] nextPosting = new int[0];
+        private int count;
+
+        boolean contains(String normalized, int[] signature) {
+            lock.readLock().lock();
+            try {
+                if (exact.contains(normalized)) {
+                    return true;
+                }
+                Set<Integer> checked = new HashSet<>();
+                for (int band = 0; band < bands; band++) {
+                    int posting = buckets.get(bandKey(signature, band));
+                    while (posting >= 0) {
+                        int item = posting / bands;
+                        if (checked.add(item) && similarity(signature, item) >= threshold) {
+                            return true;
+                        }
+                        posting = nextPosting[posting];
+                    }
+                }
+                return false;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(String normalized, int[] signature) {
+            lock.writeLock().lock();
+            try {
+                if (!exact.add(normalized)) {
+                    return;
+                }
+                int item = count++;
+                if (signatures.length < count * numHashes) {
+                    int capacity = Math.max(16, count * 2);
+                    signatures = Arrays.copyOf(signatures, capacity * numHashes);
+                    nextPosting = Arrays.copyOf(nextPosting, capacity * bands);
+                }
+                System.arraycopy(signature, 0, signatures, item * numHashes, numHashes);
+
+                for (int band = 0; band < bands; band++) {
+                    int posting = item * bands + band;
+                    nextPosting[posting] = buckets.put(bandKey(signature, band), posting);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return count;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private double similarity(int[] signature, int item) {
+            int offset = item * numHashes;
+            int same = 0;
+            for (int i = 0; i < numHashes; i++) {
+                if (signatures[offset + i] == signature[i]) {
+                    same++;
+                }
+            }
+            return (double) same / numHashes;
+        }
+    }
+
+    /**
+     * long → int 오픈 어드레싱 해시맵 (없으면 -1)
+     */
+    private static class LongIntHashMap {
+
+        private long[] keys = new long[64];
+        private int[] values = new int[64];
+        private boolean[] used = new boolean[64];
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = (int) mix64(key) & mask; used[i]; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 값을 넣고 이전 값을 반환 (없었으면 -1)
+         */
+        int put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = (int) mix64(key) & mask;
+            for (; used[i]; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    int previous = values[i];
+                    values[i] = value;
+                    return previous;
+                }
+            }
+            used[i] = true;
+            keys[i] = key;
+            values[i] = value;
+            size++;
+            return -1;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.dadambackend.common.daily;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 앱 시작 시 저장된 일일 콘텐츠를 NearDuplicateIndex 에 모두 올린다.
+ * - 이후에는 각 서비스가 저장할 때마다 add 하므로 다시 읽지 않는다.
+ * - 서비스 → 인덱스 의존만 있도록 적재는 별도 컴포넌트에서 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateIndexLoader {
+
+    private final List<DailyContentProvider> providers;
+    private final NearDuplicateIndex index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (DailyContentProvider provider : providers) {
+            long start = System.currentTimeMillis();
+            DailyContentType type = provider.getContentType();
+            try {
+                for (String text : provider.findAllDedupTexts()) {
+                    index.add(type, text);
+                }
+                System.out.println("[NearDuplicateIndexLoader] " + type + " " + index.size(type) + "건 적재 ("
+                        + (System.currentTimeMillis() - start) + "ms)");
+            } catch (Exception e) {
+                System.out.println("[NearDuplicateIndexLoader] " + type + " 적재 실패: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.dadambackend.common.quota;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 유저별 사용량 제한 (댓글 수 등)
+ * - 쓰기 때마다 COUNT(*) 를 세는 대신 user_quota 카운터 한 행을 조건부 UPDATE 로 올린다.
+ * - 호출한 쪽 트랜잭션 안에서 실행되므로, 본 작업(댓글 저장 등)이 롤백되면 카운터도 함께 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class QuotaService {
+
+    private final UserQuotaRepository userQuotaRepository;
+
+    /**
+     * 한도 안이면 1 만큼 사용하고 true, 한도에 닿았으면 false
+     * - 카운터 행은 처음 사용할 때 만든다. (첫 시도만 UPDATE → INSERT IGNORE → UPDATE)
+     * - INSERT IGNORE 결과와 상관없이 UPDATE 를 한 번 더 시도한다.
+     *   같은 유저의 첫 요청 두 개가 동시에 오면 둘 다 첫 UPDATE 에서 행을 못 찾고, 늦은 쪽의 INSERT 는 0 을 돌려준다.
+     *   이때 한도 초과는 행이 있는 상태에서 조건부 UPDATE 가 실패한 경우뿐이다.
+     */
+    @Transactional
+    public boolean tryAcquire(Long userId, QuotaType type, long limit) {
+        if (userQuotaRepository.tryIncrement(userId, type.name(), limit) == 1) {
+            return true;
+        }
+        userQuotaRepository.insertIfAbsent(userId, type.name());
+        return userQuotaRepository.tryIncrement(userId, type.name(), limit) == 1;
+    }
+
+    /**
+     * 사용한 만큼 되돌림 (예: 댓글 삭제)
+     */
+    @Transactional
+    public void release(Long userId, QuotaType type) {
+        userQuotaRepository.decrement(userId, type.name());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.dadambackend.common.quota;
+
+/**
+ * 유저별 사용량 제한 종류
+ * - 새 종류를 추가하면 user_quota.quota_type 컬럼도 마이그레이션으로 함께 늘린다.
+ */
+public enum QuotaType {
+    COMMENT     // 1인당 댓글 수
+}
@@ -0,0 +1,36 @@
+package com.example.dadambackend.common.quota;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 사용량 카운터 (유저 + 종류당 한 행)
+ * - 값은 UserQuotaRepository 의 조건부 UPDATE 로만 바꾼다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "user_quota",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_quota_user_type", columnNames = {"user_id", "quota_type"})
+        }
+)
+public class UserQuota {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "quota_type", nullable = false, length = 30)
+    private QuotaType quotaType;
+
+    @Column(nullable = false)
+    private long used;
+}
@@ -0,0 +1,39 @@
+package com.example.dadambackend.common.quota;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserQuotaRepository extends JpaRepository<UserQuota, Long> {
+
+    /**
+     * 한도 안일 때만 +1 (조건부 UPDATE 한 문장이라 동시 요청에도 한도를 넘지 않는다)
+     *
+     * @return 1 이면 성공, 0 이면 한도 초과이거나 행이 없음
+     */
+    @Modifying
+    @Query(value = "update user_quota set used = used + 1 "
+            + "where user_id = :userId and quota_type = :type and used < :limit",
+            nativeQuery = true)
+    int tryIncrement(@Param("userId") Long userId,
+                     @Param("type") String type,
+                     @Param("limit") long limit);
+
+    /**
+     * 카운터 행이 없으면 0 으로 생성 (이미 있으면 아무것도 안 함)
+     */
+    @Modifying
+    @Query(value = "insert ignore into user_quota (user_id, quota_type, used) values (:userId, :type, 0)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("type") String type);
+
+    /**
+     * -1 (0 아래로는 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = "update user_quota set used = used - 1 "
+            + "where user_id = :userId and quota_type = :type and used > 0",
+            nativeQuery = true)
+    int decrement(@Param("userId") Long userId, @Param("type") String type);
+}
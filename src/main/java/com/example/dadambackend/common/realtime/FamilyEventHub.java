@@ -0,0 +1,228 @@
+package com.example.dadambackend.common.realtime;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가족 단위 실시간 이벤트 채널 (Server-Sent Events)
+ * - 가족 id → 연결된 SseEmitter 목록 (연결 순서). 연결은 비동기 서블릿이라 대기 중에는 요청 스레드를 잡지 않는다.
+ * - 서비스는 publish 만 호출하고, 실제 전송은 트랜잭션 커밋 뒤 family-events 스레드에서 한다.
+ *   (롤백된 투표/답변은 보내지 않고, 느린 클라이언트가 커밋하는 요청 스레드를 막지 않음)
+ * - 전송 큐가 가득 차면 이벤트를 버린다. 클라이언트는 화면을 다시 열 때 전체 상태를 다시 받는다.
+ * - heartbeat 로 프록시 idle timeout 을 피하고, 끊긴 연결은 전송 실패 시 정리한다.
+ *   heartbeat 는 전용 family-events-heartbeat 스레드에서 보낸다. (느린 클라이언트가 공용 @Scheduled 스레드를 막지 않도록)
+ * - 연결은 유저 id 로도 찾을 수 있게 둔다. 가족이 바뀌면 커밋 뒤 그 유저의 연결을 모두 닫아서,
+ *   가족을 떠난 유저가 이전 가족의 이벤트를 계속 받지 않게 한다. (다시 연결하면 새 가족으로 구독)
+ * - 노드마다 자기에게 연결된 클라이언트에만 보낸다. (다른 노드에 연결된 가족은 다음 조회 때 반영)
+ */
+@Component
+public class FamilyEventHub {
+
+    private final Map<Long, List<Subscription>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, List<Subscription>> subscriptionsByUser = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    private final long emitterTimeoutMs;
+    private final int maxConnectionsPerFamily;
+
+    public FamilyEventHub(
+            // 연결 유지 시간 (지나면 클라이언트가 다시 연결)
+            @Value("${realtime.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${realtime.max-connections-per-family:30}") int maxConnectionsPerFamily,
+            @Value("${realtime.dispatch-threads:2}") int dispatchThreads,
+            @Value("${realtime.queue-capacity:1000}") int queueCapacity,
+            @Value("${realtime.heartbeat-ms:25000}") long heartbeatMs
+    ) {
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxConnectionsPerFamily = Math.max(1, maxConnectionsPerFamily);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(
+                dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "family-events-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, executor) -> System.out.println("[FamilyEventHub] 전송 큐가 가득 참 → 이벤트 버림"));
+
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "family-events-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        dispatcher.shutdownNow();
+        emitters.values().forEach(family -> family.forEach(subscription -> subscription.emitter().complete()));
+        emitters.clear();
+        subscriptionsByUser.clear();
+    }
+
+    /**
+     * 가족 채널 구독 (연결 직후 CONNECTED 이벤트를 보내서 응답 헤더를 바로 내보낸다)
+     * - 한 가족의 연결 수가 상한을 넘으면 가장 먼저 들어온 연결부터 닫는다.
+     */
+    public SseEmitter subscribe(Long familyId, Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscription subscription = new Subscription(userId, familyId, emitter);
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+
+        subscriptionsByUser.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>()).add(subscription);
+
+        List<Subscription> evicted = new ArrayList<>();
+        emitters.compute(familyId, (id, family) -> {
+            List<Subscription> list = family != null ? family : new CopyOnWriteArrayList<>();
+            list.add(subscription);
+            while (list.size() > maxConnectionsPerFamily) {
+                evicted.add(list.remove(0));
+            }
+            return list;
+        });
+        evicted.forEach(old -> {
+            remove(old);
+            old.emitter().complete();
+        });
+
+        try {
+            emitter.send(SseEmitter.event().name("CONNECTED").data("ok"));
+        } catch (IOException e) {
+            remove(subscription);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 유저의 가족이 바뀌었을 때 호출 (가족 합류 / 해제 / 새 가족 생성)
+     * - 트랜잭션 안이면 커밋된 뒤에 그 유저의 연결을 모두 닫는다. (롤백되면 그대로 둔다)
+     */
+    public void userFamilyChanged(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    disconnectUser(userId);
+                }
+            });
+        } else {
+            disconnectUser(userId);
+        }
+    }
+
+    /**
+     * 가족 채널에 이벤트 발행
+     * - 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 전송 큐에 넣는다.
+     * - familyId 가 null(가족 없음)이면 보낼 곳이 없으므로 무시
+     */
+    public void publish(Long familyId, FamilyEventType type, Object data) {
+        if (familyId == null || !emitters.containsKey(familyId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(familyId, type, data);
+                }
+            });
+        } else {
+            dispatch(familyId, type, data);
+        }
+    }
+
+    public int connectionCount() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 주기적인 comment 전송 (프록시 idle timeout 방지 + 끊긴 연결 정리)
+     */
+    private void heartbeat() {
+        emitters.values().forEach(family -> family.forEach(subscription -> {
+            try {
+                subscription.emitter().send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                remove(subscription);
+            }
+        }));
+    }
+
+    private void dispatch(Long familyId, FamilyEventType type, Object data) {
+        dispatcher.execute(() -> {
+            List<Subscription> family = emitters.get(familyId);
+            if (family == null) {
+                return;
+            }
+            String eventId = String.valueOf(sequence.incrementAndGet());
+            for (Subscription subscription : family) {
+                try {
+                    // SseEventBuilder 는 build 할 때 내용이 바뀌므로 연결마다 새로 만든다
+                    subscription.emitter().send(SseEmitter.event()
+                            .id(eventId)
+                            .name(type.name())
+                            .data(data, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    remove(subscription);
+                }
+            }
+        });
+    }
+
+    private void disconnectUser(Long userId) {
+        List<Subscription> subscriptions = subscriptionsByUser.remove(userId);
+        if (subscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            remove(subscription);
+            subscription.emitter().complete();
+        }
+        System.out.println("[FamilyEventHub] 가족 변경 → 연결 " + subscriptions.size() + "개 종료 (userId=" + userId + ")");
+    }
+
+    private void remove(Subscription subscription) {
+        emitters.computeIfPresent(subscription.familyId(), (id, family) -> {
+            family.remove(subscription);
+            return family.isEmpty() ? null : family;
+        });
+        subscriptionsByUser.computeIfPresent(subscription.userId(), (id, list) -> {
+            list.remove(subscription);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 연결 하나 (가족 인덱스와 유저 인덱스에 같은 객체로 들어간다)
+     */
+    private record Subscription(Long userId, Long familyId, SseEmitter emitter) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.dadambackend.common.realtime;
+
+/**
+ * 가족 채널로 보내는 실시간 이벤트 종류 (SSE event 이름으로 그대로 사용)
+ */
+public enum FamilyEventType {
+    BALANCE_VOTE,
+    QUIZ_VOTE,
+    ANSWER_CREATED,
+    COMMENT_CREATED
+}
@@ -3,7 +3,9 @@ package com.example.dadambackend.domain.answer.controller;
 import com.example.dadambackend.domain.answer.dto.request.CreateAnswerRequest;
 import com.example.dadambackend.domain.answer.dto.response.AnswerResponse;
 import com.example.dadambackend.domain.answer.service.AnswerService;
-import com.example.dadambackend.security.JwtTokenProvider;
+import com.example.dadambackend.global.response.CursorPage;
+import com.example.dadambackend.security.CurrentUser;
+import com.example.dadambackend.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -16,7 +18,6 @@ import org.springframework.web.bind.annotation.*;
 public class AnswerController {
 
     private final AnswerService answerService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 오늘의 질문에 대한 답변 생성
@@ -25,26 +26,26 @@ public class AnswerController {
     public ResponseEntity<AnswerResponse> createAnswer(
             @PathVariable Long questionId,
             @Valid @RequestBody CreateAnswerRequest request,
-            @RequestHeader("Authorization") String authHeader
+            @CurrentUser UserPrincipal user
     ) {
-        Long userId = extractUserId(authHeader);
-
         AnswerResponse response =
-                answerService.createAnswer(questionId, userId, request);
+                answerService.createAnswer(questionId, user, request);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
-     * 특정 질문에 대한 답변 목록 조회
+     * 특정 질문에 대한 답변 목록 조회 (작성순, 커서 페이지)
+     * - 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
      */
     @GetMapping("/{questionId}/answers")
-    public ResponseEntity<?> getAnswers(
+    public ResponseEntity<CursorPage<AnswerResponse>> getAnswers(
             @PathVariable Long questionId,
-            @RequestHeader("Authorization") String authHeader
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @CurrentUser UserPrincipal user
     ) {
-        Long userId = extractUserId(authHeader);
-        return ResponseEntity.ok(answerService.getAnswersByQuestionId(questionId, userId));
+        return ResponseEntity.ok(answerService.getAnswersByQuestionId(questionId, user, cursor, size));
     }
 
     /**
@@ -56,10 +57,8 @@ public class AnswerController {
             @PathVariable Long questionId,
             @PathVariable Long answerId,
             @Valid @RequestBody CreateAnswerRequest request,
-            @RequestHeader("Authorization") String authHeader
+            @CurrentUser Long userId
     ) {
-        Long userId = extractUserId(authHeader);
-
         AnswerResponse response =
                 answerService.updateAnswer(questionId, answerId, userId, request);
 
@@ -74,25 +73,11 @@ public class AnswerController {
     public ResponseEntity<Void> deleteAnswer(
             @PathVariable Long questionId,
             @PathVariable Long answerId,
-            @RequestHeader("Authorization") String authHeader
+            @CurrentUser Long userId
     ) {
-        Long userId = extractUserId(authHeader);
-
         answerService.deleteAnswer(questionId, answerId, userId);
 
         return ResponseEntity.noContent().build();
     }
 
-    /**
-     * Authorization 헤더에서 userId 추출
-     * - 형식: "Bearer {token}"
-     */
-    private Long extractUserId(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            // 토큰이 없거나 형식이 잘못된 경우, JwtTokenProvider에서 예외 처리하게 할 수도 있음
-            throw new IllegalArgumentException("잘못된 Authorization 헤더 형식입니다.");
-        }
-        String token = authHeader.replace("Bearer ", "");
-        return jwtTokenProvider.getUserIdFromToken(token);
-    }
 }
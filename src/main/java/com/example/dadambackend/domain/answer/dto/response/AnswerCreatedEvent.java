@@ -0,0 +1,14 @@
+package com.example.dadambackend.domain.answer.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 답변 작성 실시간 이벤트 (가족 채널 ANSWER_CREATED)
+ */
+@Getter
+@AllArgsConstructor
+public class AnswerCreatedEvent {
+    private Long questionId;
+    private AnswerResponse answer;
+}
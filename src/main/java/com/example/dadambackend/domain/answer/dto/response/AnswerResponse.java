@@ -1,6 +1,7 @@
 package com.example.dadambackend.domain.answer.dto.response;
 
 import com.example.dadambackend.domain.answer.model.Answer;
+import com.example.dadambackend.domain.answer.repository.AnswerFeedRow;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -40,4 +41,28 @@ public class AnswerResponse {
                 .commentCount(commentCount)
                 .build();
     }
+
+    // 목록 조회 쿼리 결과용
+    public static AnswerResponse from(AnswerFeedRow row) {
+        return AnswerResponse.builder()
+                .id(row.answerId())
+                .userId(row.userId())
+                .userName(row.userName())
+                .content(row.content())
+                .createdAt(row.createdAt())
+                .commentCount(row.commentCount())
+                .build();
+    }
+
+    // 작성자 이름을 따로 받는 버전 (작성자 User 를 로딩하지 않고 응답 생성)
+    public static AnswerResponse of(Answer answer, String userName, long commentCount) {
+        return AnswerResponse.builder()
+                .id(answer.getId())
+                .userId(answer.getUser().getId())
+                .userName(userName)
+                .content(answer.getContent())
+                .createdAt(answer.getCreatedAt())
+                .commentCount(commentCount)
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.dadambackend.domain.answer.model;
 
+import com.example.dadambackend.domain.family.model.Family;
 import com.example.dadambackend.domain.question.model.Question;
 import com.example.dadambackend.domain.user.model.User;
 import jakarta.persistence.*;
@@ -12,7 +13,15 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "answer")
+@Table(
+        name = "answer",
+        indexes = {
+                // 중복 답변 검사
+                @Index(name = "idx_answer_question_user", columnList = "question_id, user_id"),
+                // 질문별 우리 가족 답변 조회
+                @Index(name = "idx_answer_question_family", columnList = "question_id, family_id, created_at")
+        }
+)
 public class Answer {
 
     @Id
@@ -27,17 +36,25 @@ public class Answer {
     @JoinColumn(name = "user_id", nullable = false)
     private User user; // 누가 답변했는지
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id")
+    private Family family; // 답변 당시 작성자의 가족 (없으면 null)
+
     @Column(nullable = false, length = 1000)
     private String content; // 답변 내용
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
-    // TODO: Family, FamilyMember 등 권한 관련 필드는 Family 도메인 구현 후 연동
+    // 댓글 수 (댓글 작성/삭제 때 UPDATE 한 문장으로 ±1, AnswerCommentCountReconciler 가 주기적으로 보정)
+    // - 엔티티 변경 감지로 덮어쓰지 않도록 insert/update 대상에서 제외 (DB 기본값 0)
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private long commentCount;
 
-    public Answer(Question question, User user, String content) {
+    public Answer(Question question, User user, Family family, String content) {
         this.question = question;
         this.user = user;
+        this.family = family;
         this.content = content;
         this.createdAt = LocalDateTime.now();
     }
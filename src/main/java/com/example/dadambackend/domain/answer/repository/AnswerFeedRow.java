@@ -0,0 +1,14 @@
+package com.example.dadambackend.domain.answer.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답변 목록 조회 한 줄 (답변 + 작성자 이름 + 댓글 수를 한 번의 쿼리로)
+ */
+public record AnswerFeedRow(Long answerId,
+                            Long userId,
+                            String userName,
+                            String content,
+                            LocalDateTime createdAt,
+                            long commentCount) {
+}
@@ -1,14 +1,77 @@
 package com.example.dadambackend.domain.answer.repository;
 
 import com.example.dadambackend.domain.answer.model.Answer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
-    // 특정 질문에 대한 모든 답변 조회
-    List<Answer> findByQuestionIdOrderByCreatedAtAsc(Long questionId);
 
     // 특정 질문에 특정 유저가 답변했는지 확인
     boolean existsByQuestionIdAndUserId(Long questionId, Long userId);
+
+    /**
+     * 특정 질문에 대한 우리 가족 답변 (작성자 이름 + 댓글 수 포함, 집계 없이 한 번의 쿼리)
+     * - (question_id, family_id, created_at) 인덱스로 우리 가족 답변만 읽으므로 전체 가족 수와 무관하다.
+     * - (createdAt, id) 가 커서보다 뒤인 행부터 pageable 크기만큼
+     */
+    @Query("select new com.example.dadambackend.domain.answer.repository.AnswerFeedRow("
+            + "a.id, u.id, u.name, a.content, a.createdAt, a.commentCount) "
+            + "from Answer a join a.user u "
+            + "where a.question.id = :questionId and a.family.id = :familyId "
+            + "and (a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id)) "
+            + "order by a.createdAt asc, a.id asc")
+    List<AnswerFeedRow> findFamilyFeed(@Param("questionId") Long questionId,
+                                       @Param("familyId") Long familyId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") long id,
+                                       Pageable pageable);
+
+    /**
+     * 가족이 없는 유저용 : 본인 답변만
+     */
+    @Query("select new com.example.dadambackend.domain.answer.repository.AnswerFeedRow("
+            + "a.id, u.id, u.name, a.content, a.createdAt, a.commentCount) "
+            + "from Answer a join a.user u "
+            + "where a.question.id = :questionId and u.id = :userId "
+            + "and (a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id)) "
+            + "order by a.createdAt asc, a.id asc")
+    List<AnswerFeedRow> findOwnFeed(@Param("questionId") Long questionId,
+                                    @Param("userId") Long userId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") long id,
+                                    Pageable pageable);
+
+    /**
+     * 댓글 수 증감 (UPDATE 한 문장이라 동시에 댓글이 달려도 값을 잃지 않는다)
+     * - 0 아래로는 내려가지 않는다.
+     */
+    @Modifying
+    @Query("update Answer a set a.commentCount = a.commentCount + :delta "
+            + "where a.id = :answerId and a.commentCount + :delta >= 0")
+    int addCommentCount(@Param("answerId") Long answerId, @Param("delta") long delta);
+
+    @Query("select coalesce(max(a.id), 0) from Answer a")
+    long findMaxId();
+
+    /**
+     * id 가 [fromId, toId] 인 답변 중 실제 댓글 수와 다른 답변의 comment_count 를 다시 맞춘다.
+     * - 한 번에 id 구간 하나만 잠그도록 답변/댓글 모두 id 범위로 좁힌다. (댓글은 idx_comment_answer_created 로 범위 조회)
+     *
+     * @return 보정한 답변 수
+     */
+    @Modifying
+    @Query(value = "update answer a "
+            + "left join (select answer_id, count(*) as cnt from comment "
+            + "where answer_id between :fromId and :toId group by answer_id) c "
+            + "on c.answer_id = a.id "
+            + "set a.comment_count = coalesce(c.cnt, 0) "
+            + "where a.id between :fromId and :toId and a.comment_count <> coalesce(c.cnt, 0)",
+            nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
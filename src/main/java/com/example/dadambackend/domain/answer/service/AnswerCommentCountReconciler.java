@@ -0,0 +1,48 @@
+package com.example.dadambackend.domain.answer.service;
+
+import com.example.dadambackend.domain.answer.repository.AnswerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * answer.comment_count 보정 작업
+ * - 평소에는 댓글 작성/삭제 때 ±1 로 맞춰지지만, 답변 삭제 실패나 수동 데이터 수정 등으로 어긋날 수 있다.
+ * - 하루 한 번 실제 댓글 수와 다른 답변만 다시 맞춘다. (기본 새벽 4시 30분)
+ * - 답변 id 구간(batch-size)마다 짧은 트랜잭션으로 나눠서, 한 트랜잭션이 answer 전체를 잠그지 않게 한다.
+ *   (그동안 들어오는 댓글 작성의 comment_count +1 이 보정 작업 뒤에 오래 줄 서지 않도록)
+ */
+@Component
+public class AnswerCommentCountReconciler {
+
+    private final AnswerRepository answerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public AnswerCommentCountReconciler(
+            AnswerRepository answerRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${answer.comment-count.reconcile-batch-size:1000}") int batchSize
+    ) {
+        this.answerRepository = answerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(cron = "${answer.comment-count.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        long maxId = answerRepository.findMaxId();
+        int repaired = 0;
+        for (long start = 1; start <= maxId; start += batchSize) {
+            long fromId = start;
+            long toId = start + batchSize - 1;
+            Integer rows = transactionTemplate.execute(status -> answerRepository.reconcileCommentCounts(fromId, toId));
+            repaired += rows == null ? 0 : rows;
+        }
+        if (repaired > 0) {
+            System.out.println("[AnswerCommentCountReconciler] 댓글 수 보정: " + repaired + "개 답변");
+        }
+    }
+}
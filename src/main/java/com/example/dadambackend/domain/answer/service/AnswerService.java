@@ -1,22 +1,30 @@
 package com.example.dadambackend.domain.answer.service;
 
+import com.example.dadambackend.common.realtime.FamilyEventHub;
+import com.example.dadambackend.common.realtime.FamilyEventType;
 import com.example.dadambackend.domain.answer.dto.request.CreateAnswerRequest;
+import com.example.dadambackend.domain.answer.dto.response.AnswerCreatedEvent;
 import com.example.dadambackend.domain.answer.dto.response.AnswerResponse;
 import com.example.dadambackend.domain.answer.model.Answer;
+import com.example.dadambackend.domain.answer.repository.AnswerFeedRow;
 import com.example.dadambackend.domain.answer.repository.AnswerRepository;
-import com.example.dadambackend.domain.comment.repository.CommentRepository;
+import com.example.dadambackend.domain.family.service.FamilyService;
+import com.example.dadambackend.domain.notification.service.NotificationService;
 import com.example.dadambackend.domain.question.model.Question;
 import com.example.dadambackend.domain.question.service.QuestionService;
 import com.example.dadambackend.domain.user.model.User;
 import com.example.dadambackend.domain.user.repository.UserRepository;
 import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.global.pagination.Cursors;
+import com.example.dadambackend.global.pagination.PageSizePolicy;
+import com.example.dadambackend.global.response.CursorPage;
+import com.example.dadambackend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,24 +34,29 @@ public class AnswerService {
     private final AnswerRepository answerRepository;
     private final QuestionService questionService;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository; // 댓글 수 집계용
+    private final FamilyService familyService;
+    private final PageSizePolicy pageSizePolicy;
+    private final FamilyEventHub familyEventHub;
+    private final NotificationService notificationService;
 
     /**
      * 특정 질문(questionId)에 대한 답변을 작성합니다.
+     * - 커밋 후 가족 채널에 ANSWER_CREATED 이벤트
      *
      * @param questionId 질문 ID
-     * @param userId     현재 로그인한 유저 ID (SecurityContext에서 전달)
+     * @param author     현재 로그인한 유저 (요청 principal)
      * @param request    답변 요청 DTO
      * @return 생성된 답변 DTO
      */
     @Transactional
-    public AnswerResponse createAnswer(Long questionId, Long userId, CreateAnswerRequest request) {
+    public AnswerResponse createAnswer(Long questionId, UserPrincipal author, CreateAnswerRequest request) {
+        Long userId = author.userId();
+
         // 1. Question 존재 및 유효성 검사
         Question question = questionService.getQuestionById(questionId);
 
-        // 2. 답변 작성자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 2. 답변 작성자 (존재 여부는 principal 조회 때 확인됨 → SELECT 없이 참조만)
+        User user = userRepository.getReferenceById(userId);
 
         // 3. 중복 답변 검사: "질문 + 유저" 조합으로 한 번만 허용
         if (answerRepository.existsByQuestionIdAndUserId(questionId, userId)) {
@@ -51,39 +64,47 @@ public class AnswerService {
         }
 
         // 4. 답변 저장
-        Answer answer = new Answer(question, user, request.getContent());
+        Answer answer = new Answer(question, user, familyService.getReference(author.familyId()), request.getContent());
         answer = answerRepository.save(answer);
 
         // 새로 생성된 답변이므로 댓글 수는 0
         long commentCount = 0L;
 
-        return AnswerResponse.of(answer, commentCount);
+        AnswerResponse response = AnswerResponse.of(answer, author.name(), commentCount);
+        familyEventHub.publish(author.familyId(), FamilyEventType.ANSWER_CREATED,
+                new AnswerCreatedEvent(questionId, response));
+        notificationService.notifyAnswerCreated(author, question.getContent());
+        return response;
     }
 
     /**
-     * 특정 질문에 대한 모든 답변을 조회합니다.
+     * 특정 질문에 대한 우리 가족의 답변을 작성순으로 한 페이지 조회합니다.
+     * - 가족 범위 필터, 작성자 이름, 댓글 수를 모두 쿼리 한 번으로 가져온다.
+     * - 가족 코드가 없으면 본인 답변만
      *
      * @param questionId 질문 ID
-     * @return 답변 목록 DTO
+     * @param requester  현재 로그인한 유저 (가족 코드 기준으로 필터링)
+     * @param cursor     이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size       페이지 크기 (null 이면 기본값)
+     * @return 답변 페이지
      */
-    public List<AnswerResponse> getAnswersByQuestionId(Long questionId, Long requesterId) {
+    public CursorPage<AnswerResponse> getAnswersByQuestionId(Long questionId, UserPrincipal requester,
+                                                             String cursor, Integer size) {
         // 질문 유효성 검사
         questionService.getQuestionById(questionId);
 
-        User requester = userRepository.findById(requesterId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        String familyCode = requester.getFamilyCode();
+        int pageSize = pageSizePolicy.resolve(size);
+        Cursors.TimeKey after = Cursors.decodeTime(cursor);
 
-        List<Answer> answers = answerRepository.findByQuestionIdOrderByCreatedAtAsc(questionId);
+        List<AnswerFeedRow> rows = requester.familyId() == null
+                ? answerRepository.findOwnFeed(questionId, requester.userId(),
+                        after.createdAt(), after.id(), pageSizePolicy.lookAhead(pageSize))
+                : answerRepository.findFamilyFeed(questionId, requester.familyId(),
+                        after.createdAt(), after.id(), pageSizePolicy.lookAhead(pageSize));
 
-        return answers.stream()
-                .filter(answer -> isSameFamily(answer.getUser(), familyCode))
-                .map(answer -> {
-                    long commentCount = commentRepository.countByAnswerId(answer.getId());
-                    return AnswerResponse.of(answer, commentCount);
-                })
-                .collect(Collectors.toList());
+        return CursorPage.of(rows, pageSize,
+                row -> Cursors.encode(row.createdAt(), row.answerId()),
+                AnswerResponse::from);
     }
 
     /**
@@ -118,9 +139,7 @@ public class AnswerService {
         answer.updateContent(request.getContent());
 
         // 수정 후에도 createdAt은 그대로 두고, 필요하면 updatedAt 컬럼 추가해서 관리 가능
-        long commentCount = commentRepository.countByAnswerId(answer.getId());
-
-        return AnswerResponse.of(answer, commentCount);
+        return AnswerResponse.of(answer, answer.getCommentCount());
     }
 
     /**
@@ -155,14 +174,4 @@ public class AnswerService {
 
         answerRepository.delete(answer);
     }
-
-    private boolean isSameFamily(User target, String baseFamilyCode) {
-        String normalizedBase = normalize(baseFamilyCode);
-        String normalizedTarget = normalize(target.getFamilyCode());
-        return normalizedBase.equals(normalizedTarget);
-    }
-
-    private String normalize(String code) {
-        return (code == null || code.isBlank()) ? "" : code.trim();
-    }
 }
@@ -0,0 +1,35 @@
+package com.example.dadambackend.domain.balance.dto;
+
+import com.example.dadambackend.domain.balance.model.BalanceGame;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 하루치 밸런스 게임의 불변 스냅샷 (DailySnapshotCache 에 날짜별로 보관)
+ * - 투표/집계는 요청마다 따로 읽고, 게임 내용만 캐시에서 재사용한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BalanceGameSnapshot {
+
+    private final Long id;
+    private final LocalDate gameDate;
+    private final String question;
+    private final String optionA;
+    private final String optionB;
+    private final String category;
+
+    public static BalanceGameSnapshot of(BalanceGame game) {
+        return new BalanceGameSnapshot(
+                game.getId(),
+                game.getGameDate(),
+                game.getQuestion(),
+                game.getOptionA(),
+                game.getOptionB(),
+                game.getCategory()
+        );
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.dadambackend.domain.balance.dto;
 
-import com.example.dadambackend.domain.balance.model.BalanceGame;
 import com.example.dadambackend.domain.balance.model.BalanceGameVote;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -22,6 +22,10 @@ public class BalanceGameTodayResponse {
     private List<Voter> votesA;
     private List<Voter> votesB;
 
+    // 우리 가족 A / B 표 수 (가족별 집계 테이블 기준)
+    private long countA;
+    private long countB;
+
     @Getter
     @Builder
     public static class Voter {
@@ -29,7 +33,12 @@ public class BalanceGameTodayResponse {
         private String userName;
     }
 
-    public static BalanceGameTodayResponse of(BalanceGame game, List<BalanceGameVote> votes) {
+    /**
+     * @param game   오늘 게임 스냅샷
+     * @param votes  우리 가족 투표 (user fetch join 된 상태)
+     * @param counts 선택지("A"/"B") → 표 수
+     */
+    public static BalanceGameTodayResponse of(BalanceGameSnapshot game, List<BalanceGameVote> votes, Map<String, Long> counts) {
         List<Voter> votesA = votes.stream()
                 .filter(v -> "A".equals(v.getChoice()))
                 .map(v -> Voter.builder()
@@ -54,6 +63,8 @@ public class BalanceGameTodayResponse {
                 .category(game.getCategory())
                 .votesA(votesA)
                 .votesB(votesB)
+                .countA(counts.getOrDefault("A", 0L))
+                .countB(counts.getOrDefault("B", 0L))
                 .build();
     }
 }
@@ -0,0 +1,18 @@
+package com.example.dadambackend.domain.balance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 밸런스 게임 투표 실시간 이벤트 (가족 채널 BALANCE_VOTE)
+ * - 클라이언트는 previousChoice 목록에서 빼고 choice 목록에 넣어서 화면만 갱신한다.
+ */
+@Getter
+@AllArgsConstructor
+public class BalanceGameVoteEvent {
+    private Long gameId;
+    private Long userId;
+    private String userName;
+    private String choice;
+    private String previousChoice;  // 처음 투표면 null
+}
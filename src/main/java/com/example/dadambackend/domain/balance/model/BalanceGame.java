@@ -1,8 +1,11 @@
 package com.example.dadambackend.domain.balance.model;
 
+import com.example.dadambackend.global.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,6 +13,9 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Entity
+// 저장 후 바뀌지 않는 하루치 콘텐츠 → 2차 캐시 (READ_ONLY)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = HibernateCacheConfig.BALANCE_GAME_REGION)
 @Table(
         name = "balance_game",
         uniqueConstraints = {
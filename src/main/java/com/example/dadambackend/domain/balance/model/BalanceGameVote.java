@@ -1,5 +1,6 @@
 package com.example.dadambackend.domain.balance.model;
 
+import com.example.dadambackend.domain.family.model.Family;
 import com.example.dadambackend.domain.user.model.User;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -17,6 +18,10 @@ import java.time.LocalDateTime;
                         name = "uk_balance_game_vote_game_user",
                         columnNames = {"balance_game_id", "user_id"}
                 )
+        },
+        indexes = {
+                // 가족별 투표자 조회
+                @Index(name = "idx_balance_game_vote_game_family", columnList = "balance_game_id, family_id, created_at")
         }
 )
 public class BalanceGameVote {
@@ -39,18 +44,19 @@ public class BalanceGameVote {
     @Column(nullable = false, length = 1)
     private String choice;
 
+    // 투표 당시 가족 (가족 없으면 null) → 가족별 투표자 조회/집계 기준
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id")
+    private Family family;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
-    public BalanceGameVote(BalanceGame balanceGame, User user, String choice) {
+    public BalanceGameVote(BalanceGame balanceGame, User user, String choice, Family family) {
         this.balanceGame = balanceGame;
         this.user = user;
         this.choice = choice;
+        this.family = family;
         this.createdAt = LocalDateTime.now();
     }
-
-    // choice 변경용 (이미 투표한 사람이 다시 선택 바꿀 때)
-    public void updateChoice(String choice) {
-        this.choice = choice;
-    }
 }
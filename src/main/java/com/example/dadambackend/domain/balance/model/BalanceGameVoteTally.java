@@ -0,0 +1,46 @@
+package com.example.dadambackend.domain.balance.model;
+
+import com.example.dadambackend.domain.family.model.Family;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 밸런스 게임 가족별 선택지 집계 (game, family_id, choice) → 표 수
+ * - 투표 저장과 같은 트랜잭션에서 BalanceGameVoteTallyRepository.increment 로 갱신
+ * - 가족이 없는 유저의 투표는 집계하지 않는다 (본인 투표만 보이므로)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "balance_game_vote_tally",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_balance_game_vote_tally_game_family_choice",
+                        columnNames = {"balance_game_id", "family_id", "choice"}
+                )
+        }
+)
+public class BalanceGameVoteTally {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "balance_game_id", nullable = false)
+    private BalanceGame balanceGame;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "family_id", nullable = false)
+    private Family family;
+
+    // "A" 또는 "B"
+    @Column(nullable = false, length = 1)
+    private String choice;
+
+    @Column(name = "vote_count", nullable = false)
+    private long voteCount;
+}
@@ -1,12 +1,35 @@
 package com.example.dadambackend.domain.balance.repository;
 
 import com.example.dadambackend.domain.balance.model.BalanceGame;
+import com.example.dadambackend.global.config.HibernateCacheConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface BalanceGameRepository extends JpaRepository<BalanceGame, Long> {
 
+    /**
+     * 날짜별 게임 (하루 1개, 쿼리 캐시 daily-content-by-date)
+     * - 자체 읽기 트랜잭션 : 바깥 트랜잭션 없이 (NOT_SUPPORTED) 부르면 커넥션이 호출한 메서드가 끝날 때까지 묶여
+     *   이어지는 AI 호출 내내 반납되지 않는다. 자체 트랜잭션이면 조회가 끝나는 즉시 반납된다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.DAILY_CONTENT_BY_DATE_REGION)
+    })
+    @Transactional(readOnly = true)
     Optional<BalanceGame> findByGameDate(LocalDate gameDate);
+
+    /**
+     * 모든 게임 질문 문장 (유사 중복 인덱스 적재용, 엔티티 대신 문자열만 조회)
+     */
+    @Query("select g.question from BalanceGame g")
+    List<String> findAllQuestions();
 }
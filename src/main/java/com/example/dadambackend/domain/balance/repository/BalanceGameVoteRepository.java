@@ -4,6 +4,9 @@ import com.example.dadambackend.domain.balance.model.BalanceGame;
 import com.example.dadambackend.domain.balance.model.BalanceGameVote;
 import com.example.dadambackend.domain.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +19,30 @@ public interface BalanceGameVoteRepository extends JpaRepository<BalanceGameVote
 
     // 오늘 게임 + 특정 유저의 투표 1건
     Optional<BalanceGameVote> findByBalanceGameAndUser(BalanceGame balanceGame, User user);
+
+    /**
+     * 읽었을 때의 선택(previous)이 그대로일 때만 바꾼다. (동시에 바꾼 요청 중 하나만 1 을 돌려받음)
+     * - 영속성 컨텍스트에 남은 예전 choice 를 응답에 쓰지 않도록 실행 후 비운다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update BalanceGameVote v set v.choice = :choice where v.id = :id and v.choice = :previous")
+    int changeChoice(@Param("id") Long id,
+                     @Param("previous") String previous,
+                     @Param("choice") String choice);
+
+    /**
+     * 우리 가족 투표자 (user fetch join, 가족 크기만큼만 읽음)
+     */
+    @Query("select v from BalanceGameVote v join fetch v.user "
+            + "where v.balanceGame.id = :gameId and v.family.id = :familyId order by v.createdAt asc")
+    List<BalanceGameVote> findFamilyVotesWithUser(@Param("gameId") Long gameId,
+                                                  @Param("familyId") Long familyId);
+
+    /**
+     * 가족이 없는 유저용 : 본인 투표만
+     */
+    @Query("select v from BalanceGameVote v join fetch v.user u "
+            + "where v.balanceGame.id = :gameId and u.id = :userId")
+    List<BalanceGameVote> findOwnVoteWithUser(@Param("gameId") Long gameId,
+                                              @Param("userId") Long userId);
 }
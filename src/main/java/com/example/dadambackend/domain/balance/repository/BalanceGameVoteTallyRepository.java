@@ -0,0 +1,28 @@
+package com.example.dadambackend.domain.balance.repository;
+
+import com.example.dadambackend.domain.balance.model.BalanceGameVoteTally;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BalanceGameVoteTallyRepository extends JpaRepository<BalanceGameVoteTally, Long> {
+
+    // 우리 가족 집계 (선택지 수만큼, 최대 2행)
+    List<BalanceGameVoteTally> findByBalanceGameIdAndFamilyId(Long balanceGameId, Long familyId);
+
+    /**
+     * 집계 행이 없으면 만들고, 있으면 delta 만큼 더한다 (행 단위 원자적 갱신)
+     */
+    @Modifying
+    @Query(value = "insert into balance_game_vote_tally (balance_game_id, family_id, choice, vote_count) "
+            + "values (:gameId, :familyId, :choice, :delta) "
+            + "on duplicate key update vote_count = vote_count + :delta",
+            nativeQuery = true)
+    void increment(@Param("gameId") Long gameId,
+                   @Param("familyId") Long familyId,
+                   @Param("choice") String choice,
+                   @Param("delta") long delta);
+}
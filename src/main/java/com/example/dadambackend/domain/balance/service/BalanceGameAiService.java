@@ -1,35 +1,71 @@
 package com.example.dadambackend.domain.balance.service;
 
 import com.example.dadambackend.common.ai.AiClient;
+import com.example.dadambackend.common.ai.AiClientException;
+import com.example.dadambackend.common.ai.cache.AiCachePolicy;
+import com.example.dadambackend.common.daily.DailyContentBatchGenerator;
+import com.example.dadambackend.common.daily.DailyContentType;
 import com.example.dadambackend.domain.balance.dto.BalanceGameGenerationResult;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
-public class BalanceGameAiService {
+public class BalanceGameAiService implements DailyContentBatchGenerator<BalanceGameGenerationResult> {
 
-    private final AiClient aiClient;
-    private final ObjectMapper objectMapper;
-    private final Random random = new Random();
-
-    public BalanceGameGenerationResult generate() {
+    private static final String[] CATEGORIES = {"FOOD", "HOBBY", "LIFE", "RELATIONSHIP", "MEMORY"};
 
-        // 🔹 서버에서 먼저 밸런스게임 주제 카테고리 랜덤 선택
-        String[] categories = {"FOOD", "HOBBY", "LIFE", "RELATIONSHIP", "MEMORY"};
-        String targetCategory = categories[random.nextInt(categories.length)];
-
-        // 🔹 역할 정의 (system 프롬프트)
-        String systemPrompt = """
+    // 🔹 역할 정의 (system 프롬프트)
+    private static final String SYSTEM_PROMPT = """
             너는 세대 간 소통을 돕는 '가족 밸런스 게임 질문 생성기'야.
             정치, 혐오, 폭력, 선정적인 내용은 절대 포함하지 마.
             가족 구성원이 서로를 이해하고 편하게 대화할 수 있는 주제로만 밸런스 게임을 만들어.
             반드시 JSON 형식으로만 응답해야 해.
             """;
 
+    private final AiClient aiClient;
+    private final ObjectMapper objectMapper;
+    private final Random random = new Random();
+
+    /**
+     * 밸런스 게임 생성 (실패 시 fallback 반환)
+     */
+    public BalanceGameGenerationResult generate(LocalDate date) {
+        try {
+            return generateOrThrow(date);
+        } catch (AiClientException e) {
+            System.out.println("[BalanceGameAiService] 생성 실패 → fallback 사용: " + e.getMessage());
+            return buildFallback();
+        }
+    }
+
+    /**
+     * 밸런스 게임 생성 (실패 시 AiClientException)
+     * - DailyContentPipeline 처럼 실패하면 나중에 재시도해야 하는 곳에서 사용
+     * - 같은 날짜로 다시 호출하면 캐시된 응답을 재사용 (재배포 / 저장 실패 후 재시도)
+     */
+    public BalanceGameGenerationResult generateOrThrow(LocalDate date) {
+        return AiClient.await(generateAsync(date, false));
+    }
+
+    /**
+     * 밸런스 게임 비동기 생성 (실패 시 AiClientException 으로 예외 완료)
+     * - 여러 건을 동시에 요청해도 응답 대기 동안 스레드를 점유하지 않음
+     * - fresh = true 면 캐시를 건너뛰고 새로 생성
+     */
+    public CompletableFuture<BalanceGameGenerationResult> generateAsync(LocalDate date, boolean fresh) {
+
+        // 🔹 서버에서 먼저 밸런스게임 주제 카테고리 선택 (날짜 기준 고정 → 같은 날짜의 재시도는 같은 캐시 키)
+        String targetCategory = CATEGORIES[new Random(date.toEpochDay()).nextInt(CATEGORIES.length)];
+
         // 🔹 출력 형식 + 규칙 (user 프롬프트)
         String userPrompt = ("""
             아래 형식의 JSON으로만 응답해라.
@@ -58,48 +94,117 @@ public class BalanceGameAiService {
               조금 더 구체적이고 다양한 상황을 사용해라.
             """).formatted(targetCategory, targetCategory, targetCategory);
 
-        // 🔹 AiClient 호출 (system + user 프롬프트 전달)
-        String json = aiClient.request(systemPrompt, userPrompt);
+        // 🔹 AiClient 호출 (캐시 구분값에 날짜를 넣어서 다른 날짜끼리 같은 게임을 공유하지 않게 한다)
+        String cacheCategory = "BALANCE_GAME:" + targetCategory + ":" + date;
+        AiCachePolicy cachePolicy = fresh ? AiCachePolicy.fresh(cacheCategory) : AiCachePolicy.cached(cacheCategory);
 
-        try {
-            // 🔹 GPT가 만든 JSON을 DTO로 파싱
-            BalanceGameGenerationResult result =
-                    objectMapper.readValue(json, BalanceGameGenerationResult.class);
-
-            // ✅ 필수 필드 검증 (null / 빈 문자열이면 fallback으로 교체)
-            if (result == null
-                    || isBlank(result.getQuestion())
-                    || isBlank(result.getOptionA())
-                    || isBlank(result.getOptionB())
-                    || isBlank(result.getCategory())) {
-
-                System.out.println("[BalanceGameAiService] AI 응답 필드 누락 → fallback 사용");
-                return buildFallback();
+        return aiClient.requestAsync(SYSTEM_PROMPT, userPrompt, cachePolicy, this::parseAndValidate);
+    }
+
+    @Override
+    public DailyContentType getContentType() {
+        return DailyContentType.BALANCE_GAME;
+    }
+
+    /**
+     * 밸런스 게임 여러 개를 AI 호출 한 번으로 생성 (DailyContentBufferRefiller 용)
+     * - 각 항목을 따로 검증해서 통과한 것만 반환
+     * - response_format 이 json_object 라 배열을 바로 받을 수 없으므로 {"items": [...]} 로 감싼다
+     */
+    @Override
+    public CompletableFuture<List<BalanceGameGenerationResult>> generateBatchAsync(int count) {
+        String userPrompt = ("""
+            아래 형식의 JSON으로만 응답해라.
+
+            형식:
+            {
+              "items": [
+                {
+                  "question": "질문 문장 (예: 'A vs B, 너의 선택은?')",
+                  "optionA": "선택지 A (짧은 문장)",
+                  "optionB": "선택지 B (짧은 문장)",
+                  "category": "FOOD | HOBBY | LIFE | RELATIONSHIP | MEMORY 중 하나"
+                }
+              ]
             }
 
-            // ✅ category 정규화 (혹시 소문자로 올 수도 있어서)
-            result.setCategory(
-                    result.getCategory() == null
-                            ? "LIFE"
-                            : result.getCategory().trim().toUpperCase()
-            );
+            규칙:
+            - items 배열에 서로 다른 밸런스 게임을 정확히 %d개 넣어라.
+            - category 는 FOOD, HOBBY, LIFE, RELATIONSHIP, MEMORY 중 하나로 하고, 골고루 섞어라.
+            - question에는 두 선택지를 모두 포함한 한 문장을 자연스럽게 작성해라.
+            - optionA, optionB에는 각각의 선택지만 짧고 명확하게 작성해라.
+            - 비슷한 주제를 반복하지 말고 구체적이고 다양한 상황을 사용해라.
+            - JSON 이외의 설명, 말줄임표, 주석, 자연어 문장은 절대 넣지 마라.
+            """).formatted(count);
 
-            return result;
+        return aiClient.requestAsync(SYSTEM_PROMPT, userPrompt)
+                .thenApply(this::parseBatch);
+    }
 
+    private BalanceGameGenerationResult parseAndValidate(String json) {
+        BalanceGameGenerationResult result;
+        try {
+            // 🔹 GPT가 만든 JSON을 DTO로 파싱
+            result = objectMapper.readValue(json, BalanceGameGenerationResult.class);
         } catch (Exception e) {
-            // 🔹 JSON 파싱 자체에 실패하면 fallback
-            System.out.println("[BalanceGameAiService] JSON 파싱 실패 → fallback 사용: " + e.getMessage());
-            return buildFallback();
+            throw new AiClientException("JSON 파싱 실패: " + e.getMessage(), e);
+        }
+        return validate(result);
+    }
+
+    private List<BalanceGameGenerationResult> parseBatch(String json) {
+        JsonNode items;
+        try {
+            items = objectMapper.readTree(json).path("items");
+        } catch (Exception e) {
+            throw new AiClientException("JSON 파싱 실패: " + e.getMessage(), e);
+        }
+
+        List<BalanceGameGenerationResult> results = new ArrayList<>();
+        for (JsonNode item : items) {
+            try {
+                results.add(validate(objectMapper.treeToValue(item, BalanceGameGenerationResult.class)));
+            } catch (Exception e) {
+                System.out.println("[BalanceGameAiService] 배치 항목 제외: " + e.getMessage());
+            }
+        }
+        if (results.isEmpty()) {
+            throw new AiClientException("배치 응답에 유효한 밸런스 게임이 없음");
         }
+        return results;
+    }
+
+    private BalanceGameGenerationResult validate(BalanceGameGenerationResult result) {
+        // ✅ 필수 필드 검증 (null / 빈 문자열이면 실패 처리)
+        if (result == null
+                || isBlank(result.getQuestion())
+                || isBlank(result.getOptionA())
+                || isBlank(result.getOptionB())
+                || isBlank(result.getCategory())) {
+            throw new AiClientException("AI 응답 필드 누락");
+        }
+
+        // ✅ category 정규화 (혹시 소문자로 올 수도 있어서)
+        result.setCategory(result.getCategory().trim().toUpperCase());
+
+        return result;
     }
 
     // 공용 fallback 생성 메서드
-    private BalanceGameGenerationResult buildFallback() {
+    public BalanceGameGenerationResult buildFallback() {
+        // AI 장애가 길어져도 매일 같은 게임이 저장되지 않도록 몇 개 중에서 고른다
+        String[][] candidates = {
+                {"가족 여행 스타일, 계획 촘촘 vs 즉흥 자유여행 중 뭐가 더 좋아?", "계획 촘촘 여행", "즉흥 자유여행", "LIFE"},
+                {"주말 저녁 메뉴, 집밥 vs 외식 너의 선택은?", "집밥", "외식", "FOOD"},
+                {"쉬는 날, 하루 종일 집콕 vs 아침부터 나들이 너의 선택은?", "하루 종일 집콕", "아침부터 나들이", "HOBBY"}
+        };
+        String[] picked = candidates[random.nextInt(candidates.length)];
+
         BalanceGameGenerationResult fallback = new BalanceGameGenerationResult();
-        fallback.setQuestion("가족 여행 스타일, 계획 촘촘 vs 즉흥 자유여행 중 뭐가 더 좋아?");
-        fallback.setOptionA("계획 촘촘 여행");
-        fallback.setOptionB("즉흥 자유여행");
-        fallback.setCategory("LIFE");
+        fallback.setQuestion(picked[0]);
+        fallback.setOptionA(picked[1]);
+        fallback.setOptionB(picked[2]);
+        fallback.setCategory(picked[3]);
         return fallback;
     }
 
@@ -1,131 +1,301 @@
 package com.example.dadambackend.domain.balance.service;
 
+import com.example.dadambackend.common.ai.AiClient;
+import com.example.dadambackend.common.daily.DailyContentBuffer;
+import com.example.dadambackend.common.daily.DailyContentCandidate;
+import com.example.dadambackend.common.daily.DailyContentProvider;
+import com.example.dadambackend.common.daily.DailyContentSingleFlight;
+import com.example.dadambackend.common.daily.DailyContentType;
+import com.example.dadambackend.common.daily.DailySnapshotCache;
+import com.example.dadambackend.common.daily.NearDuplicateIndex;
+import com.example.dadambackend.common.realtime.FamilyEventHub;
+import com.example.dadambackend.common.realtime.FamilyEventType;
 import com.example.dadambackend.domain.balance.dto.BalanceGameGenerationResult;
+import com.example.dadambackend.domain.balance.dto.BalanceGameSnapshot;
 import com.example.dadambackend.domain.balance.dto.BalanceGameTodayResponse;
+import com.example.dadambackend.domain.balance.dto.BalanceGameVoteEvent;
 import com.example.dadambackend.domain.balance.dto.BalanceGameVoteRequest;
 import com.example.dadambackend.domain.balance.model.BalanceGame;
 import com.example.dadambackend.domain.balance.model.BalanceGameVote;
+import com.example.dadambackend.domain.balance.model.BalanceGameVoteTally;
 import com.example.dadambackend.domain.balance.repository.BalanceGameRepository;
 import com.example.dadambackend.domain.balance.repository.BalanceGameVoteRepository;
+import com.example.dadambackend.domain.balance.repository.BalanceGameVoteTallyRepository;
+import com.example.dadambackend.domain.family.service.FamilyService;
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.service.NotificationService;
 import com.example.dadambackend.domain.user.model.User;
 import com.example.dadambackend.domain.user.repository.UserRepository;
 import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class BalanceGameService {
+public class BalanceGameService implements DailyContentProvider {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
 
     private final BalanceGameRepository balanceGameRepository;
     private final BalanceGameVoteRepository balanceGameVoteRepository;
+    private final BalanceGameVoteTallyRepository balanceGameVoteTallyRepository;
     private final BalanceGameAiService balanceGameAiService;
     private final UserRepository userRepository;
+    private final FamilyService familyService;
+    private final DailyContentSingleFlight singleFlight;
+    private final DailyContentBuffer contentBuffer;
+    private final NearDuplicateIndex duplicateIndex;
+    private final DailySnapshotCache snapshotCache;
+    private final FamilyEventHub familyEventHub;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
 
     // ✅ TEMP_USER_ID 제거
     // private static final Long TEMP_USER_ID = 1L;
 
     /**
      * 오늘의 밸런스 게임 조회 (없으면 생성)
+     * - 게임 조회/생성은 트랜잭션 밖에서 실행 (게임 내용은 날짜별 스냅샷 캐시에서)
+     * - 투표자는 우리 가족 것만 fetch join 으로, 표 수는 가족별 집계 테이블에서 읽는다.
      */
-    @Transactional
-    public BalanceGameTodayResponse getOrCreateTodayGame(Long currentUserId) {
-        LocalDate today = LocalDate.now();
-
-        BalanceGame game = balanceGameRepository.findByGameDate(today)
-                .orElseGet(() -> {
-                    BalanceGameGenerationResult gen = balanceGameAiService.generate();
-                    BalanceGame newGame = new BalanceGame(
-                            today,
-                            gen.getQuestion(),
-                            gen.getOptionA(),
-                            gen.getOptionB(),
-                            gen.getCategory()
-                    );
-                    return balanceGameRepository.save(newGame);
-                });
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BalanceGameTodayResponse getOrCreateTodayGame(UserPrincipal requester) {
+        LocalDate today = LocalDate.now(ZONE_SEOUL);
 
-        User requester = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        BalanceGameSnapshot game = getGameSnapshot(today);
 
-        String familyCode = requester.getFamilyCode();
-
-        List<BalanceGameVote> votes = balanceGameVoteRepository.findByBalanceGame(game)
-                .stream()
-                .filter(vote -> isSameFamily(vote.getUser(), familyCode))
-                .toList();
-
-        return BalanceGameTodayResponse.of(game, votes);
+        return buildFamilyResponse(game, requester);
     }
 
     /**
      * 오늘 게임에 투표 (A/B)
      * - 이미 투표했다면 해당 row의 choice만 변경
      * - 여러 사용자가 투표하면 모두 DB에 기록, 응답에 함께 포함
-     * - ✅ currentUserId : JWT에서 꺼낸 "현재 로그인한 유저"의 ID
+     * - ✅ currentUser : JWT에서 꺼낸 "현재 로그인한 유저" (가족 코드 포함)
+     * - 게임 조회/생성은 트랜잭션 밖에서, 투표 저장 + 가족별 집계 갱신만 짧은 트랜잭션에서 실행
+     * - 선택이 바뀌었으면 커밋 후 가족 채널에 BALANCE_VOTE 이벤트
      */
-    @Transactional
-    public BalanceGameTodayResponse voteToday(Long currentUserId, BalanceGameVoteRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BalanceGameTodayResponse voteToday(UserPrincipal currentUser, BalanceGameVoteRequest request) {
         String choice = request.getChoice();
         if (!"A".equalsIgnoreCase(choice) && !"B".equalsIgnoreCase(choice)) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
         choice = choice.toUpperCase();
-        final String finalChoice = choice;
 
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(ZONE_SEOUL);
 
         // 오늘 게임 없으면 생성
-        BalanceGame game = balanceGameRepository.findByGameDate(today)
-                .orElseGet(() -> {
-                    BalanceGameGenerationResult gen = balanceGameAiService.generate();
-                    BalanceGame newGame = new BalanceGame(
-                            today,
-                            gen.getQuestion(),
-                            gen.getOptionA(),
-                            gen.getOptionB(),
-                            gen.getCategory()
-                    );
-                    return balanceGameRepository.save(newGame);
-                });
+        BalanceGameSnapshot game = getGameSnapshot(today);
+
+        try {
+            return vote(game, currentUser, choice);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 유저의 첫 투표가 동시에 들어와 unique 제약조건 위반 → 먼저 저장된 row 기준으로 한 번 더 (choice 변경 경로)
+            try {
+                return vote(game, currentUser, choice);
+            } catch (DataIntegrityViolationException again) {
+                throw new BusinessException(ErrorCode.ALREADY_PARTICIPATED);
+            }
+        }
+    }
+
+    /**
+     * 투표 저장 + 가족별 집계 갱신 (짧은 트랜잭션)
+     * - 선택 변경은 읽었을 때의 choice 를 조건으로 건 update 로 하고, 실제로 바뀐 경우에만 집계를 옮긴다.
+     *   (동시에 바꾼 요청이 둘 다 -1/+1 을 하면 집계가 실제 투표와 어긋난다)
+     */
+    private BalanceGameTodayResponse vote(BalanceGameSnapshot game, UserPrincipal currentUser, String choice) {
+        return transactionTemplate.execute(status -> {
+            // ✅ 존재 여부는 principal 조회 때 확인됨 → SELECT 없이 참조만
+            User user = userRepository.getReferenceById(currentUser.userId());
+            BalanceGame gameRef = balanceGameRepository.getReferenceById(game.getId());
 
-        // ✅ JWT에서 받은 currentUserId 기준으로 실제 User 조회
-        User user = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            // 이미 투표한 row가 있으면 choice만 변경, 없으면 새로 생성
+            BalanceGameVote vote = balanceGameVoteRepository
+                    .findByBalanceGameAndUser(gameRef, user)
+                    .orElse(null);
 
-        // 이미 투표한 row가 있으면 choice만 변경, 없으면 새로 생성
-        BalanceGameVote vote = balanceGameVoteRepository
-                .findByBalanceGameAndUser(game, user)
-                .orElseGet(() -> new BalanceGameVote(game, user, finalChoice));
+            if (vote == null) {
+                // 바로 flush 해서 unique 제약조건 위반을 여기서 받는다
+                balanceGameVoteRepository.saveAndFlush(new BalanceGameVote(
+                        gameRef, user, choice, familyService.getReference(currentUser.familyId())));
+                updateTally(game.getId(), currentUser.familyId(), choice, 1);
+                publishVote(game, currentUser, choice, null);
+                // 푸시는 첫 투표만 (선택을 바꿀 때마다 보내지 않음)
+                notificationService.notifyVote(currentUser, NotificationType.BALANCE_VOTE);
+            } else if (!choice.equals(vote.getChoice())) {
+                // 집계는 투표 당시 가족 기준으로 옮긴다
+                Long voteFamilyId = vote.getFamily() == null ? null : vote.getFamily().getId();
+                String previousChoice = vote.getChoice();
+                if (balanceGameVoteRepository.changeChoice(vote.getId(), previousChoice, choice) == 1) {
+                    moveTally(game.getId(), voteFamilyId, previousChoice, choice);
+                    publishVote(game, currentUser, choice, previousChoice);
+                }
+            }
 
-        if (vote.getId() == null) {
-            balanceGameVoteRepository.save(vote);
+            // 최신 투표 결과 반환 (가족 코드 기준으로 제한)
+            return buildFamilyResponse(game, currentUser);
+        });
+    }
+
+    /**
+     * 가족이 있으면 우리 가족 투표자 + 가족별 집계, 없으면 본인 투표만
+     */
+    private BalanceGameTodayResponse buildFamilyResponse(BalanceGameSnapshot game, UserPrincipal requester) {
+        Long familyId = requester.familyId();
+        if (familyId == null) {
+            List<BalanceGameVote> ownVote = balanceGameVoteRepository.findOwnVoteWithUser(game.getId(), requester.userId());
+            Map<String, Long> counts = ownVote.stream()
+                    .collect(Collectors.groupingBy(BalanceGameVote::getChoice, Collectors.counting()));
+            return BalanceGameTodayResponse.of(game, ownVote, counts);
+        }
+
+        List<BalanceGameVote> votes = balanceGameVoteRepository.findFamilyVotesWithUser(game.getId(), familyId);
+        Map<String, Long> counts = balanceGameVoteTallyRepository
+                .findByBalanceGameIdAndFamilyId(game.getId(), familyId)
+                .stream()
+                .collect(Collectors.toMap(BalanceGameVoteTally::getChoice, BalanceGameVoteTally::getVoteCount));
+
+        return BalanceGameTodayResponse.of(game, votes, counts);
+    }
+
+    private void publishVote(BalanceGameSnapshot game, UserPrincipal voter, String choice, String previousChoice) {
+        familyEventHub.publish(voter.familyId(), FamilyEventType.BALANCE_VOTE,
+                new BalanceGameVoteEvent(game.getId(), voter.userId(), voter.name(), choice, previousChoice));
+    }
+
+    /**
+     * from → to 로 한 표 옮기기
+     * - 집계 행은 항상 A → B 순서로 잠근다. (A→B / B→A 변경이 동시에 들어오면 서로 반대 순서로 잠가 deadlock)
+     */
+    private void moveTally(Long gameId, Long familyId, String from, String to) {
+        if (from.compareTo(to) < 0) {
+            updateTally(gameId, familyId, from, -1);
+            updateTally(gameId, familyId, to, 1);
         } else {
-            vote.updateChoice(finalChoice);
+            updateTally(gameId, familyId, to, 1);
+            updateTally(gameId, familyId, from, -1);
         }
+    }
 
-        String familyCode = user.getFamilyCode();
+    private void updateTally(Long gameId, Long familyId, String choice, long delta) {
+        if (familyId != null) {
+            balanceGameVoteTallyRepository.increment(gameId, familyId, choice, delta);
+        }
+    }
 
-        // 최신 투표 결과 반환 (가족 코드 기준으로 제한)
-        List<BalanceGameVote> votes = balanceGameVoteRepository.findByBalanceGame(game)
-                .stream()
-                .filter(v -> isSameFamily(v.getUser(), familyCode))
-                .toList();
+    @Override
+    public DailyContentType getContentType() {
+        return DailyContentType.BALANCE_GAME;
+    }
 
-        return BalanceGameTodayResponse.of(game, votes);
+    /**
+     * 해당 날짜의 게임이 없으면 버퍼에서 꺼내거나, 버퍼가 비었으면 AI로 생성해서 저장합니다. (DailyContentPipeline 용)
+     * - 있던 게임이든 새로 만든 게임이든 스냅샷 캐시에 올려 둔다. (자정 직후 첫 요청도 캐시에서)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean prepareForDate(LocalDate date) {
+        Optional<BalanceGame> existing = balanceGameRepository.findByGameDate(date);
+        BalanceGame game = existing.orElseGet(() -> findOrCreate(date, () -> fromBufferOr(() -> generateDistinct(date))));
+        snapshotCache.put(DailyContentType.BALANCE_GAME, date, BalanceGameSnapshot.of(game));
+        return existing.isEmpty();
     }
 
-    private boolean isSameFamily(User user, String familyCode) {
-        return normalize(user.getFamilyCode()).equals(normalize(familyCode));
+    @Override
+    public List<String> findAllDedupTexts() {
+        return balanceGameRepository.findAllQuestions();
     }
 
-    private String normalize(String code) {
-        return (code == null || code.isBlank()) ? "" : code.trim();
+    /**
+     * 배치 생성으로 쌓아 둔 버퍼에서 (기존 게임과 겹치지 않는) 하나를 꺼내고, 비어 있으면 otherwise 사용
+     */
+    private DailyContentCandidate<BalanceGameGenerationResult> fromBufferOr(Supplier<BalanceGameGenerationResult> otherwise) {
+        return contentBuffer.poll(DailyContentType.BALANCE_GAME, BalanceGameGenerationResult.class,
+                        result -> !duplicateIndex.isNearDuplicate(DailyContentType.BALANCE_GAME, result.getQuestion()))
+                .orElseGet(() -> DailyContentCandidate.generated(otherwise.get()));
     }
+
+    /**
+     * 기존 게임과 유사 중복이 아닌 게임을 AI로 생성 (두 번째 시도부터는 캐시를 건너뛴다)
+     */
+    private BalanceGameGenerationResult generateDistinct(LocalDate date) {
+        return duplicateIndex.generateDistinct(
+                DailyContentType.BALANCE_GAME,
+                BalanceGameGenerationResult::getQuestion,
+                attempt -> attempt == 0
+                        ? balanceGameAiService.generateOrThrow(date)
+                        : AiClient.await(balanceGameAiService.generateAsync(date, true))
+        );
+    }
+
+    /**
+     * 특정 날짜의 게임 스냅샷 (캐시에 없으면 조회/생성해서 올린다)
+     */
+    private BalanceGameSnapshot getGameSnapshot(LocalDate date) {
+        return snapshotCache.get(DailyContentType.BALANCE_GAME, date, BalanceGameSnapshot.class,
+                () -> BalanceGameSnapshot.of(getOrCreateGameForDate(date)));
+    }
+
+    /**
+     * 특정 날짜의 게임을 조회하고, 없으면 (사전 생성 실패 시) 버퍼의 게임 → fallback 게임 순서로 저장
+     * - 요청 스레드에서는 AI를 호출하지 않는다.
+     */
+    private BalanceGame getOrCreateGameForDate(LocalDate date) {
+        return balanceGameRepository.findByGameDate(date)
+                .orElseGet(() -> {
+                    System.out.println("[BalanceGameService] 사전 생성된 게임 없음 → fallback 게임 사용: " + date);
+                    return findOrCreate(date, () -> fromBufferOr(balanceGameAiService::buildFallback));
+                });
+    }
+
+    /**
+     * (BALANCE_GAME, date) 단위 single-flight 안에서 "조회 후 없으면 생성" 을 실행합니다.
+     * - 다른 노드와의 중복 생성은 game_date unique 제약조건으로 막는다.
+     * - generator(AI 호출 등)는 트랜잭션 밖, 저장만 짧은 트랜잭션 안에서 실행
+     */
+    private BalanceGame findOrCreate(LocalDate date, Supplier<DailyContentCandidate<BalanceGameGenerationResult>> generator) {
+        return singleFlight.execute(
+                DailyContentType.BALANCE_GAME,
+                date,
+                () -> balanceGameRepository.findByGameDate(date),
+                generator,
+                candidate -> {
+                    // 버퍼 항목 삭제도 같은 트랜잭션 (저장이 롤백되면 항목은 선점 만료 후 다시 쓰인다)
+                    BalanceGame saved = saveGame(date, candidate.value());
+                    contentBuffer.consume(DailyContentType.BALANCE_GAME, candidate);
+                    return saved;
+                }
+        );
+    }
+
+    private BalanceGame saveGame(LocalDate date, BalanceGameGenerationResult gen) {
+        BalanceGame newGame = new BalanceGame(
+                date,
+                gen.getQuestion(),
+                gen.getOptionA(),
+                gen.getOptionB(),
+                gen.getCategory()
+        );
+        BalanceGame saved = balanceGameRepository.save(newGame);
+        duplicateIndex.add(DailyContentType.BALANCE_GAME, saved.getQuestion());
+        return saved;
+    }
+
 }
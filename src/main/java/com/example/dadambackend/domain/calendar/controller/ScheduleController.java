@@ -4,9 +4,9 @@ import com.example.dadambackend.domain.calendar.dto.request.ScheduleRequest;
 import com.example.dadambackend.domain.calendar.dto.response.ScheduleResponse;
 import com.example.dadambackend.domain.calendar.dto.response.ScheduleUpdateResponse;
 import com.example.dadambackend.domain.calendar.service.ScheduleService;
-import com.example.dadambackend.global.exception.BusinessException;
-import com.example.dadambackend.global.exception.ErrorCode;
-import com.example.dadambackend.security.JwtTokenProvider;
+import com.example.dadambackend.global.response.CursorPage;
+import com.example.dadambackend.security.CurrentUser;
+import com.example.dadambackend.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;   // ✅ 새로 추가
-import java.util.List;
 
 @Tag(
         name = "캘린더 (일정 관리)",
@@ -27,8 +26,7 @@ import java.util.List;
     public class ScheduleController {
 
         private final ScheduleService scheduleService;
-        private final JwtTokenProvider jwtTokenProvider;
-
+    
     /**
      * POST /api/v1/schedules
      * 일정 등록
@@ -51,10 +49,9 @@ import java.util.List;
     @PostMapping
     public ResponseEntity<ScheduleResponse> createSchedule(
             @RequestBody ScheduleRequest request,
-            @RequestHeader("Authorization") String authHeader
+            @CurrentUser UserPrincipal user
     ) {
-        Long userId = extractUserId(authHeader);
-        ScheduleResponse response = scheduleService.createSchedule(userId, request);
+        ScheduleResponse response = scheduleService.createSchedule(user, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -64,14 +61,16 @@ import java.util.List;
      */
     @Operation(
             summary = "⏳ 다가오는 일정 조회",
-            description = "오늘을 기준으로 30일 이내에 있는 가족 약속들을 날짜순으로 조회합니다."
+            description = "오늘을 기준으로 30일 이내에 있는 가족 약속들을 날짜순으로 조회합니다. " +
+                    "cursor(이전 응답의 nextCursor) / size 로 이어서 조회합니다."
     )
     @GetMapping("/upcoming")
-    public ResponseEntity<List<ScheduleResponse>> getUpcomingSchedules(
-            @RequestHeader("Authorization") String authHeader
+    public ResponseEntity<CursorPage<ScheduleResponse>> getUpcomingSchedules(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @CurrentUser UserPrincipal user
     ) {
-        Long userId = extractUserId(authHeader);
-        List<ScheduleResponse> response = scheduleService.getUpcomingSchedules(userId);
+        CursorPage<ScheduleResponse> response = scheduleService.getUpcomingSchedules(user, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -85,15 +84,17 @@ import java.util.List;
     @Operation(
             summary = "특정 날짜의 일정 목록 조회",
             description = "date=yyyy-MM-dd 쿼리스트링으로 해당 날짜의 가족 약속 목록을 조회합니다. " +
-                    "date 파라미터가 없으면 오늘 날짜 기준으로 조회합니다."
+                    "date 파라미터가 없으면 오늘 날짜 기준으로 조회합니다. " +
+                    "cursor(이전 응답의 nextCursor) / size 로 이어서 조회합니다."
     )
     @GetMapping
-    public ResponseEntity<List<ScheduleResponse>> getSchedulesByDate(
+    public ResponseEntity<CursorPage<ScheduleResponse>> getSchedulesByDate(
             @RequestParam(required = false) LocalDate date,
-            @RequestHeader("Authorization") String authHeader
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @CurrentUser UserPrincipal user
     ) {
-        Long userId = extractUserId(authHeader);
-        List<ScheduleResponse> response = scheduleService.getSchedulesByDate(date, userId);
+        CursorPage<ScheduleResponse> response = scheduleService.getSchedulesByDate(date, user, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -108,10 +109,9 @@ import java.util.List;
     @GetMapping("/{scheduleId}")
     public ResponseEntity<ScheduleUpdateResponse> getScheduleForUpdate(
             @PathVariable Long scheduleId,
-            @RequestHeader("Authorization") String authHeader
+            @CurrentUser UserPrincipal user
     ) {
-        Long userId = extractUserId(authHeader);
-        ScheduleUpdateResponse response = scheduleService.getScheduleForUpdate(scheduleId, userId);
+        ScheduleUpdateResponse response = scheduleService.getScheduleForUpdate(scheduleId, user);
         return ResponseEntity.ok(response);
     }
 
@@ -130,10 +130,9 @@ import java.util.List;
     public ResponseEntity<ScheduleResponse> updateSchedule(
             @PathVariable Long scheduleId,
             @RequestBody ScheduleRequest request,
-            @RequestHeader("Authorization") String authHeader
+            @CurrentUser UserPrincipal user
     ) {
-        Long userId = extractUserId(authHeader);
-        ScheduleResponse response = scheduleService.updateSchedule(scheduleId, userId, request);
+        ScheduleResponse response = scheduleService.updateSchedule(scheduleId, user, request);
         return ResponseEntity.ok(response);
     }
 
@@ -148,21 +147,10 @@ import java.util.List;
     @DeleteMapping("/{scheduleId}")
     public ResponseEntity<Void> cancelSchedule(
             @PathVariable Long scheduleId,
-            @RequestHeader("Authorization") String authHeader
+            @CurrentUser UserPrincipal user
     ) {
-        Long userId = extractUserId(authHeader);
-        scheduleService.cancelSchedule(scheduleId, userId);
+        scheduleService.cancelSchedule(scheduleId, user);
         return ResponseEntity.noContent().build(); // 204 No Content
     }
 
-    private Long extractUserId(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
-        }
-        String token = authHeader.substring(7);
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
-        }
-        return jwtTokenProvider.getUserIdFromToken(token);
-    }
 }
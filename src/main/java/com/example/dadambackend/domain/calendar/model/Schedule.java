@@ -1,6 +1,7 @@
 package com.example.dadambackend.domain.calendar.model;
 
 import com.example.dadambackend.domain.calendar.dto.request.ScheduleRequest;
+import com.example.dadambackend.domain.family.model.Family;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -12,6 +13,13 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "schedule",
+        indexes = {
+                // 가족별 날짜 범위 조회
+                @Index(name = "idx_schedule_family_date", columnList = "family_id, date")
+        }
+)
 public class Schedule {
 
     @Id
@@ -39,14 +47,16 @@ public class Schedule {
     @Column(nullable = false)
     private boolean remind;    // null 불가지만, create에서 기본값 false로 처리
 
-    @Column(name = "family_code")
-    private String familyCode;
+    // 일정을 공유하는 가족
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id")
+    private Family family;
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     /* ---------- 팩토리 메서드 (생성용) ---------- */
-    public static Schedule create(ScheduleRequest request, String familyCode) {
+    public static Schedule create(ScheduleRequest request, Family family) {
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
             throw new IllegalArgumentException("약속 이름(title)은 필수입니다.");
         }
@@ -62,7 +72,7 @@ public class Schedule {
         schedule.memo = emptyToNull(request.getMemo());
         schedule.type = emptyToNull(request.getType());
         schedule.remind = request.getRemind() != null && request.getRemind();
-        schedule.familyCode = (familyCode == null || familyCode.isBlank()) ? "" : familyCode.trim();
+        schedule.family = family;
         schedule.createdAt = LocalDateTime.now();
         return schedule;
     }
@@ -101,11 +111,4 @@ public class Schedule {
     private static String emptyToNull(String s) {
         return (s == null || s.trim().isEmpty()) ? null : s.trim();
     }
-
-    private static String normalizeFamilyCode(String familyCode) {
-        if (familyCode == null) return null;
-        String trimmed = familyCode.trim();
-        if (trimmed.isEmpty()) return null;
-        return trimmed.toUpperCase();
-    }
 }
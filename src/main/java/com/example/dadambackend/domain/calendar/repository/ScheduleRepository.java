@@ -1,7 +1,10 @@
 package com.example.dadambackend.domain.calendar.repository;
 
 import com.example.dadambackend.domain.calendar.model.Schedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -9,12 +12,26 @@ import java.util.List;
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     /**
-     * 오늘 ~ 30일 뒤까지 일정
+     * (date, id) 커서 다음부터 end 날짜까지의 일정 (다가오는 일정)
      */
-    List<Schedule> findByFamilyCodeAndDateBetweenOrderByDateAsc(String familyCode, LocalDate start, LocalDate end);
+    @Query("select s from Schedule s "
+            + "where s.family.id = :familyId and s.date <= :end "
+            + "and (s.date > :date or (s.date = :date and s.id > :id)) "
+            + "order by s.date asc, s.id asc")
+    List<Schedule> findPageUntil(@Param("familyId") Long familyId,
+                                 @Param("end") LocalDate end,
+                                 @Param("date") LocalDate date,
+                                 @Param("id") long id,
+                                 Pageable pageable);
 
     /**
-     * 특정 날짜의 모든 일정
+     * 특정 날짜의 일정 (id 커서 다음부터)
      */
-    List<Schedule> findByFamilyCodeAndDate(String familyCode, LocalDate date);
+    @Query("select s from Schedule s "
+            + "where s.family.id = :familyId and s.date = :date and s.id > :id "
+            + "order by s.id asc")
+    List<Schedule> findPageByDate(@Param("familyId") Long familyId,
+                                  @Param("date") LocalDate date,
+                                  @Param("id") long id,
+                                  Pageable pageable);
 }
@@ -5,10 +5,15 @@ import com.example.dadambackend.domain.calendar.dto.response.ScheduleResponse;
 import com.example.dadambackend.domain.calendar.dto.response.ScheduleUpdateResponse;
 import com.example.dadambackend.domain.calendar.model.Schedule;
 import com.example.dadambackend.domain.calendar.repository.ScheduleRepository;
-import com.example.dadambackend.domain.user.model.User;
-import com.example.dadambackend.domain.user.repository.UserRepository;
+import com.example.dadambackend.domain.family.service.FamilyService;
+import com.example.dadambackend.domain.family.support.FamilyPermissionChecker;
+import com.example.dadambackend.domain.notification.service.NotificationService;
 import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.global.pagination.Cursors;
+import com.example.dadambackend.global.pagination.PageSizePolicy;
+import com.example.dadambackend.global.response.CursorPage;
+import com.example.dadambackend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,13 +30,16 @@ public class ScheduleService {
     public static final int UPCOMING_DAYS = 30;
 
     private final ScheduleRepository scheduleRepository;
-    private final UserRepository userRepository;
+    private final FamilyService familyService;
+    private final FamilyPermissionChecker familyPermissionChecker;
+    private final PageSizePolicy pageSizePolicy;
+    private final NotificationService notificationService;
 
     /**
      * 일정 등록
      */
     @Transactional
-    public ScheduleResponse createSchedule(Long userId, ScheduleRequest request) {
+    public ScheduleResponse createSchedule(UserPrincipal user, ScheduleRequest request) {
 
         // 필수값 검증 (프론트에서 막아주지만, 백엔드에서도 한 번 더)
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
@@ -42,11 +49,11 @@ public class ScheduleService {
             throw new BusinessException(ErrorCode.INVALID_REQUEST, "약속 날짜(date)는 필수입니다.");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Long familyId = familyPermissionChecker.requireFamilyId(user, "가족에 속한 뒤 일정을 등록할 수 있습니다.");
 
-        Schedule schedule = Schedule.create(request, user.getFamilyCode());
+        Schedule schedule = Schedule.create(request, familyService.getReference(familyId));
         Schedule saved = scheduleRepository.save(schedule);
+        notificationService.notifyScheduleCreated(user, saved.getTitle(), saved.getDate());
 
         return ScheduleResponse.from(saved, isUpcoming(saved.getDate()));
     }
@@ -54,12 +61,12 @@ public class ScheduleService {
     /**
      * 일정 상세 조회 (수정용)
      */
-    public ScheduleUpdateResponse getScheduleForUpdate(Long scheduleId, Long userId) {
+    public ScheduleUpdateResponse getScheduleForUpdate(Long scheduleId, UserPrincipal user) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() ->
                         new BusinessException(ErrorCode.GAME_NOT_FOUND, "수정하려는 일정을 찾을 수 없습니다."));
 
-        validateFamilyAccess(schedule, userId);
+        validateFamilyAccess(schedule, user);
 
         return ScheduleUpdateResponse.from(schedule);
     }
@@ -68,12 +75,12 @@ public class ScheduleService {
      * 일정 수정
      */
     @Transactional
-    public ScheduleResponse updateSchedule(Long scheduleId, Long userId, ScheduleRequest request) {
+    public ScheduleResponse updateSchedule(Long scheduleId, UserPrincipal user, ScheduleRequest request) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() ->
                         new BusinessException(ErrorCode.GAME_NOT_FOUND, "수정하려는 일정을 찾을 수 없습니다."));
 
-        validateFamilyAccess(schedule, userId);
+        validateFamilyAccess(schedule, user);
 
         schedule.update(request);
 
@@ -81,21 +88,24 @@ public class ScheduleService {
     }
 
     /**
-     * 다가오는 일정 목록 조회 (오늘부터 30일)
+     * 다가오는 일정 목록 조회 (오늘부터 30일, 날짜순 커서 페이지)
+     * - 가족이 없으면 빈 목록
      */
-    public List<ScheduleResponse> getUpcomingSchedules(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        String familyCode = normalize(user.getFamilyCode());
+    public CursorPage<ScheduleResponse> getUpcomingSchedules(UserPrincipal user, String cursor, Integer size) {
+        if (user.familyId() == null) {
+            return CursorPage.empty();
+        }
+        int pageSize = pageSizePolicy.resolve(size);
         LocalDate today = LocalDate.now();
         LocalDate end = today.plusDays(UPCOMING_DAYS);
+        Cursors.DateKey after = Cursors.decodeDate(cursor, today);
 
-        List<Schedule> schedules =
-                scheduleRepository.findByFamilyCodeAndDateBetweenOrderByDateAsc(familyCode, today, end);
+        List<Schedule> schedules = scheduleRepository.findPageUntil(
+                user.familyId(), end, after.date(), after.id(), pageSizePolicy.lookAhead(pageSize));
 
-        return schedules.stream()
-                .map(s -> ScheduleResponse.from(s, true))
-                .collect(Collectors.toList());
+        return CursorPage.of(schedules, pageSize,
+                s -> Cursors.encode(s.getDate(), s.getId()),
+                s -> ScheduleResponse.from(s, true));
     }
 
     /**
@@ -103,30 +113,41 @@ public class ScheduleService {
      * 특정 날짜의 일정 목록 조회
      *
      * - date가 null 이면 오늘(LocalDate.now()) 기준으로 조회
-     * - 리턴은 ScheduleResponse 리스트
+     * - 리턴은 ScheduleResponse 커서 페이지 (등록순)
+     * - cursor 는 같은 날짜 목록에서 받은 것만 받는다 (다른 날짜면 INVALID_REQUEST)
+     * - 가족이 없으면 빈 목록
      */
-    public List<ScheduleResponse> getSchedulesByDate(LocalDate date, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        String familyCode = normalize(user.getFamilyCode());
+    public CursorPage<ScheduleResponse> getSchedulesByDate(LocalDate date, UserPrincipal user,
+                                                           String cursor, Integer size) {
+        if (user.familyId() == null) {
+            return CursorPage.empty();
+        }
+        int pageSize = pageSizePolicy.resolve(size);
         LocalDate targetDate = (date != null) ? date : LocalDate.now();
+        // 같은 날짜 안에서는 id 만으로 이어서 조회
+        Cursors.DateKey after = Cursors.decodeDate(cursor, targetDate);
+        if (!after.date().equals(targetDate)) {
+            // 다른 날짜 목록의 cursor 로 이어 보면 그 id 기준으로 이 날짜의 일정이 빠지거나 섞인다
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "다른 날짜의 cursor 입니다.");
+        }
 
-        List<Schedule> schedules = scheduleRepository.findByFamilyCodeAndDate(familyCode, targetDate);
+        List<Schedule> schedules = scheduleRepository.findPageByDate(
+                user.familyId(), targetDate, after.id(), pageSizePolicy.lookAhead(pageSize));
 
-        return schedules.stream()
-                .map(s -> ScheduleResponse.from(s, isUpcoming(s.getDate())))
-                .collect(Collectors.toList());
+        return CursorPage.of(schedules, pageSize,
+                s -> Cursors.encode(s.getDate(), s.getId()),
+                s -> ScheduleResponse.from(s, isUpcoming(s.getDate())));
     }
 
     /**
      * 일정 취소 (삭제)
      */
     @Transactional
-    public void cancelSchedule(Long scheduleId, Long userId) {
+    public void cancelSchedule(Long scheduleId, UserPrincipal user) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GAME_NOT_FOUND, "취소하려는 일정을 찾을 수 없습니다."));
 
-        validateFamilyAccess(schedule, userId);
+        validateFamilyAccess(schedule, user);
 
         scheduleRepository.delete(schedule);
     }
@@ -136,16 +157,7 @@ public class ScheduleService {
         return diff >= 0 && diff <= UPCOMING_DAYS;
     }
 
-    private void validateFamilyAccess(Schedule schedule, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        if (!normalize(schedule.getFamilyCode()).equals(normalize(user.getFamilyCode()))) {
-            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS, "다른 가족의 일정에는 접근할 수 없습니다.");
-        }
-    }
-
-    private String normalize(String code) {
-        return (code == null || code.isBlank()) ? "" : code.trim();
+    private void validateFamilyAccess(Schedule schedule, UserPrincipal user) {
+        familyPermissionChecker.checkSameFamily(schedule.getFamily(), user, "다른 가족의 일정에는 접근할 수 없습니다.");
     }
 }
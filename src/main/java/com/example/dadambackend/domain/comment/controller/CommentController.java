@@ -3,29 +3,31 @@ package com.example.dadambackend.domain.comment.controller;
 import com.example.dadambackend.domain.comment.dto.request.CommentRequest;
 import com.example.dadambackend.domain.comment.dto.response.CommentResponse;
 import com.example.dadambackend.domain.comment.service.CommentService;
-import com.example.dadambackend.security.JwtTokenProvider;
+import com.example.dadambackend.global.response.CursorPage;
+import com.example.dadambackend.security.CurrentUser;
+import com.example.dadambackend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/answers/{answerId}/comments")
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     /**
-     * GET /api/v1/answers/{answerId}/comments
-     * 특정 답변에 달린 모든 댓글 조회
+     * GET /api/v1/answers/{answerId}/comments?cursor=...&size=20
+     * 특정 답변에 달린 댓글 조회 (작성순, 커서 페이지)
      */
     @GetMapping
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable Long answerId) {
-        List<CommentResponse> response = commentService.getCommentsByAnswer(answerId);
+    public ResponseEntity<CursorPage<CommentResponse>> getComments(
+            @PathVariable Long answerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<CommentResponse> response = commentService.getCommentsByAnswer(answerId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -37,11 +39,9 @@ public class CommentController {
     public ResponseEntity<Void> createComment(
             @PathVariable Long answerId,
             @RequestBody CommentRequest request,
-            @RequestHeader("Authorization") String authHeader) {
-
-        Long userId = extractUserId(authHeader);
+            @CurrentUser UserPrincipal user) {
 
-        commentService.createComment(answerId, userId, request);
+        commentService.createComment(answerId, user, request);
 
         // 201 Created 응답
         return ResponseEntity.status(HttpStatus.CREATED).build();
@@ -56,9 +56,7 @@ public class CommentController {
             @PathVariable Long answerId,
             @PathVariable Long commentId,
             @RequestBody CommentRequest request,
-            @RequestHeader("Authorization") String authHeader) {
-
-        Long userId = extractUserId(authHeader);
+            @CurrentUser Long userId) {
 
         commentService.updateComment(answerId, commentId, userId, request);
         // 204 No Content
@@ -73,20 +71,11 @@ public class CommentController {
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long answerId,
             @PathVariable Long commentId,
-            @RequestHeader("Authorization") String authHeader) {
-
-        Long userId = extractUserId(authHeader);
+            @CurrentUser Long userId) {
 
         commentService.deleteComment(answerId, commentId, userId);
         // 204 No Content
         return ResponseEntity.noContent().build();
     }
 
-    private Long extractUserId(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new IllegalArgumentException("잘못된 Authorization 헤더 형식입니다.");
-        }
-        String token = authHeader.replace("Bearer ", "");
-        return jwtTokenProvider.getUserIdFromToken(token);
-    }
 }
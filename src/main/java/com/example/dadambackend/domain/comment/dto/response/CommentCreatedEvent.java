@@ -0,0 +1,14 @@
+package com.example.dadambackend.domain.comment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 작성 실시간 이벤트 (답변이 속한 가족 채널 COMMENT_CREATED)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCreatedEvent {
+    private Long answerId;
+    private CommentResponse comment;
+}
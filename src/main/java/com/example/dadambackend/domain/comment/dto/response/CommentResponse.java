@@ -24,4 +24,15 @@ public class CommentResponse {
                 .createdAt(comment.getCreatedAt())
                 .build();
     }
+
+    // 작성자 이름을 따로 받는 버전 (작성자 User 를 로딩하지 않고 응답 생성)
+    public static CommentResponse of(Comment comment, Long userId, String userName) {
+        return CommentResponse.builder()
+                .commentId(comment.getId())
+                .userId(userId)
+                .userName(userName)
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
 }
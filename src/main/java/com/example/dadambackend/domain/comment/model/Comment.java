@@ -14,6 +14,14 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "comment",
+        indexes = {
+                // 답변별 댓글 목록 / 댓글 수
+                @Index(name = "idx_comment_answer_created", columnList = "answer_id, created_at"),
+                @Index(name = "idx_comment_user", columnList = "user_id")
+        }
+)
 public class Comment {
 
     public static final int MAX_COMMENT_LENGTH = 50; // 글자수 제한 (최대 50자)
@@ -36,6 +44,8 @@ public class Comment {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 키셋 페이지 정렬 키 (NULL 이면 목록에서 빠지므로 NOT NULL)
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     @PrePersist
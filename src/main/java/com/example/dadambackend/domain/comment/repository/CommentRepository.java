@@ -1,16 +1,26 @@
 package com.example.dadambackend.domain.comment.repository;
 
 import com.example.dadambackend.domain.comment.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    // 특정 답변(answerId)에 달린 모든 댓글을 최신순으로 조회
-    List<Comment> findByAnswerIdOrderByCreatedAtAsc(Long answerId);
-
-    // 1인당 댓글 개수 제한을 위한 메서드
-    long countByUserId(Long userId);
-
-    long countByAnswerId(Long answerId);
+    /**
+     * 특정 답변(answerId)에 달린 댓글을 작성순으로 (createdAt, id) 커서 다음부터 pageable 크기만큼
+     * - 작성자 이름을 응답에 쓰므로 user 를 함께 가져온다.
+     */
+    @Query("select c from Comment c join fetch c.user "
+            + "where c.answer.id = :answerId "
+            + "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) "
+            + "order by c.createdAt asc, c.id asc")
+    List<Comment> findPageByAnswerId(@Param("answerId") Long answerId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") long id,
+                                     Pageable pageable);
 }
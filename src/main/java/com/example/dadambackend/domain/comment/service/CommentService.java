@@ -1,21 +1,30 @@
 package com.example.dadambackend.domain.comment.service;
 
+import com.example.dadambackend.common.quota.QuotaService;
+import com.example.dadambackend.common.quota.QuotaType;
+import com.example.dadambackend.common.realtime.FamilyEventHub;
+import com.example.dadambackend.common.realtime.FamilyEventType;
 import com.example.dadambackend.domain.answer.model.Answer;
 import com.example.dadambackend.domain.answer.repository.AnswerRepository; // Answer Repository 참조
 import com.example.dadambackend.domain.comment.dto.request.CommentRequest;
+import com.example.dadambackend.domain.comment.dto.response.CommentCreatedEvent;
 import com.example.dadambackend.domain.comment.dto.response.CommentResponse;
 import com.example.dadambackend.domain.comment.model.Comment;
 import com.example.dadambackend.domain.comment.repository.CommentRepository;
+import com.example.dadambackend.domain.notification.service.NotificationService;
 import com.example.dadambackend.domain.user.model.User;
 import com.example.dadambackend.domain.user.repository.UserRepository;
 import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.global.pagination.Cursors;
+import com.example.dadambackend.global.pagination.PageSizePolicy;
+import com.example.dadambackend.global.response.CursorPage;
+import com.example.dadambackend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,32 +36,42 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final AnswerRepository answerRepository; // 답변 엔티티 조회를 위해 필요
     private final UserRepository userRepository;
+    private final PageSizePolicy pageSizePolicy;
+    private final QuotaService quotaService;
+    private final FamilyEventHub familyEventHub;
+    private final NotificationService notificationService;
 
     /**
-     * 특정 답변에 달린 모든 댓글 조회
+     * 특정 답변에 달린 댓글을 작성순으로 한 페이지 조회
+     * - cursor 는 이전 페이지의 nextCursor (첫 페이지면 null)
      */
-    public List<CommentResponse> getCommentsByAnswer(Long answerId) {
+    public CursorPage<CommentResponse> getCommentsByAnswer(Long answerId, String cursor, Integer size) {
         // Answer 존재 여부 확인
         if (!answerRepository.existsById(answerId)) {
             throw new BusinessException(ErrorCode.GAME_NOT_FOUND, "해당 답변을 찾을 수 없습니다.");
         }
 
-        List<Comment> comments = commentRepository.findByAnswerIdOrderByCreatedAtAsc(answerId);
+        int pageSize = pageSizePolicy.resolve(size);
+        Cursors.TimeKey after = Cursors.decodeTime(cursor);
 
-        return comments.stream()
-                .map(CommentResponse::from)
-                .collect(Collectors.toList());
+        List<Comment> comments = commentRepository.findPageByAnswerId(
+                answerId, after.createdAt(), after.id(), pageSizePolicy.lookAhead(pageSize));
+
+        return CursorPage.of(comments, pageSize,
+                c -> Cursors.encode(c.getCreatedAt(), c.getId()),
+                CommentResponse::from);
     }
 
     /**
      * 댓글 작성 로직
+     * - 커밋 후 답변이 속한 가족 채널에 COMMENT_CREATED 이벤트 + 가족 푸시 알림 등록
      */
     @Transactional
-    public void createComment(Long answerId, Long userId, CommentRequest request) {
+    public void createComment(Long answerId, UserPrincipal author, CommentRequest request) {
+        Long userId = author.userId();
 
-        // 1. 1인당 댓글 개수 제한 검사
-        long userCommentCount = commentRepository.countByUserId(userId);
-        if (userCommentCount >= MAX_COMMENTS_PER_USER) {
+        // 1. 1인당 댓글 개수 제한 검사 (카운터 조건부 +1, 저장이 실패하면 트랜잭션과 함께 롤백)
+        if (!quotaService.tryAcquire(userId, QuotaType.COMMENT, MAX_COMMENTS_PER_USER)) {
             throw new BusinessException(
                     ErrorCode.INVALID_REQUEST,
                     "1인당 최대 " + MAX_COMMENTS_PER_USER + "개의 댓글만 작성할 수 있습니다."
@@ -63,14 +82,23 @@ public class CommentService {
         Answer answer = answerRepository.findById(answerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GAME_NOT_FOUND, "해당 답변을 찾을 수 없습니다."));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND)); // User 엔티티는 재사용
+        // 존재 여부는 인증 시 principal 조회로 확인됨 → SELECT 없이 참조만
+        User user = userRepository.getReferenceById(userId);
 
         // 3. 댓글 생성 및 저장
         Comment comment = new Comment(answer, user, request.getContent());
 
         // Comment 생성자에서 글자 수 제한 유효성 검사를 수행합니다.
         commentRepository.save(comment);
+
+        // 4. 답변의 댓글 수 +1 (목록 조회 때 집계하지 않도록)
+        answerRepository.addCommentCount(answerId, 1);
+
+        // 5. 실시간 이벤트 (답변의 family 는 프록시 id 만 읽으므로 SELECT 없음)
+        Long familyId = answer.getFamily() == null ? null : answer.getFamily().getId();
+        familyEventHub.publish(familyId, FamilyEventType.COMMENT_CREATED,
+                new CommentCreatedEvent(answerId, CommentResponse.of(comment, userId, author.name())));
+        notificationService.notifyCommentCreated(familyId, author, comment.getContent());
     }
 
     /**
@@ -134,7 +162,9 @@ public class CommentService {
             );
         }
 
-        // 4. 삭제
+        // 4. 삭제 + 답변의 댓글 수 -1, 작성자 댓글 한도 반환
         commentRepository.delete(comment);
+        answerRepository.addCommentCount(answerId, -1);
+        quotaService.release(userId, QuotaType.COMMENT);
     }
 }
@@ -0,0 +1,41 @@
+package com.example.dadambackend.domain.family.controller;
+
+import com.example.dadambackend.common.realtime.FamilyEventHub;
+import com.example.dadambackend.global.exception.BusinessException;
+import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.security.CurrentUser;
+import com.example.dadambackend.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "가족 실시간 이벤트", description = "가족의 투표 / 답변 / 댓글을 Server-Sent Events 로 받습니다.")
+@RestController
+@RequestMapping("/api/v1/family/events")
+@RequiredArgsConstructor
+public class FamilyEventController {
+
+    private final FamilyEventHub familyEventHub;
+
+    /**
+     * GET /api/v1/family/events
+     * 이벤트 : BALANCE_VOTE, QUIZ_VOTE, ANSWER_CREATED, COMMENT_CREATED (data 는 JSON)
+     */
+    @Operation(
+            summary = "가족 이벤트 구독",
+            description = "연결을 열어 두면 가족이 투표하거나 답변/댓글을 쓸 때마다 이벤트가 옵니다. " +
+                    "연결이 끊기면 클라이언트가 다시 연결합니다."
+    )
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@CurrentUser UserPrincipal user) {
+        if (user.familyId() == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "가족에 속한 사용자만 구독할 수 있습니다.");
+        }
+        return familyEventHub.subscribe(user.familyId(), user.userId());
+    }
+}
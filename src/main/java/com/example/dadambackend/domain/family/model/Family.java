@@ -1 +1,41 @@
- 
+package com.example.dadambackend.domain.family.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가족 (초대 코드 하나 = 가족 하나)
+ * - 유저/일정/답변/투표는 문자열 가족 코드 대신 family_id 로 가족을 참조한다.
+ * - code 는 FamilyService.normalizeCode 로 정규화(공백 제거 + 대문자)된 값만 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "family",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_family_code", columnNames = "code")
+        }
+)
+public class Family {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 초대 코드
+    @Column(nullable = false)
+    private String code;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public Family(String code) {
+        this.code = code;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -1 +1,33 @@
- 
+package com.example.dadambackend.domain.family.repository;
+
+import com.example.dadambackend.domain.family.model.Family;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface FamilyRepository extends JpaRepository<Family, Long> {
+
+    Optional<Family> findByCode(String code);
+
+    /**
+     * 공유 잠금 조회 (lock in share mode)
+     * - 잠금 읽기는 트랜잭션 스냅샷이 아니라 최신 커밋 행을 보므로,
+     *   insertIfAbsent 직후 다른 트랜잭션이 먼저 만든 가족도 찾을 수 있다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<Family> findWithLockByCode(String code);
+
+    /**
+     * 코드가 없을 때만 가족 생성 (이미 있으면 아무것도 안 하고 0 반환)
+     * - uk_family_code 충돌을 예외 대신 0 으로 받기 위해 INSERT IGNORE 사용
+     */
+    @Modifying
+    @Query(value = "insert ignore into family (code, created_at) values (:code, :createdAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("code") String code, @Param("createdAt") LocalDateTime createdAt);
+}
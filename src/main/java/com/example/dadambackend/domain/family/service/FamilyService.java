@@ -1 +1,75 @@
- 
+package com.example.dadambackend.domain.family.service;
+
+import com.example.dadambackend.domain.family.model.Family;
+import com.example.dadambackend.domain.family.repository.FamilyRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FamilyService {
+
+    private final FamilyRepository familyRepository;
+
+    /**
+     * 가족 코드 정규화 (양쪽 공백 제거 + 대문자), 값이 없으면 null
+     * - 코드 문자열은 가족을 찾거나 만들 때 여기서 한 번만 정규화하고, 이후에는 family_id 로만 비교한다.
+     */
+    public static String normalizeCode(String code) {
+        if (code == null) return null;
+        String trimmed = code.trim();
+        if (trimmed.isEmpty()) return null;
+        return trimmed.toUpperCase();
+    }
+
+    /**
+     * 코드에 해당하는 가족이 있으면 그 가족, 없으면 그 코드로 새 가족 생성 (코드가 비어 있으면 null)
+     * - 같은 새 코드로 동시에 가입해도 INSERT IGNORE 라 한쪽만 만들어지고, 둘 다 잠금 조회로 같은 가족을 받는다.
+     *   (SELECT 후 save 는 둘 다 없다고 보고 INSERT 해서 uk_family_code 충돌 → 500 이 났음)
+     */
+    @Transactional
+    public Family joinOrCreate(String rawCode) {
+        String code = normalizeCode(rawCode);
+        if (code == null) {
+            return null;
+        }
+        Optional<Family> existing = familyRepository.findByCode(code);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        familyRepository.insertIfAbsent(code, LocalDateTime.now());
+        return findCreated(code);
+    }
+
+    /**
+     * 새 초대 코드로 가족 생성
+     * - 초대 코드 패턴: "DADAM-" + 랜덤 6자리
+     * - 이미 있는 코드면 INSERT IGNORE 가 0 을 돌려주므로 새 코드로 다시 시도
+     */
+    @Transactional
+    public Family createWithGeneratedCode() {
+        String code;
+        do {
+            code = "DADAM-" + RandomStringUtils.randomAlphanumeric(6).toUpperCase();
+        } while (familyRepository.insertIfAbsent(code, LocalDateTime.now()) == 0);
+        return findCreated(code);
+    }
+
+    private Family findCreated(String code) {
+        return familyRepository.findWithLockByCode(code)
+                .orElseThrow(() -> new IllegalStateException("생성한 가족을 찾을 수 없습니다: " + code));
+    }
+
+    /**
+     * family_id 만으로 FK 를 채울 때 사용 (SELECT 없음), familyId 가 null 이면 null
+     */
+    public Family getReference(Long familyId) {
+        return familyId == null ? null : familyRepository.getReferenceById(familyId);
+    }
+}
@@ -1 +1,36 @@
- 
+package com.example.dadambackend.domain.family.support;
+
+import com.example.dadambackend.domain.family.model.Family;
+import com.example.dadambackend.global.exception.BusinessException;
+import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.security.UserPrincipal;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 가족 단위 리소스 접근 검사 (family_id 비교만, 추가 조회 없음)
+ */
+@Component
+public class FamilyPermissionChecker {
+
+    /**
+     * 요청 유저가 가족에 속해 있어야 하는 기능용
+     */
+    public Long requireFamilyId(UserPrincipal user, String message) {
+        if (user.familyId() == null) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS, message);
+        }
+        return user.familyId();
+    }
+
+    /**
+     * 리소스의 가족과 요청 유저의 가족이 같은지 확인 (둘 중 하나라도 가족이 없으면 거부)
+     */
+    public void checkSameFamily(Family owner, UserPrincipal user, String message) {
+        Long ownerFamilyId = owner == null ? null : owner.getId();
+        if (ownerFamilyId == null || !Objects.equals(ownerFamilyId, user.familyId())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS, message);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.dadambackend.domain.home.controller;
+
+import com.example.dadambackend.domain.home.dto.response.HomeResponse;
+import com.example.dadambackend.domain.home.service.HomeResult;
+import com.example.dadambackend.domain.home.service.HomeService;
+import com.example.dadambackend.security.CurrentUser;
+import com.example.dadambackend.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "홈", description = "앱 첫 화면 데이터를 한 번에 조회합니다.")
+@RestController
+@RequestMapping("/api/v1/home")
+@RequiredArgsConstructor
+public class HomeApiController {
+
+    private final HomeService homeService;
+
+    /**
+     * GET /api/v1/home
+     * 내 프로필, 가족, 오늘의 질문 + 답변, 밸런스 게임, 신조어 퀴즈, 다가오는 일정
+     * 섹션별 소요 시간은 Server-Timing 헤더로 내려준다.
+     */
+    @Operation(
+            summary = "홈 화면 데이터 조회",
+            description = "오늘 화면에 필요한 섹션들을 동시에 조회해서 한 번에 반환합니다. " +
+                    "실패하거나 시간 안에 끝나지 않은 섹션은 null 입니다. " +
+                    "섹션별 소요 시간은 Server-Timing 응답 헤더에 있습니다."
+    )
+    @GetMapping
+    public ResponseEntity<HomeResponse> getHome(@CurrentUser UserPrincipal user) {
+        HomeResult result = homeService.load(user);
+        return ResponseEntity.ok()
+                .header("Server-Timing", result.serverTiming())
+                .body(result.body());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.dadambackend.domain.home.dto.response;
+
+import com.example.dadambackend.domain.answer.dto.response.AnswerResponse;
+import com.example.dadambackend.domain.balance.dto.BalanceGameTodayResponse;
+import com.example.dadambackend.domain.calendar.dto.response.ScheduleResponse;
+import com.example.dadambackend.domain.question.dto.QuestionResponse;
+import com.example.dadambackend.domain.quiz.dto.SlangQuizTodayResponse;
+import com.example.dadambackend.domain.user.dto.response.UserProfileResponse;
+import com.example.dadambackend.global.response.CursorPage;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 앱 첫 화면에 필요한 오늘 데이터 묶음 (GET /api/v1/home)
+ * - 각 섹션은 개별 API 응답과 같은 형태이고, 실패한 섹션은 null
+ * - 섹션별 상태/소요 시간은 본문 대신 Server-Timing 응답 헤더로 (HomeService)
+ */
+@Getter
+@Builder
+public class HomeResponse {
+
+    private UserProfileResponse profile;
+    private List<UserProfileResponse> family;
+    private QuestionResponse question;
+    private CursorPage<AnswerResponse> answers;
+    private BalanceGameTodayResponse balanceGame;
+    private SlangQuizTodayResponse slangQuiz;
+    private CursorPage<ScheduleResponse> upcomingSchedules;
+}
@@ -0,0 +1,11 @@
+package com.example.dadambackend.domain.home.service;
+
+import com.example.dadambackend.domain.home.dto.response.HomeResponse;
+
+/**
+ * 홈 조회 결과
+ * - body : 응답 본문
+ * - serverTiming : 섹션별 상태/소요 시간 (Server-Timing 헤더 값, 본문에는 넣지 않는다)
+ */
+public record HomeResult(HomeResponse body, String serverTiming) {
+}
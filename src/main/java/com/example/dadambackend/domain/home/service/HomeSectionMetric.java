@@ -0,0 +1,30 @@
+package com.example.dadambackend.domain.home.service;
+
+/**
+ * 홈 화면 섹션별 조회 결과 (서버 로그 + Server-Timing 헤더용, 응답 본문에는 넣지 않는다)
+ * - status : OK / ERROR / TIMEOUT (OK 가 아니면 해당 섹션 데이터는 null → 프론트가 개별 API 로 다시 조회)
+ */
+record HomeSectionMetric(String section, String status, long elapsedMs) {
+
+    static final String OK = "OK";
+    static final String ERROR = "ERROR";
+    static final String TIMEOUT = "TIMEOUT";
+
+    boolean ok() {
+        return OK.equals(status);
+    }
+
+    /**
+     * Server-Timing 항목 한 개 (예: balanceGame;desc="TIMEOUT";dur=3000)
+     */
+    String serverTiming() {
+        return ok()
+                ? section + ";dur=" + elapsedMs
+                : section + ";desc=\"" + status + "\";dur=" + elapsedMs;
+    }
+
+    @Override
+    public String toString() {
+        return section + "=" + status + " " + elapsedMs + "ms";
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.dadambackend.domain.home.service;
+
+import com.example.dadambackend.domain.answer.service.AnswerService;
+import com.example.dadambackend.domain.balance.service.BalanceGameService;
+import com.example.dadambackend.domain.calendar.service.ScheduleService;
+import com.example.dadambackend.domain.home.dto.response.HomeResponse;
+import com.example.dadambackend.domain.question.service.QuestionService;
+import com.example.dadambackend.domain.quiz.service.SlangQuizService;
+import com.example.dadambackend.domain.user.service.UserProfileService;
+import com.example.dadambackend.global.exception.BusinessException;
+import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.security.UserPrincipal;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 홈 화면 데이터 묶음 조회
+ * - 요청 principal 은 한 번만 확인하고, 서로 독립적인 섹션은 home-loader 스레드에서 동시에 조회한다.
+ *   (답변만 오늘 질문 id 가 필요해서 질문 조회 뒤에 이어서 실행)
+ * - 섹션 하나가 실패하거나 timeout-ms 안에 끝나지 않으면 그 섹션만 null 로 두고 나머지는 그대로 응답
+ * - 각 섹션은 기존 서비스 메서드를 그대로 호출하므로 트랜잭션도 섹션별로 짧게 끝난다.
+ * - 스레드 수가 동시에 쓰는 DB 커넥션 수의 상한이 되므로 Hikari 풀보다 작게 둔다.
+ *   큐가 가득 차면 요청 스레드가 직접 실행한다. (부하가 몰리면 순차 조회로 자연스럽게 후퇴)
+ * - 섹션별 상태/소요 시간은 응답 본문에 넣지 않고 Server-Timing 헤더 값으로 돌려준다. (브라우저 개발자 도구에서 확인)
+ *   실패/시간 초과 섹션이 있거나 slow-log-ms 를 넘은 요청은 로그로도 남긴다.
+ */
+@Service
+public class HomeService {
+
+    private final UserProfileService userProfileService;
+    private final QuestionService questionService;
+    private final AnswerService answerService;
+    private final BalanceGameService balanceGameService;
+    private final SlangQuizService slangQuizService;
+    private final ScheduleService scheduleService;
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final long slowLogMs;
+
+    public HomeService(
+            UserProfileService userProfileService,
+            QuestionService questionService,
+            AnswerService answerService,
+            BalanceGameService balanceGameService,
+            SlangQuizService slangQuizService,
+            ScheduleService scheduleService,
+            @Value("${home.threads:16}") int threads,
+            @Value("${home.queue-capacity:200}") int queueCapacity,
+            @Value("${home.timeout-ms:3000}") long timeoutMs,
+            @Value("${home.slow-log-ms:1000}") long slowLogMs
+    ) {
+        this.userProfileService = userProfileService;
+        this.questionService = questionService;
+        this.answerService = answerService;
+        this.balanceGameService = balanceGameService;
+        this.slangQuizService = slangQuizService;
+        this.scheduleService = scheduleService;
+        this.timeoutMs = timeoutMs;
+        this.slowLogMs = slowLogMs;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "home-loader-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public HomeResult load(UserPrincipal user) {
+        long startedAt = System.nanoTime();
+        List<HomeSectionMetric> metrics = new ArrayList<>();
+        Map<String, CompletableFuture<?>> sections = new LinkedHashMap<>();
+
+        var profile = section(sections, metrics, "profile",
+                () -> userProfileService.getProfile(user.userId()));
+        var family = section(sections, metrics, "family",
+                () -> userProfileService.getMyFamilyMembers(user));
+        var question = section(sections, metrics, "question", questionService::getTodayQuestion);
+        var balanceGame = section(sections, metrics, "balanceGame",
+                () -> balanceGameService.getOrCreateTodayGame(user));
+        var slangQuiz = section(sections, metrics, "slangQuiz",
+                () -> slangQuizService.getOrCreateTodayQuiz(user));
+        var upcomingSchedules = section(sections, metrics, "upcomingSchedules",
+                () -> scheduleService.getUpcomingSchedules(user, null, null));
+        var answers = question.thenCompose(q -> runSection(metrics, "answers", () -> {
+            if (q == null) {
+                throw new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
+            }
+            return answerService.getAnswersByQuestionId(q.getId(), user, null, null);
+        }));
+        sections.put("answers", answers);
+
+        awaitAll(sections.values());
+
+        List<HomeSectionMetric> result;
+        synchronized (metrics) {
+            result = new ArrayList<>(metrics);
+        }
+        sections.forEach((name, future) -> {
+            if (!future.isDone()) {
+                result.add(new HomeSectionMetric(name, HomeSectionMetric.TIMEOUT, timeoutMs));
+            }
+        });
+
+        long totalMs = elapsedMs(startedAt);
+        logIfDegraded(user, result, totalMs);
+
+        HomeResponse body = HomeResponse.builder()
+                .profile(profile.getNow(null))
+                .family(family.getNow(null))
+                .question(question.getNow(null))
+                .answers(answers.getNow(null))
+                .balanceGame(balanceGame.getNow(null))
+                .slangQuiz(slangQuiz.getNow(null))
+                .upcomingSchedules(upcomingSchedules.getNow(null))
+                .build();
+        return new HomeResult(body, serverTiming(result, totalMs));
+    }
+
+    private static String serverTiming(List<HomeSectionMetric> metrics, long totalMs) {
+        StringBuilder header = new StringBuilder();
+        for (HomeSectionMetric metric : metrics) {
+            header.append(metric.serverTiming()).append(", ");
+        }
+        return header.append("total;dur=").append(totalMs).toString();
+    }
+
+    private void logIfDegraded(UserPrincipal user, List<HomeSectionMetric> metrics, long totalMs) {
+        boolean degraded = metrics.stream().anyMatch(metric -> !metric.ok());
+        if (degraded || totalMs >= slowLogMs) {
+            System.out.println("[HomeService] 홈 조회 " + totalMs + "ms (userId=" + user.userId() + ") " + metrics);
+        }
+    }
+
+    private <T> CompletableFuture<T> section(Map<String, CompletableFuture<?>> sections,
+                                             List<HomeSectionMetric> metrics,
+                                             String name, Supplier<T> loader) {
+        CompletableFuture<T> future = runSection(metrics, name, loader);
+        sections.put(name, future);
+        return future;
+    }
+
+    /**
+     * 섹션 하나를 home-loader 스레드에서 실행 (실패하면 null 로 완료하고 ERROR 기록)
+     */
+    private <T> CompletableFuture<T> runSection(List<HomeSectionMetric> metrics, String name, Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startedAt = System.nanoTime();
+            String status = HomeSectionMetric.OK;
+            try {
+                return loader.get();
+            } catch (RuntimeException e) {
+                status = HomeSectionMetric.ERROR;
+                System.out.println("[HomeService] " + name + " 섹션 조회 실패: " + e.getMessage());
+                return null;
+            } finally {
+                synchronized (metrics) {
+                    metrics.add(new HomeSectionMetric(name, status, elapsedMs(startedAt)));
+                }
+            }
+        }, executor);
+    }
+
+    private void awaitAll(Iterable<CompletableFuture<?>> futures) {
+        List<CompletableFuture<?>> list = new ArrayList<>();
+        futures.forEach(list::add);
+        try {
+            CompletableFuture.allOf(list.toArray(CompletableFuture[]::new)).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            System.out.println("[HomeService] " + timeoutMs + "ms 안에 끝나지 않은 섹션은 비워서 응답");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 섹션 실패는 runSection 에서 null 로 처리되므로 여기까지 오지 않는다
+        }
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
@@ -1 +1,46 @@
- 
+package com.example.dadambackend.domain.notification.controller;
+
+import com.example.dadambackend.domain.notification.dto.request.RegisterTokenRequest;
+import com.example.dadambackend.domain.notification.service.NotificationService;
+import com.example.dadambackend.security.CurrentUser;
+import com.example.dadambackend.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "푸시 알림", description = "기기 FCM 토큰 등록 / 해제")
+@RestController
+@RequestMapping("/api/v1/notifications/tokens")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * POST /api/v1/notifications/tokens
+     * 기기 토큰 등록 (같은 토큰을 여러 번 보내도 결과는 같음)
+     */
+    @Operation(summary = "기기 토큰 등록", description = "앱 시작 / 로그인 / 토큰 갱신 때마다 호출해도 됩니다.")
+    @PostMapping
+    public ResponseEntity<Void> registerToken(
+            @RequestBody RegisterTokenRequest request,
+            @CurrentUser UserPrincipal user) {
+        notificationService.registerToken(user, request.getToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * DELETE /api/v1/notifications/tokens
+     * 기기 토큰 해제 (로그아웃 / 알림 끄기)
+     */
+    @Operation(summary = "기기 토큰 해제")
+    @DeleteMapping
+    public ResponseEntity<Void> unregisterToken(
+            @RequestBody RegisterTokenRequest request,
+            @CurrentUser UserPrincipal user) {
+        notificationService.unregisterToken(user, request.getToken());
+        return ResponseEntity.noContent().build();
+    }
+}
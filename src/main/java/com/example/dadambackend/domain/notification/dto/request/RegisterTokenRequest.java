@@ -1 +1,10 @@
- 
+package com.example.dadambackend.domain.notification.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RegisterTokenRequest {
+    private String token; // FCM 등록 토큰 (기기별)
+}
@@ -0,0 +1,15 @@
+package com.example.dadambackend.domain.notification.model;
+
+/**
+ * 아웃박스 알림 상태
+ * - PENDING : 보낼 차례를 기다리는 중 (재시도 대기 포함)
+ * - SENT : 기기 하나 이상에 전달
+ * - SKIPPED : 받는 사람 기기 토큰이 없어서 보내지 않음
+ * - FAILED : 재시도 한도 초과 또는 다시 보내도 실패할 오류
+ */
+public enum NotificationStatus {
+    PENDING,
+    SENT,
+    SKIPPED,
+    FAILED
+}
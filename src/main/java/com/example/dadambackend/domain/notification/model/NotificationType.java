@@ -0,0 +1,13 @@
+package com.example.dadambackend.domain.notification.model;
+
+/**
+ * 푸시 알림 종류
+ */
+public enum NotificationType {
+    ANSWER_CREATED,     // 가족이 오늘의 질문에 답변
+    SCHEDULE_CREATED,   // 가족이 새 일정 등록
+    COMMENT_CREATED,    // 가족 답변에 댓글
+    BALANCE_VOTE,       // 오늘의 밸런스 게임 투표
+    QUIZ_VOTE,          // 오늘의 신조어 퀴즈 투표
+    DIGEST              // 묶음 창 안의 여러 이벤트를 한 번에 (받는 사람 지정 행에서만 사용)
+}
@@ -1 +1,159 @@
- 
+package com.example.dadambackend.domain.notification.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 알림 아웃박스
+ * - 답변/일정 등록 같은 서비스 트랜잭션 안에서 PENDING 으로 저장된다. (커밋돼야만 보내짐)
+ * - NotificationDispatcher 가 next_attempt_at 이 지난 행을 묶음으로 꺼내 보내고 결과를 기록한다.
+ * - 가족 이벤트 (recipientId = null) : 작성자 / 대상 문장만 저장, NotificationFanOut 이 받는 사람별로 펼치고 묶는다.
+ * - 받는 사람 지정 (recipientId 있음) : title / body 를 그대로 그 사람에게만 보낸다. (fan-out 뒤 재시도 등)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "outbound_notification",
+        indexes = {
+                @Index(name = "idx_outbound_notification_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_outbound_notification_created", columnList = "created_at")
+        }
+)
+public class OutboundNotification {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient_id")
+    private Long recipientId;
+
+    @Column(name = "family_id")
+    private Long familyId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "actor_name")
+    private String actorName;
+
+    // child / parent / grandparent (알림 문구용, 없을 수 있음)
+    @Column(name = "actor_role")
+    private String actorRole;
+
+    // 답변한 질문, 일정 제목, 댓글 내용 등 템플릿에 들어갈 대상 문장
+    @Column(length = 500)
+    private String subject;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    private String title;
+
+    @Column(length = 1000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 가족 이벤트 (dueAt 에 묶음 창이 닫히면 가족 구성원에게 펼쳐서 보낸다)
+     */
+    public static OutboundNotification familyEvent(Long familyId, Long actorId, String actorName, String actorRole,
+                                                   NotificationType type, String subject, LocalDateTime dueAt) {
+        OutboundNotification notification = pending(type, dueAt);
+        notification.familyId = familyId;
+        notification.actorId = actorId;
+        notification.actorName = actorName;
+        notification.actorRole = actorRole;
+        notification.subject = subject;
+        return notification;
+    }
+
+    /**
+     * 받는 사람 지정 알림 (fan-out 뒤 일시적 실패로 그 사람에게만 다시 보낼 때)
+     */
+    public static OutboundNotification retryFor(Long familyId, Long recipientId, NotificationType type,
+                                                String title, String body, LocalDateTime nextAttemptAt, String error) {
+        OutboundNotification notification = pending(type, nextAttemptAt);
+        notification.familyId = familyId;
+        notification.recipientId = recipientId;
+        notification.title = title;
+        notification.body = body;
+        notification.attempts = 1;
+        notification.lastError = truncate(error);
+        return notification;
+    }
+
+    private static OutboundNotification pending(NotificationType type, LocalDateTime nextAttemptAt) {
+        OutboundNotification notification = new OutboundNotification();
+        notification.type = type;
+        notification.status = NotificationStatus.PENDING;
+        notification.attempts = 0;
+        notification.nextAttemptAt = nextAttemptAt;
+        notification.createdAt = LocalDateTime.now();
+        return notification;
+    }
+
+    public boolean isFamilyEvent() {
+        return recipientId == null;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.attempts++;
+        this.status = NotificationStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    public void markSkipped() {
+        this.attempts++;
+        this.status = NotificationStatus.SKIPPED;
+    }
+
+    public void markFailed(String error) {
+        this.attempts++;
+        this.status = NotificationStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 실패 기록 후 nextAttemptAt 에 다시 시도
+     */
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1 +1,44 @@
- 
+package com.example.dadambackend.domain.notification.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저 기기의 FCM 등록 토큰 (기기당 한 행)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "push_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_push_token_token", columnNames = "token")
+        },
+        indexes = {
+                @Index(name = "idx_push_token_user", columnList = "user_id"),
+                @Index(name = "idx_push_token_updated", columnList = "updated_at")
+        }
+)
+public class PushToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 512)
+    private String token;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막 등록 시각 (같은 토큰을 다시 등록하거나 주인이 바뀌면 갱신)
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,9 @@
+package com.example.dadambackend.domain.notification.repository;
+
+/**
+ * 가족 구성원의 기기 토큰 한 줄 (fan-out 용 조회 결과)
+ */
+public record FamilyPushToken(Long familyId,
+                              Long userId,
+                              String token) {
+}
@@ -1 +1,42 @@
- 
+package com.example.dadambackend.domain.notification.repository;
+
+import com.example.dadambackend.domain.notification.model.OutboundNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboundNotificationRepository extends JpaRepository<OutboundNotification, Long> {
+
+    /**
+     * 보낼 차례가 된 PENDING 알림 id 를 잠그고 가져온다
+     * - SKIP LOCKED : 다른 서버가 잡고 있는 행은 건너뛰어서 여러 대가 동시에 폴링해도 같은 알림을 두 번 꺼내지 않는다.
+     * - 트랜잭션 안에서 호출하고, 같은 트랜잭션에서 extendLease 로 다음 시도 시각을 미뤄야 한다.
+     */
+    @Query(value = "select id from outbound_notification "
+            + "where status = 'PENDING' and next_attempt_at <= :now "
+            + "order by next_attempt_at limit :limit for update skip locked",
+            nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 꺼낸 알림의 다음 시도 시각을 lease 만큼 미룬다
+     * - 보내는 도중 서버가 죽으면 lease 가 끝난 뒤 다른 서버가 다시 꺼낸다.
+     */
+    @Modifying
+    @Query("update OutboundNotification n set n.nextAttemptAt = :leaseUntil where n.id in :ids")
+    int extendLease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 처리가 끝난 (PENDING 이 아닌) 오래된 알림 정리 (한 번에 limit 건까지)
+     */
+    @Modifying
+    @Query(value = "delete from outbound_notification "
+            + "where created_at < :before and status <> 'PENDING' limit :limit",
+            nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package com.example.dadambackend.domain.notification.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 재적재용 토큰 한 줄 (updatedAt 으로 다음 조회 기준 시각을 정한다)
+ */
+public record PushTokenChange(Long familyId,
+                              Long userId,
+                              String token,
+                              LocalDateTime updatedAt) {
+}
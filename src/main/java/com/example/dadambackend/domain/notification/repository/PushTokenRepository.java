@@ -1 +1,57 @@
- 
+package com.example.dadambackend.domain.notification.repository;
+
+import com.example.dadambackend.domain.notification.model.PushToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PushTokenRepository extends JpaRepository<PushToken, Long> {
+
+    /**
+     * 전체 토큰 + 가족 (PushTokenRegistry 메모리 인덱스 적재용, 가족이 없으면 familyId = null)
+     */
+    @Query("select new com.example.dadambackend.domain.notification.repository.FamilyPushToken(f.id, t.userId, t.token) "
+            + "from PushToken t join User u on u.id = t.userId left join u.family f")
+    List<FamilyPushToken> findAllWithFamily();
+
+    /**
+     * since 이후 등록되거나 주인이 바뀐 토큰 + 가족 (PushTokenRegistry 증분 재적재용, idx_push_token_updated)
+     */
+    @Query("select new com.example.dadambackend.domain.notification.repository.PushTokenChange(f.id, t.userId, t.token, t.updatedAt) "
+            + "from PushToken t join User u on u.id = t.userId left join u.family f "
+            + "where t.updatedAt > :since")
+    List<PushTokenChange> findChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 가장 최근 등록 시각 (전체 재적재 전에 읽어서 다음 증분 조회의 기준으로 쓴다)
+     */
+    @Query("select max(t.updatedAt) from PushToken t")
+    LocalDateTime findLastUpdatedAt();
+
+    /**
+     * 토큰 등록 (이미 있는 토큰이면 주인만 바꾼다 → 같은 요청을 여러 번 보내도 한 행)
+     * - 한 기기에서 다른 계정으로 로그인하면 토큰이 새 계정으로 옮겨간다.
+     * - updated_at 을 올려서 다른 노드의 증분 재적재가 바뀐 주인을 따라잡게 한다.
+     */
+    @Modifying
+    @Query(value = "insert into push_token (user_id, token, created_at, updated_at) values (:userId, :token, now(6), now(6)) "
+            + "on duplicate key update user_id = values(user_id), updated_at = values(updated_at)",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("token") String token);
+
+    @Modifying
+    @Query("delete from PushToken t where t.userId = :userId and t.token = :token")
+    int deleteByUserIdAndToken(@Param("userId") Long userId, @Param("token") String token);
+
+    /**
+     * FCM 이 만료라고 알려 준 토큰 일괄 삭제
+     */
+    @Modifying
+    @Query("delete from PushToken t where t.token in :tokens")
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
+}
@@ -0,0 +1,21 @@
+package com.example.dadambackend.domain.notification.service;
+
+import com.example.dadambackend.domain.notification.model.NotificationType;
+
+import java.util.List;
+
+/**
+ * 받는 사람 한 명에게 보낼 푸시 한 건 (fan-out + 묶음 결과)
+ *
+ * @param sourceIds 이 푸시에 담긴 아웃박스 행 id
+ * @param direct    받는 사람 지정 행이면 true (결과를 그 행에 바로 기록), 가족 이벤트 묶음이면 false
+ */
+public record NotificationDelivery(Long familyId,
+                                   Long recipientId,
+                                   NotificationType type,
+                                   String title,
+                                   String body,
+                                   List<String> tokens,
+                                   List<Long> sourceIds,
+                                   boolean direct) {
+}
@@ -0,0 +1,327 @@
+package com.example.dadambackend.domain.notification.service;
+
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.model.OutboundNotification;
+import com.example.dadambackend.domain.notification.repository.FamilyPushToken;
+import com.example.dadambackend.domain.notification.repository.OutboundNotificationRepository;
+import com.example.dadambackend.domain.notification.support.FcmClient;
+import com.example.dadambackend.domain.notification.support.FcmSendResult;
+import com.example.dadambackend.domain.notification.support.PushTokenRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 푸시 알림 아웃박스 디스패처
+ * - 전용 스레드 하나가 notification.dispatch.poll-ms 마다 보낼 차례가 된 알림을 batch-size 개씩 꺼낸다.
+ * - 꺼내기 : 짧은 트랜잭션에서 SKIP LOCKED 로 잠그고 lease 만큼 다음 시도 시각을 미룬 뒤 바로 커밋
+ * - 펼치기 : 관련 가족들의 기기 토큰을 PushTokenRegistry 메모리 인덱스에서 읽고 NotificationFanOut 이 받는 사람별 푸시로 펼치고 묶는다.
+ * - 보내기 : 트랜잭션 밖에서 받는 사람의 모든 기기 토큰으로 FCM 비동기 전송 후 묶음 전체를 기다린다.
+ * - 기록 : 다시 짧은 트랜잭션에서 결과 반영 (일시적 실패는 지수 백오프 + jitter 로 재시도, max-attempts 넘으면 FAILED)
+ *   FCM 인증 실패 (401/403) 는 재시도하지 않고 바로 FAILED
+ *   가족 이벤트가 일부 구성원에게만 실패하면 그 사람 몫만 받는 사람 지정 행으로 다시 쌓는다.
+ * - 요청 스레드는 아웃박스 행만 쓰고 끝나므로 FCM 지연/장애가 API 응답에 영향을 주지 않는다.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final int PURGE_CHUNK = 1000;
+
+    private final OutboundNotificationRepository outboundNotificationRepository;
+    private final PushTokenRegistry pushTokenRegistry;
+    private final FcmClient fcmClient;
+    private final NotificationFanOut fanOut;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService worker;
+
+    private final boolean enabled;
+    private final long pollMs;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseDelayMs;
+    private final long retryMaxDelayMs;
+    private final long leaseMs;
+    private final int retentionDays;
+
+    public NotificationDispatcher(
+            OutboundNotificationRepository outboundNotificationRepository,
+            PushTokenRegistry pushTokenRegistry,
+            FcmClient fcmClient,
+            NotificationFanOut fanOut,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.dispatch.enabled:true}") boolean enabled,
+            @Value("${notification.dispatch.poll-ms:1000}") long pollMs,
+            @Value("${notification.dispatch.batch-size:100}") int batchSize,
+            @Value("${notification.dispatch.max-attempts:5}") int maxAttempts,
+            @Value("${notification.dispatch.retry-base-delay-ms:5000}") long retryBaseDelayMs,
+            @Value("${notification.dispatch.retry-max-delay-ms:600000}") long retryMaxDelayMs,
+            // 꺼낸 뒤 이 시간 안에 결과를 못 쓰면 (서버 종료 등) 다시 꺼내진다
+            @Value("${notification.dispatch.lease-ms:60000}") long leaseMs,
+            @Value("${notification.dispatch.retention-days:7}") int retentionDays
+    ) {
+        this.outboundNotificationRepository = outboundNotificationRepository;
+        this.pushTokenRegistry = pushTokenRegistry;
+        this.fcmClient = fcmClient;
+        this.fanOut = fanOut;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.pollMs = pollMs;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBaseDelayMs = retryBaseDelayMs;
+        this.retryMaxDelayMs = retryMaxDelayMs;
+        this.leaseMs = leaseMs;
+        this.retentionDays = retentionDays;
+
+        this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "notification-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            System.out.println("[NotificationDispatcher] notification.dispatch.enabled=false → 디스패처 비활성화");
+            return;
+        }
+        worker.scheduleWithFixedDelay(this::drain, pollMs, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * 보낼 알림이 남아 있는 동안 묶음 단위로 계속 처리 (꽉 찬 묶음이면 기다리지 않고 다음 묶음)
+     */
+    void drain() {
+        try {
+            while (dispatchBatch() == batchSize) {
+                // 다음 묶음
+            }
+        } catch (RuntimeException e) {
+            // 예외가 새어 나가면 scheduleWithFixedDelay 가 멈추므로 여기서 잡는다
+            System.out.println("[NotificationDispatcher] 디스패치 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 한 묶음 처리
+     *
+     * @return 꺼낸 알림 수
+     */
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 꺼내기 (짧은 트랜잭션)
+        List<OutboundNotification> batch = transactionTemplate.execute(status -> {
+            List<Long> ids = outboundNotificationRepository.lockDueIds(now, batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboundNotificationRepository.extendLease(ids, now.plus(leaseMs, ChronoUnit.MILLIS));
+            return outboundNotificationRepository.findAllById(ids);
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // 2. fan-out + 묶음 (기기 토큰은 PushTokenRegistry 메모리 인덱스에서)
+        Set<Long> familyIds = batch.stream()
+                .map(OutboundNotification::getFamilyId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<FamilyPushToken> familyTokens = pushTokenRegistry.familyTokens(familyIds);
+        List<NotificationDelivery> deliveries = fanOut.expand(batch, familyTokens);
+
+        // 3. 보내기 (트랜잭션 밖, 묶음 전체를 비동기로 보내고 한 번에 기다림)
+        Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<Outcome>> pending = new ArrayList<>(deliveries.size());
+        for (NotificationDelivery delivery : deliveries) {
+            pending.add(send(delivery, invalidTokens));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+
+        // 만료 토큰은 묶음당 한 번 모아서 정리
+        pushTokenRegistry.prune(invalidTokens);
+
+        // 4. 기록 (짧은 트랜잭션)
+        LocalDateTime finishedAt = LocalDateTime.now();
+        int[] counts = new int[Outcome.values().length];
+        Map<Long, Outcome> directOutcomes = new HashMap<>();
+        Set<Long> fannedOut = new HashSet<>();
+        List<OutboundNotification> retries = new ArrayList<>();
+        int digests = 0;
+
+        for (int i = 0; i < deliveries.size(); i++) {
+            NotificationDelivery delivery = deliveries.get(i);
+            Outcome outcome = pending.get(i).join();
+            counts[outcome.ordinal()]++;
+            if (delivery.type() == NotificationType.DIGEST && !delivery.direct()) {
+                digests++;
+            }
+
+            if (delivery.direct()) {
+                directOutcomes.put(delivery.sourceIds().get(0), outcome);
+                continue;
+            }
+            fannedOut.addAll(delivery.sourceIds());
+            // 가족 이벤트는 이미 다른 구성원에게 나갔으므로, 실패한 사람에게만 보낼 행을 따로 만든다
+            if (outcome == Outcome.RETRY && maxAttempts > 1) {
+                retries.add(OutboundNotification.retryFor(delivery.familyId(), delivery.recipientId(),
+                        delivery.type(), delivery.title(), delivery.body(),
+                        finishedAt.plus(backoffWithJitter(1), ChronoUnit.MILLIS), "FCM 일시적 실패"));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (OutboundNotification notification : outboundNotificationRepository.findAllById(
+                    batch.stream().map(OutboundNotification::getId).toList())) {
+                if (!notification.isFamilyEvent()) {
+                    apply(notification, directOutcomes.getOrDefault(notification.getId(), Outcome.NO_TOKEN), finishedAt);
+                } else if (fannedOut.contains(notification.getId())) {
+                    notification.markSent(finishedAt);
+                } else {
+                    // 토큰을 가진 다른 구성원이 없음
+                    notification.markSkipped();
+                }
+            }
+            if (!retries.isEmpty()) {
+                outboundNotificationRepository.saveAll(retries);
+            }
+        });
+
+        System.out.println("[NotificationDispatcher] 아웃박스 " + batch.size() + "건 → 푸시 " + deliveries.size()
+                + "건 (digest=" + digests
+                + ", sent=" + counts[Outcome.SENT.ordinal()]
+                + ", no-token=" + counts[Outcome.NO_TOKEN.ordinal()]
+                + ", retry=" + counts[Outcome.RETRY.ordinal()]
+                + ", failed=" + counts[Outcome.FAILED.ordinal()]
+                + ", auth-failed=" + counts[Outcome.AUTH_FAILED.ordinal()] + ")");
+        return batch.size();
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 알림 정리 (하루 한 번, 잠금이 길어지지 않게 PURGE_CHUNK 건씩)
+     */
+    @Scheduled(cron = "${notification.dispatch.purge-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void purgeFinished() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            Integer chunk = transactionTemplate.execute(status ->
+                    outboundNotificationRepository.deleteFinishedBefore(before, PURGE_CHUNK));
+            deleted = chunk == null ? 0 : chunk;
+            total += deleted;
+        } while (deleted == PURGE_CHUNK);
+
+        if (total > 0) {
+            System.out.println("[NotificationDispatcher] 오래된 알림 " + total + "건 정리");
+        }
+    }
+
+    /**
+     * 푸시 한 건을 받는 사람의 모든 기기로 전송
+     * - 기기 하나라도 받으면 SENT
+     * - 받은 기기가 없고 인증 실패가 있으면 AUTH_FAILED (재시도하지 않음)
+     * - 그 밖에 일시적 실패가 있으면 RETRY
+     * - 만료 토큰은 invalidTokens 에 모은다
+     */
+    private CompletableFuture<Outcome> send(NotificationDelivery delivery, Set<String> invalidTokens) {
+        if (delivery.tokens().isEmpty()) {
+            return CompletableFuture.completedFuture(Outcome.NO_TOKEN);
+        }
+
+        List<String> tokens = delivery.tokens();
+        List<CompletableFuture<FcmSendResult>> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(fcmClient.send(token, delivery.title(), delivery.body()));
+        }
+
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    boolean sent = false;
+                    boolean retry = false;
+                    boolean authFailed = false;
+                    for (int i = 0; i < results.size(); i++) {
+                        FcmSendResult value = results.get(i).join();
+                        sent |= value == FcmSendResult.SENT;
+                        retry |= value == FcmSendResult.RETRY;
+                        authFailed |= value == FcmSendResult.AUTH_FAILED;
+                        if (value == FcmSendResult.INVALID_TOKEN) {
+                            invalidTokens.add(tokens.get(i));
+                        }
+                    }
+                    if (sent) {
+                        return Outcome.SENT;
+                    }
+                    if (authFailed) {
+                        return Outcome.AUTH_FAILED;
+                    }
+                    return retry ? Outcome.RETRY : Outcome.FAILED;
+                });
+    }
+
+    private void apply(OutboundNotification notification, Outcome outcome, LocalDateTime now) {
+        switch (outcome) {
+            case SENT -> notification.markSent(now);
+            case NO_TOKEN -> notification.markSkipped();
+            case FAILED -> notification.markFailed("모든 기기 토큰이 거절됨");
+            case AUTH_FAILED -> notification.markFailed("FCM 인증 실패 (401/403)");
+            case RETRY -> {
+                if (notification.getAttempts() + 1 >= maxAttempts) {
+                    notification.markFailed("재시도 한도 초과 (" + maxAttempts + "회)");
+                } else {
+                    long delay = backoffWithJitter(notification.getAttempts() + 1);
+                    notification.scheduleRetry(now.plus(delay, ChronoUnit.MILLIS), "FCM 일시적 실패");
+                }
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프 + jitter : [ceiling/2, ceiling) 구간에서 무작위 (ceiling = min(max, base * 2^(n-1)))
+     */
+    private long backoffWithJitter(int attemptNo) {
+        long ceiling = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attemptNo - 1, 16));
+        long half = ceiling / 2;
+        return half <= 0 ? ceiling : half + ThreadLocalRandom.current().nextLong(half);
+    }
+
+    private enum Outcome {
+        SENT,
+        NO_TOKEN,
+        RETRY,
+        FAILED,
+        AUTH_FAILED
+    }
+}
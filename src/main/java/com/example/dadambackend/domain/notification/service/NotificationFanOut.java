@@ -0,0 +1,95 @@
+package com.example.dadambackend.domain.notification.service;
+
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.model.OutboundNotification;
+import com.example.dadambackend.domain.notification.repository.FamilyPushToken;
+import com.example.dadambackend.domain.notification.service.template.NotificationTemplateService;
+import com.example.dadambackend.domain.notification.service.template.RenderedNotification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 아웃박스 묶음 → 받는 사람별 푸시 목록
+ * - 가족 이벤트는 그 가족의 기기 토큰을 가진 구성원에게 펼친다. (작성자 본인은 제외)
+ * - 같은 사람에게 가는 이벤트가 여러 건이면 digest 한 건으로 묶는다.
+ *   NotificationService 가 이벤트의 발송 시각을 묶음 창 끝으로 맞춰 두므로, 창 안의 이벤트는 같은 묶음으로 꺼내진다.
+ * - 받는 사람 지정 행은 묶지 않고 그대로 보낸다.
+ * - DB 조회 없이 넘겨받은 토큰 목록만 사용 (토큰 조회는 디스패처가 묶음당 한 번)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationFanOut {
+
+    private final NotificationTemplateService templateService;
+
+    public List<NotificationDelivery> expand(List<OutboundNotification> batch, List<FamilyPushToken> familyTokens) {
+        // 가족 → 구성원 → 토큰
+        Map<Long, Map<Long, List<String>>> tokensByFamily = new LinkedHashMap<>();
+        for (FamilyPushToken row : familyTokens) {
+            tokensByFamily.computeIfAbsent(row.familyId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.userId(), id -> new ArrayList<>())
+                    .add(row.token());
+        }
+
+        List<NotificationDelivery> deliveries = new ArrayList<>();
+        Map<Long, List<OutboundNotification>> eventsByFamily = new LinkedHashMap<>();
+
+        for (OutboundNotification notification : batch) {
+            if (!notification.isFamilyEvent()) {
+                List<String> tokens = tokensByFamily
+                        .getOrDefault(notification.getFamilyId(), Map.of())
+                        .getOrDefault(notification.getRecipientId(), List.of());
+                deliveries.add(new NotificationDelivery(notification.getFamilyId(), notification.getRecipientId(),
+                        notification.getType(), notification.getTitle(), notification.getBody(),
+                        tokens, List.of(notification.getId()), true));
+            } else if (notification.getFamilyId() != null) {
+                eventsByFamily.computeIfAbsent(notification.getFamilyId(), id -> new ArrayList<>()).add(notification);
+            }
+        }
+
+        eventsByFamily.forEach((familyId, events) -> {
+            events.sort(Comparator.comparing(OutboundNotification::getCreatedAt)
+                    .thenComparing(OutboundNotification::getId));
+
+            tokensByFamily.getOrDefault(familyId, Map.of()).forEach((recipientId, tokens) -> {
+                List<OutboundNotification> mine = new ArrayList<>(events.size());
+                for (OutboundNotification event : events) {
+                    if (!Objects.equals(event.getActorId(), recipientId)) {
+                        mine.add(event);
+                    }
+                }
+                if (!mine.isEmpty()) {
+                    deliveries.add(coalesce(familyId, recipientId, tokens, mine));
+                }
+            });
+        });
+
+        return deliveries;
+    }
+
+    private NotificationDelivery coalesce(Long familyId, Long recipientId, List<String> tokens,
+                                          List<OutboundNotification> events) {
+        List<Long> sourceIds = new ArrayList<>(events.size());
+        for (OutboundNotification event : events) {
+            sourceIds.add(event.getId());
+        }
+
+        if (events.size() == 1) {
+            OutboundNotification event = events.get(0);
+            RenderedNotification rendered = templateService.renderSingle(event);
+            return new NotificationDelivery(familyId, recipientId, event.getType(),
+                    rendered.title(), rendered.body(), tokens, sourceIds, false);
+        }
+
+        RenderedNotification rendered = templateService.renderDigest(events);
+        return new NotificationDelivery(familyId, recipientId, NotificationType.DIGEST,
+                rendered.title(), rendered.body(), tokens, sourceIds, false);
+    }
+}
@@ -1 +1,145 @@
- 
+package com.example.dadambackend.domain.notification.service;
+
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.model.OutboundNotification;
+import com.example.dadambackend.domain.notification.repository.OutboundNotificationRepository;
+import com.example.dadambackend.domain.notification.repository.PushTokenRepository;
+import com.example.dadambackend.domain.notification.support.PushTokenRegistry;
+import com.example.dadambackend.global.exception.BusinessException;
+import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 푸시 알림 등록 (아웃박스에 쓰기만 한다)
+ * - 호출한 서비스의 트랜잭션 안에서 가족 이벤트 행 하나만 저장하므로,
+ *   답변/일정 저장이 롤백되면 알림도 함께 사라지고 커밋된 경우에만 NotificationDispatcher 가 보낸다.
+ * - 받는 사람별로 펼치는 일은 디스패처의 NotificationFanOut 이 한다. (요청 트랜잭션에서 구성원 조회 없음)
+ * - 기기 토큰 등록/해제도 여기서 한다. (DB + PushTokenRegistry 메모리 인덱스)
+ * - 발송 시각은 notification.coalesce.window-ms 단위 창의 끝으로 맞춘다.
+ *   같은 창 안의 가족 이벤트는 한 번에 꺼내져서 받는 사람별 digest 한 건으로 묶인다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class NotificationService {
+
+    private static final int MAX_SUBJECT_LENGTH = 100;
+    private static final int MAX_TOKEN_LENGTH = 512;
+
+    private final OutboundNotificationRepository outboundNotificationRepository;
+    private final PushTokenRepository pushTokenRepository;
+    private final PushTokenRegistry pushTokenRegistry;
+    private final long coalesceWindowMs;
+
+    public NotificationService(
+            OutboundNotificationRepository outboundNotificationRepository,
+            PushTokenRepository pushTokenRepository,
+            PushTokenRegistry pushTokenRegistry,
+            // 0 이면 묶지 않고 바로 보낸다
+            @Value("${notification.coalesce.window-ms:120000}") long coalesceWindowMs
+    ) {
+        this.outboundNotificationRepository = outboundNotificationRepository;
+        this.pushTokenRepository = pushTokenRepository;
+        this.pushTokenRegistry = pushTokenRegistry;
+        this.coalesceWindowMs = coalesceWindowMs;
+    }
+
+    /**
+     * 기기 토큰 등록 (앱 시작/로그인 때마다 보내도 한 행만 유지)
+     */
+    @Transactional
+    public void registerToken(UserPrincipal user, String token) {
+        String normalized = normalizeToken(token);
+        pushTokenRepository.upsert(user.userId(), normalized);
+        pushTokenRegistry.registered(normalized, user.userId(), user.familyId());
+    }
+
+    /**
+     * 기기 토큰 해제 (로그아웃, 알림 끄기) - 본인 토큰만
+     */
+    @Transactional
+    public void unregisterToken(UserPrincipal user, String token) {
+        String normalized = normalizeToken(token);
+        pushTokenRepository.deleteByUserIdAndToken(user.userId(), normalized);
+        pushTokenRegistry.unregistered(normalized, user.userId());
+    }
+
+    /**
+     * 가족이 오늘의 질문에 답변
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyAnswerCreated(UserPrincipal author, String questionContent) {
+        enqueue(author.familyId(), author, NotificationType.ANSWER_CREATED, questionContent);
+    }
+
+    /**
+     * 가족이 새 일정 등록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyScheduleCreated(UserPrincipal author, String scheduleTitle, LocalDate date) {
+        enqueue(author.familyId(), author, NotificationType.SCHEDULE_CREATED,
+                scheduleTitle + " (" + date.getMonthValue() + "/" + date.getDayOfMonth() + ")");
+    }
+
+    /**
+     * 가족 답변에 댓글 (답변이 속한 가족 기준)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyCommentCreated(Long familyId, UserPrincipal author, String content) {
+        enqueue(familyId, author, NotificationType.COMMENT_CREATED, content);
+    }
+
+    /**
+     * 오늘의 밸런스 게임 / 신조어 퀴즈 첫 투표
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyVote(UserPrincipal voter, NotificationType type) {
+        enqueue(voter.familyId(), voter, type, null);
+    }
+
+    private void enqueue(Long familyId, UserPrincipal actor, NotificationType type, String subject) {
+        if (familyId == null) {
+            return;
+        }
+        outboundNotificationRepository.save(OutboundNotification.familyEvent(
+                familyId, actor.userId(), actor.name(), actor.familyRole(), type, truncate(subject), windowEnd()));
+    }
+
+    /**
+     * 지금이 속한 묶음 창의 끝 시각 (epoch 기준으로 창을 나눠서 노드가 여러 대여도 같은 창)
+     */
+    private LocalDateTime windowEnd() {
+        long now = System.currentTimeMillis();
+        if (coalesceWindowMs <= 0) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+        }
+        long end = (now / coalesceWindowMs + 1) * coalesceWindowMs;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(end), ZoneId.systemDefault());
+    }
+
+    private static String normalizeToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "기기 토큰(token)은 필수입니다.");
+        }
+        String trimmed = token.trim();
+        if (trimmed.length() > MAX_TOKEN_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "기기 토큰이 너무 깁니다.");
+        }
+        return trimmed;
+    }
+
+    private static String truncate(String subject) {
+        if (subject == null || subject.length() <= MAX_SUBJECT_LENGTH) {
+            return subject;
+        }
+        return subject.substring(0, MAX_SUBJECT_LENGTH) + "…";
+    }
+}
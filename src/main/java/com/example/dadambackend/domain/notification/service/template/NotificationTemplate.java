@@ -0,0 +1,88 @@
+package com.example.dadambackend.domain.notification.service.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 컴파일된 알림 템플릿
+ * - "{actorName}님이 답했어요: {questionText}" 같은 원문을 시작할 때 한 번만 파싱해서
+ *   글자 조각 / placeholder 조각 배열로 들고 있는다. (렌더 때는 배열만 순회)
+ * - 조각 i 는 variables[i] 가 null 이면 literals[i] 를, 아니면 그 placeholder 값을 쓴다.
+ * - NotificationTemplateService 안에서만 쓰므로 패키지 밖으로 공개하지 않는다.
+ */
+final class NotificationTemplate {
+
+    private final String id;
+    private final Locale locale;
+    private final String[] literals;
+    private final TemplateVariable[] variables;
+    private final int literalLength;
+
+    private NotificationTemplate(String id, Locale locale, String[] literals, TemplateVariable[] variables) {
+        this.id = id;
+        this.locale = locale;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal == null ? 0 : literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 원문 파싱 ({name} 형식 placeholder, 모르는 이름이나 닫히지 않은 중괄호는 IllegalArgumentException)
+     */
+    public static NotificationTemplate compile(String id, Locale locale, String source) {
+        List<String> literals = new ArrayList<>();
+        List<TemplateVariable> variables = new ArrayList<>();
+
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf('{', position);
+            if (open < 0) {
+                literals.add(source.substring(position));
+                variables.add(null);
+                break;
+            }
+            if (open > position) {
+                literals.add(source.substring(position, open));
+                variables.add(null);
+            }
+            int close = source.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("알림 템플릿 " + id + " 중괄호가 닫히지 않음: " + source);
+            }
+            literals.add(null);
+            variables.add(TemplateVariable.fromPlaceholder(source.substring(open + 1, close)));
+            position = close + 1;
+        }
+
+        return new NotificationTemplate(id, locale,
+                literals.toArray(String[]::new), variables.toArray(TemplateVariable[]::new));
+    }
+
+    /**
+     * out 뒤에 렌더 결과를 이어 붙인다
+     */
+    public void renderTo(TemplateArgs args, StringBuilder out) {
+        out.ensureCapacity(out.length() + literalLength + 32);
+        for (int i = 0; i < literals.length; i++) {
+            TemplateVariable variable = variables[i];
+            if (variable == null) {
+                out.append(literals[i]);
+            } else {
+                args.appendTo(variable, out);
+            }
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+}
@@ -1 +1,170 @@
- 
+package com.example.dadambackend.domain.notification.service.template;
+
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.model.OutboundNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 푸시 알림 문구 (컴파일된 템플릿)
+ * - 로캘별 템플릿 원문을 시작할 때 NotificationTemplate 으로 한 번만 컴파일한다. (잘못된 placeholder 는 시작 실패)
+ * - 렌더는 스레드별로 재사용하는 StringBuilder 에 조각을 이어 붙이는 방식이라 중간 문자열을 만들지 않는다.
+ * - 렌더 결과는 캐시하지 않는다. 조각 몇 개를 이어 붙이는 비용이 캐시 키 해시 + 락보다 싸다.
+ *   (NotificationTemplateBenchmark 로 확인, src/jmh)
+ * - 아직 유저별 언어 설정이 없어서 notification.template.locale 하나로 렌더하고,
+ *   그 로캘 원문이 없으면 한국어로 대신한다.
+ */
+@Service
+public class NotificationTemplateService {
+
+    private static final Locale FALLBACK_LOCALE = Locale.KOREAN;
+    private static final String ITEM_SEPARATOR = ", ";
+
+    /**
+     * 로캘별 원문 + 표시 이름
+     */
+    private static final Map<Locale, LocaleSource> SOURCES = Map.of(
+            Locale.KOREAN, new LocaleSource(
+                    Map.ofEntries(
+                            Map.entry(TemplateId.SINGLE_TITLE, "다담 · {familyRole}"),
+                            Map.entry(TemplateId.ANSWER_CREATED, "{actorName}님이 오늘의 질문에 답했어요: {questionText}"),
+                            Map.entry(TemplateId.SCHEDULE_CREATED, "{actorName}님이 새 일정을 추가했어요: {subject}"),
+                            Map.entry(TemplateId.COMMENT_CREATED, "{actorName}님이 댓글을 남겼어요: {subject}"),
+                            Map.entry(TemplateId.BALANCE_VOTE, "{actorName}님이 오늘의 밸런스 게임에 투표했어요"),
+                            Map.entry(TemplateId.QUIZ_VOTE, "{actorName}님이 오늘의 신조어 퀴즈를 풀었어요"),
+                            Map.entry(TemplateId.GENERIC, "{actorName}님의 새 소식이 있어요"),
+                            Map.entry(TemplateId.DIGEST_TITLE, "다담 · 가족 소식 {count}건"),
+                            Map.entry(TemplateId.DIGEST_ONE_ACTOR, "{actorName}님이 {items}를 남겼어요"),
+                            Map.entry(TemplateId.DIGEST_MANY_ACTORS, "{actorName}님 외 {others}명이 {items}를 남겼어요"),
+                            Map.entry(TemplateId.DIGEST_ITEM, "{subject} {count}개")
+                    ),
+                    Map.of("child", "자녀", "parent", "부모님", "grandparent", "조부모님"),
+                    "가족",
+                    "가족",
+                    // 밸런스 게임 / 퀴즈 투표는 "투표" 하나로 센다
+                    Map.of(
+                            NotificationType.ANSWER_CREATED, "답변",
+                            NotificationType.SCHEDULE_CREATED, "일정",
+                            NotificationType.COMMENT_CREATED, "댓글",
+                            NotificationType.BALANCE_VOTE, "투표",
+                            NotificationType.QUIZ_VOTE, "투표",
+                            NotificationType.DIGEST, "소식"
+                    )
+            )
+    );
+
+    private final Locale locale;
+    private final LocaleSource texts;
+    private final Map<TemplateId, NotificationTemplate> templates = new EnumMap<>(TemplateId.class);
+
+    // 렌더용 builder (스레드마다 하나씩 재사용, 항목 목록용 하나 따로)
+    private final ThreadLocal<Builders> builders = ThreadLocal.withInitial(Builders::new);
+
+    public NotificationTemplateService(@Value("${notification.template.locale:ko}") String localeTag) {
+        Locale requested = Locale.forLanguageTag(localeTag);
+        this.locale = SOURCES.containsKey(requested) ? requested : FALLBACK_LOCALE;
+        this.texts = SOURCES.get(locale);
+
+        // 모든 id 가 원문을 가져야 한다 (빠지면 시작 실패)
+        for (TemplateId id : TemplateId.values()) {
+            String source = texts.templates().get(id);
+            if (source == null) {
+                throw new IllegalStateException("알림 템플릿 원문 없음: " + id + " (" + locale + ")");
+            }
+            templates.put(id, NotificationTemplate.compile(id.name(), locale, source));
+        }
+    }
+
+    public RenderedNotification renderSingle(OutboundNotification event) {
+        TemplateId bodyId = switch (event.getType()) {
+            case ANSWER_CREATED -> TemplateId.ANSWER_CREATED;
+            case SCHEDULE_CREATED -> TemplateId.SCHEDULE_CREATED;
+            case COMMENT_CREATED -> TemplateId.COMMENT_CREATED;
+            case BALANCE_VOTE -> TemplateId.BALANCE_VOTE;
+            case QUIZ_VOTE -> TemplateId.QUIZ_VOTE;
+            case DIGEST -> TemplateId.GENERIC;
+        };
+        boolean question = event.getType() == NotificationType.ANSWER_CREATED;
+        TemplateArgs args = new TemplateArgs(
+                actorName(event),
+                roleLabel(event.getActorRole()),
+                question ? event.getSubject() : null,
+                question ? null : event.getSubject(),
+                1, 0, null);
+
+        return new RenderedNotification(render(TemplateId.SINGLE_TITLE, args), render(bodyId, args));
+    }
+
+    /**
+     * 여러 이벤트를 알림 한 건으로 (events 는 2건 이상, 발생 순서대로)
+     */
+    public RenderedNotification renderDigest(List<OutboundNotification> events) {
+        Set<String> actors = new LinkedHashSet<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (OutboundNotification event : events) {
+            actors.add(actorName(event));
+            counts.merge(texts.nouns().get(event.getType()), 1, Integer::sum);
+        }
+
+        // 항목 목록 ("답변 1개, 댓글 2개") 은 스레드별 두 번째 builder 에 바로 렌더
+        StringBuilder items = builders.get().items;
+        items.setLength(0);
+        NotificationTemplate itemTemplate = templates.get(TemplateId.DIGEST_ITEM);
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (items.length() > 0) {
+                items.append(ITEM_SEPARATOR);
+            }
+            itemTemplate.renderTo(new TemplateArgs(null, null, null, entry.getKey(), entry.getValue(), 0, null), items);
+        }
+
+        TemplateArgs args = new TemplateArgs(
+                actors.iterator().next(), null, null, null,
+                events.size(), actors.size() - 1, items.toString());
+        TemplateId bodyId = actors.size() > 1 ? TemplateId.DIGEST_MANY_ACTORS : TemplateId.DIGEST_ONE_ACTOR;
+
+        return new RenderedNotification(render(TemplateId.DIGEST_TITLE, args), render(bodyId, args));
+    }
+
+    /**
+     * 템플릿 렌더 (스레드별 재사용 builder 에 이어 붙인 뒤 문자열로)
+     */
+    public String render(TemplateId id, TemplateArgs args) {
+        StringBuilder out = builders.get().main;
+        out.setLength(0);
+        templates.get(id).renderTo(args, out);
+        return out.toString();
+    }
+
+    private String roleLabel(String role) {
+        if (role == null) {
+            return texts.unknownRole();
+        }
+        return texts.roleLabels().getOrDefault(role, texts.unknownRole());
+    }
+
+    private String actorName(OutboundNotification event) {
+        return event.getActorName() == null || event.getActorName().isBlank()
+                ? texts.unknownActor()
+                : event.getActorName();
+    }
+
+    private record LocaleSource(Map<TemplateId, String> templates,
+                                Map<String, String> roleLabels,
+                                String unknownRole,
+                                String unknownActor,
+                                Map<NotificationType, String> nouns) {
+    }
+
+    private static final class Builders {
+        private final StringBuilder main = new StringBuilder(256);
+        private final StringBuilder items = new StringBuilder(64);
+    }
+}
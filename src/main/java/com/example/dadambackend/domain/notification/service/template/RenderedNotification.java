@@ -0,0 +1,8 @@
+package com.example.dadambackend.domain.notification.service.template;
+
+/**
+ * 템플릿으로 만든 푸시 제목 / 본문
+ */
+public record RenderedNotification(String title,
+                                   String body) {
+}
@@ -0,0 +1,35 @@
+package com.example.dadambackend.domain.notification.service.template;
+
+/**
+ * 템플릿 인자
+ * - familyRole 은 로캘별 표시 이름으로 바꾼 값
+ */
+public record TemplateArgs(String actorName,
+                           String familyRole,
+                           String questionText,
+                           String subject,
+                           int count,
+                           int others,
+                           String items) {
+
+    /**
+     * placeholder 값을 builder 에 바로 이어 붙인다 (중간 문자열을 만들지 않음)
+     */
+    public void appendTo(TemplateVariable variable, StringBuilder out) {
+        switch (variable) {
+            case ACTOR_NAME -> appendText(actorName, out);
+            case FAMILY_ROLE -> appendText(familyRole, out);
+            case QUESTION_TEXT -> appendText(questionText, out);
+            case SUBJECT -> appendText(subject, out);
+            case COUNT -> out.append(count);
+            case OTHERS -> out.append(others);
+            case ITEMS -> appendText(items, out);
+        }
+    }
+
+    private static void appendText(String value, StringBuilder out) {
+        if (value != null) {
+            out.append(value);
+        }
+    }
+}
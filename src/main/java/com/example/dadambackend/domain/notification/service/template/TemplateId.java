@@ -0,0 +1,18 @@
+package com.example.dadambackend.domain.notification.service.template;
+
+/**
+ * 알림 템플릿 종류 (로캘마다 같은 id 로 원문을 둔다)
+ */
+public enum TemplateId {
+    SINGLE_TITLE,
+    ANSWER_CREATED,
+    SCHEDULE_CREATED,
+    COMMENT_CREATED,
+    BALANCE_VOTE,
+    QUIZ_VOTE,
+    GENERIC,
+    DIGEST_TITLE,
+    DIGEST_ONE_ACTOR,
+    DIGEST_MANY_ACTORS,
+    DIGEST_ITEM
+}
@@ -0,0 +1,34 @@
+package com.example.dadambackend.domain.notification.service.template;
+
+/**
+ * 알림 템플릿 placeholder ({actorName} 등)
+ * - 템플릿을 컴파일할 때 이름으로 찾고, 없는 이름이면 시작할 때 바로 실패한다.
+ */
+public enum TemplateVariable {
+    ACTOR_NAME("actorName"),        // 작성자 이름
+    FAMILY_ROLE("familyRole"),      // 작성자 가족 역할 (로캘별 표시 이름)
+    QUESTION_TEXT("questionText"),  // 오늘의 질문
+    SUBJECT("subject"),             // 일정 제목, 댓글 내용, digest 항목 이름 등
+    COUNT("count"),
+    OTHERS("others"),               // digest 에서 첫 작성자를 뺀 사람 수
+    ITEMS("items");                 // digest 항목 목록 ("답변 1개, 댓글 2개")
+
+    private final String placeholder;
+
+    TemplateVariable(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    public static TemplateVariable fromPlaceholder(String name) {
+        for (TemplateVariable variable : values()) {
+            if (variable.placeholder.equals(name)) {
+                return variable;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 알림 템플릿 placeholder: {" + name + "}");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.dadambackend.domain.notification.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 FCM 스텁 (stub 프로필 전용)
+ * - FCM HTTP v1 messages:send 와 같은 형식으로 응답해서, FcmClient 를 실제 HTTP 경로 그대로 태운다.
+ * - fcm.stub.invalid-token-prefix 로 시작하는 토큰은 404 UNREGISTERED (만료 토큰 처리 확인용)
+ * - fcm.stub.error-rate (0.0 ~ 1.0) 비율만큼 503 을 돌려줘서 재시도 / 백오프 동작을 확인할 수 있다.
+ * - 토큰별로 결과를 고정하고 싶으면 fcm.stub.unavailable-token-prefix (503), unauthorized-token-prefix (401) 를 쓴다.
+ * - GET /stub/fcm/stats 로 받은 요청 수를 확인할 수 있다.
+ */
+@Profile("stub")
+@RestController
+@RequestMapping("/stub/fcm")
+@RequiredArgsConstructor
+public class FcmStubController {
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+
+    @Value("${fcm.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${fcm.stub.error-rate:0}")
+    private double errorRate;
+
+    @Value("${fcm.stub.invalid-token-prefix:invalid-}")
+    private String invalidTokenPrefix;
+
+    @Value("${fcm.stub.unavailable-token-prefix:unavailable-}")
+    private String unavailableTokenPrefix;
+
+    @Value("${fcm.stub.unauthorized-token-prefix:unauthorized-}")
+    private String unauthorizedTokenPrefix;
+
+    @PostMapping("/v1/messages:send")
+    public ResponseEntity<JsonNode> send(@RequestBody JsonNode request) throws InterruptedException {
+        received.incrementAndGet();
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            return error(HttpStatus.SERVICE_UNAVAILABLE, "UNAVAILABLE");
+        }
+
+        String token = request.path("message").path("token").asText("");
+        if (token.isEmpty()) {
+            return error(HttpStatus.BAD_REQUEST, "INVALID_ARGUMENT");
+        }
+        if (token.startsWith(invalidTokenPrefix)) {
+            return error(HttpStatus.NOT_FOUND, "UNREGISTERED");
+        }
+        if (token.startsWith(unavailableTokenPrefix)) {
+            return error(HttpStatus.SERVICE_UNAVAILABLE, "UNAVAILABLE");
+        }
+        if (token.startsWith(unauthorizedTokenPrefix)) {
+            return error(HttpStatus.UNAUTHORIZED, "UNAUTHENTICATED");
+        }
+
+        long seq = delivered.incrementAndGet();
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("name", "projects/stub/messages/" + seq);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stats")
+    public Map<String, Long> stats() {
+        return Map.of("received", received.get(), "delivered", delivered.get());
+    }
+
+    private ResponseEntity<JsonNode> error(HttpStatus status, String errorCode) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ObjectNode error = body.putObject("error");
+        error.put("code", status.value());
+        error.put("status", errorCode);
+        error.putArray("details").addObject().put("errorCode", errorCode);
+        return ResponseEntity.status(status).body(body);
+    }
+}
@@ -1 +1,163 @@
- 
+package com.example.dadambackend.domain.notification.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM HTTP v1 (projects/{id}/messages:send) 클라이언트
+ * - 토큰 하나당 요청 하나, sendAsync 라 응답을 기다리는 동안 스레드를 점유하지 않는다.
+ * - 결과는 예외 대신 FcmSendResult 로 돌려준다 (재시도 여부는 NotificationDispatcher 가 판단)
+ * - fcm.url 이 비어 있으면 실제로 보내지 않고 로그만 남긴다 (로컬 개발용)
+ * - access token 은 FcmAccessTokenProvider 가 서비스 계정으로 받아 오고 만료 전에 갱신한다.
+ *   그래도 401/403 이 오면 다시 보내도 같은 실패이므로 재시도하지 않고, 눈에 띄게 로그를 남긴다.
+ * - stub 프로필에서는 fcm.url 이 같은 서버의 FcmStubController 를 가리킨다.
+ */
+@Component
+public class FcmClient {
+
+    private static final long AUTH_FAILURE_LOG_INTERVAL_MS = 60_000;
+
+    private final ObjectMapper objectMapper;
+    private final FcmAccessTokenProvider tokenProvider;
+    private final URI sendUri;
+    private final Duration requestTimeout;
+    private final ExecutorService ioExecutor;
+    private final HttpClient httpClient;
+
+    private final AtomicLong authFailures = new AtomicLong();
+    private final AtomicLong lastAuthFailureLogAt = new AtomicLong();
+
+    public FcmClient(
+            ObjectMapper objectMapper,
+            FcmAccessTokenProvider tokenProvider,
+            @Value("${fcm.url:}") String url,
+            @Value("${fcm.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${fcm.http.request-timeout-ms:10000}") long requestTimeoutMs,
+            @Value("${fcm.http.io-threads:2}") int ioThreads
+    ) {
+        this.objectMapper = objectMapper;
+        this.tokenProvider = tokenProvider;
+        this.sendUri = url == null || url.isBlank() ? null : URI.create(url);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads, r -> {
+            Thread t = new Thread(r, "fcm-http-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(ioExecutor)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+    }
+
+    /**
+     * 기기 토큰 하나로 알림 전송 (실패해도 예외 없이 결과로 완료)
+     */
+    public CompletableFuture<FcmSendResult> send(String token, String title, String body) {
+        if (sendUri == null) {
+            System.out.println("[FcmClient] fcm.url 미설정 → 전송 생략: " + title + " / " + body);
+            return CompletableFuture.completedFuture(FcmSendResult.SENT);
+        }
+
+        String payload = buildBody(token, title, body);
+        return tokenProvider.token()
+                .thenCompose(accessToken -> {
+                    HttpRequest.Builder request = HttpRequest.newBuilder(sendUri)
+                            .timeout(requestTimeout)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(payload));
+                    if (accessToken != null) {
+                        request.header("Authorization", "Bearer " + accessToken);
+                    }
+                    return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString());
+                })
+                .handle((response, error) -> {
+                    if (error != null) {
+                        // 네트워크 오류, 타임아웃, 토큰 서버 일시 장애
+                        System.out.println("[FcmClient] 전송 실패 (재시도 대상): " + error.getMessage());
+                        return FcmSendResult.RETRY;
+                    }
+                    return classify(response);
+                });
+    }
+
+    private String buildBody(String token, String title, String body) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode message = root.putObject("message");
+        message.put("token", token);
+        message.putObject("notification")
+                .put("title", title)
+                .put("body", body);
+        return root.toString();
+    }
+
+    /**
+     * HTTP 상태 → 전송 결과
+     * - 404 / UNREGISTERED : 토큰 만료
+     * - 400 INVALID_ARGUMENT 중 토큰 형식 오류도 만료로 본다
+     * - 401 / 403 : 인증 실패 (다시 보내도 같은 결과라 재시도하지 않음, 캐시된 토큰은 버린다)
+     * - 429, 5xx : 나중에 다시 시도
+     */
+    private FcmSendResult classify(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            return FcmSendResult.SENT;
+        }
+
+        String body = response.body() == null ? "" : response.body();
+        if (status == 404 || body.contains("UNREGISTERED")) {
+            return FcmSendResult.INVALID_TOKEN;
+        }
+        if (status == 400 && body.contains("registration token")) {
+            return FcmSendResult.INVALID_TOKEN;
+        }
+        if (status == 401 || status == 403) {
+            tokenProvider.invalidate();
+            logAuthFailure(status, body);
+            return FcmSendResult.AUTH_FAILED;
+        }
+        if (status == 429 || status >= 500) {
+            System.out.println("[FcmClient] FCM 응답 " + status + " → 재시도 대상");
+            return FcmSendResult.RETRY;
+        }
+
+        System.out.println("[FcmClient] FCM 응답 " + status + " → 전송 거절: " + body);
+        return FcmSendResult.REJECTED;
+    }
+
+    /**
+     * 인증 실패는 묶음의 모든 전송에서 한꺼번에 나므로, 누적 건수와 함께 1분에 한 번만 남긴다
+     */
+    private void logAuthFailure(int status, String body) {
+        long count = authFailures.incrementAndGet();
+        long now = System.currentTimeMillis();
+        long last = lastAuthFailureLogAt.get();
+        if (now - last >= AUTH_FAILURE_LOG_INTERVAL_MS && lastAuthFailureLogAt.compareAndSet(last, now)) {
+            System.out.println("[FcmClient] !!! FCM 인증 실패 " + status + " (누적 " + count + "건) → 재시도 없이 FAILED 처리."
+                    + " fcm.credentials-file 과 서비스 계정 권한을 확인하세요: " + body);
+        }
+    }
+}
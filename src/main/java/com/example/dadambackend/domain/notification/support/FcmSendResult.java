@@ -0,0 +1,17 @@
+package com.example.dadambackend.domain.notification.support;
+
+/**
+ * 토큰 하나에 대한 FCM 전송 결과
+ * - SENT : 전달 완료
+ * - RETRY : 일시적 실패 (429, 5xx, 타임아웃 등) → 나중에 다시 보낸다
+ * - INVALID_TOKEN : 앱 삭제 등으로 더 이상 유효하지 않은 토큰 (404 UNREGISTERED)
+ * - REJECTED : 다시 보내도 같은 실패 (잘못된 요청 등)
+ * - AUTH_FAILED : 401 / 403 (access token 만료나 권한 문제, 고칠 때까지 다시 보내도 같은 실패)
+ */
+public enum FcmSendResult {
+    SENT,
+    RETRY,
+    INVALID_TOKEN,
+    REJECTED,
+    AUTH_FAILED
+}
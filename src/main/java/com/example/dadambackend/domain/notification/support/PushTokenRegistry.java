@@ -0,0 +1,344 @@
+package com.example.dadambackend.domain.notification.support;
+
+import com.example.dadambackend.domain.notification.repository.FamilyPushToken;
+import com.example.dadambackend.domain.notification.repository.PushTokenChange;
+import com.example.dadambackend.domain.notification.repository.PushTokenRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 기기 토큰 메모리 인덱스 (디스패처는 push_token 테이블을 조회하지 않는다)
+ * - token → 주인, userId → tokens, familyId → 구성원 인덱스를 함께 유지
+ * - 시작할 때 전체를 올리고, 등록/해제/가족 변경은 커밋 후 바로 반영한다.
+ * - 다른 노드에서 등록된 토큰은 notification.tokens.refresh-ms 마다 updated_at 이 마지막으로 본 시각 이후인 행만 읽어서 따라잡는다.
+ *   다른 노드에서 지운 토큰과 가족 변경은 증분으로 알 수 없으므로 full-refresh-ms 마다 전체를 다시 읽는다.
+ * - 재적재는 전용 push-token-reload 스레드 하나에서만 돈다. (공용 @Scheduled 스레드를 쓰지 않음)
+ * - DB 를 읽는 동안 반영된 변경은 기록해 두었다가, 읽은 결과에 다시 적용한 뒤 교체한다.
+ *   (락 밖에서 읽은 스냅샷이 그 사이 커밋된 등록/해제/가족 변경을 덮어쓰지 않게)
+ * - FCM 이 만료라고 알려 준 토큰은 인덱스에서 바로 빼고, DB 에서는 prune-batch-size 개씩 묶어서 지운다.
+ */
+@Component
+public class PushTokenRegistry {
+
+    // 토큰이 하나도 없을 때의 증분 조회 기준
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final PushTokenRepository pushTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int pruneBatchSize;
+    private final long refreshMs;
+    private final long fullRefreshMs;
+    private final long refreshOverlapMs;
+    private final ScheduledExecutorService reloader;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    // 재적재가 DB 를 읽는 동안 반영된 변경 (lock 안에서만 접근, 재적재 중이 아니면 null)
+    private List<Consumer<Index>> replay;
+
+    // 다음 증분 조회 기준 (시작 시 한 번 채운 뒤로는 push-token-reload 스레드만 접근)
+    private LocalDateTime lastSeen;
+
+    public PushTokenRegistry(
+            PushTokenRepository pushTokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.tokens.prune-batch-size:500}") int pruneBatchSize,
+            @Value("${notification.tokens.refresh-ms:60000}") long refreshMs,
+            @Value("${notification.tokens.full-refresh-ms:600000}") long fullRefreshMs,
+            // now(6) 를 찍은 뒤 늦게 커밋된 행도 잡도록 기준 시각을 이만큼 앞당겨 읽는다 (다시 읽어도 결과는 같음)
+            @Value("${notification.tokens.refresh-overlap-ms:5000}") long refreshOverlapMs
+    ) {
+        this.pushTokenRepository = pushTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pruneBatchSize = Math.max(1, pruneBatchSize);
+        this.refreshMs = refreshMs;
+        this.fullRefreshMs = fullRefreshMs;
+        this.refreshOverlapMs = refreshOverlapMs;
+
+        this.reloader = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "push-token-reload");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 시작할 때 전체를 올린 뒤 증분 / 전체 재적재 예약 (같은 스레드라 둘이 겹치지 않는다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reloadAll();
+        reloader.scheduleWithFixedDelay(() -> run(this::reloadChanged), refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+        reloader.scheduleWithFixedDelay(() -> run(this::reloadAll), fullRefreshMs, fullRefreshMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    /**
+     * DB 전체를 다시 읽어서 인덱스 교체
+     */
+    void reloadAll() {
+        startReplay();
+        LocalDateTime watermark;
+        Index fresh = new Index();
+        try {
+            // 스냅샷보다 먼저 읽어야 그 사이 등록된 행을 다음 증분 조회에서 놓치지 않는다
+            watermark = pushTokenRepository.findLastUpdatedAt();
+            for (FamilyPushToken row : pushTokenRepository.findAllWithFamily()) {
+                fresh.put(row.token(), row.userId(), row.familyId());
+            }
+        } catch (RuntimeException e) {
+            finishReplay(null);
+            throw e;
+        }
+
+        finishReplay(replayed -> {
+            replayed.forEach(change -> change.accept(fresh));
+            index = fresh;
+        });
+        lastSeen = watermark != null ? watermark : BEGINNING;
+    }
+
+    /**
+     * 마지막으로 본 시각 이후 등록되거나 주인이 바뀐 토큰만 읽어서 반영
+     */
+    void reloadChanged() {
+        startReplay();
+        List<PushTokenChange> rows;
+        try {
+            rows = pushTokenRepository.findChangedSince(lastSeen.minus(refreshOverlapMs, ChronoUnit.MILLIS));
+        } catch (RuntimeException e) {
+            finishReplay(null);
+            throw e;
+        }
+
+        finishReplay(replayed -> {
+            rows.forEach(row -> index.put(row.token(), row.userId(), row.familyId()));
+            // 읽은 행보다 나중에 반영된 해제 / 가족 변경이 이기도록 다시 적용
+            replayed.forEach(change -> change.accept(index));
+        });
+        for (PushTokenChange row : rows) {
+            if (row.updatedAt().isAfter(lastSeen)) {
+                lastSeen = row.updatedAt();
+            }
+        }
+    }
+
+    /**
+     * 여러 가족의 구성원 토큰 (fan-out 용)
+     */
+    public List<FamilyPushToken> familyTokens(Collection<Long> familyIds) {
+        List<FamilyPushToken> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long familyId : familyIds) {
+                for (Long userId : index.membersByFamily.getOrDefault(familyId, Set.of())) {
+                    for (String token : index.tokensByUser.getOrDefault(userId, Set.of())) {
+                        result.add(new FamilyPushToken(familyId, userId, token));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 토큰 등록 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void registered(String token, Long userId, Long familyId) {
+        afterCommit(() -> write(index -> index.put(token, userId, familyId)));
+    }
+
+    /**
+     * 토큰 해제 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void unregistered(String token, Long userId) {
+        afterCommit(() -> write(index -> {
+            if (Objects.equals(index.owners.get(token), userId)) {
+                index.remove(token);
+            }
+        }));
+    }
+
+    /**
+     * 유저의 가족이 바뀜 (트랜잭션 안이면 커밋 후)
+     */
+    public void familyChanged(Long userId, Long familyId) {
+        afterCommit(() -> write(index -> index.moveUser(userId, familyId)));
+    }
+
+    /**
+     * FCM 이 만료라고 알려 준 토큰 정리
+     * - 인덱스에서는 바로 빼서 다음 묶음부터 보내지 않고, DB 는 pruneBatchSize 개씩 한 문장으로 지운다.
+     */
+    public void prune(Collection<String> invalidTokens) {
+        if (invalidTokens.isEmpty()) {
+            return;
+        }
+        write(index -> invalidTokens.forEach(index::remove));
+
+        List<String> tokens = new ArrayList<>(invalidTokens);
+        int deleted = 0;
+        try {
+            for (int from = 0; from < tokens.size(); from += pruneBatchSize) {
+                List<String> chunk = tokens.subList(from, Math.min(tokens.size(), from + pruneBatchSize));
+                Integer count = transactionTemplate.execute(status -> pushTokenRepository.deleteByTokenIn(chunk));
+                deleted += count == null ? 0 : count;
+            }
+        } catch (RuntimeException e) {
+            // DB 에 남은 토큰은 다음 reload 때 다시 올라오고, 다시 만료로 확인되면 그때 지운다
+            System.out.println("[PushTokenRegistry] 만료 토큰 삭제 실패: " + e.getMessage());
+        }
+        System.out.println("[PushTokenRegistry] 만료 토큰 " + deleted + "개 삭제");
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.owners.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void startReplay() {
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기록을 멈추고, 그동안의 변경 목록으로 apply 실행 (apply 가 null 이면 버림)
+     */
+    private void finishReplay(Consumer<List<Consumer<Index>>> apply) {
+        lock.writeLock().lock();
+        try {
+            if (apply != null) {
+                apply.accept(replay);
+            }
+        } finally {
+            replay = null;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 예외가 새어 나가면 scheduleWithFixedDelay 가 멈추므로 여기서 잡는다
+     */
+    private static void run(Runnable reload) {
+        try {
+            reload.run();
+        } catch (RuntimeException e) {
+            System.out.println("[PushTokenRegistry] 토큰 재적재 실패: " + e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 인덱스 본체 (lock 안에서만 접근)
+     */
+    private static class Index {
+
+        private final Map<String, Long> owners = new HashMap<>();  // token → userId
+        private final Map<Long, Set<String>> tokensByUser = new HashMap<>();
+        private final Map<Long, Set<Long>> membersByFamily = new HashMap<>();
+        private final Map<Long, Long> familyByUser = new HashMap<>();
+
+        void put(String token, Long userId, Long familyId) {
+            remove(token);
+            owners.put(token, userId);
+            tokensByUser.computeIfAbsent(userId, id -> new LinkedHashSet<>()).add(token);
+            moveUser(userId, familyId);
+        }
+
+        void remove(String token) {
+            Long userId = owners.remove(token);
+            if (userId == null) {
+                return;
+            }
+            Set<String> tokens = tokensByUser.get(userId);
+            if (tokens != null) {
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    tokensByUser.remove(userId);
+                    moveUser(userId, null);
+                }
+            }
+        }
+
+        /**
+         * 가족 인덱스에서 유저를 옮긴다 (토큰이 없는 유저는 가족 인덱스에 두지 않는다)
+         */
+        void moveUser(Long userId, Long familyId) {
+            Long previous = familyByUser.remove(userId);
+            if (previous != null) {
+                Set<Long> members = membersByFamily.get(previous);
+                if (members != null) {
+                    members.remove(userId);
+                    if (members.isEmpty()) {
+                        membersByFamily.remove(previous);
+                    }
+                }
+            }
+            if (familyId != null && tokensByUser.containsKey(userId)) {
+                familyByUser.put(userId, familyId);
+                membersByFamily.computeIfAbsent(familyId, id -> new LinkedHashSet<>()).add(userId);
+            }
+        }
+    }
+}
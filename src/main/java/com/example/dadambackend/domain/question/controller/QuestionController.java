@@ -22,8 +22,7 @@ public class QuestionController {
      */
     @GetMapping("/today")
     public ResponseEntity<QuestionResponse> getTodayQuestion() {
-        Question question = questionService.getTodayQuestion();
-        return ResponseEntity.ok(QuestionResponse.of(question));
+        return ResponseEntity.ok(questionService.getTodayQuestion());
     }
 
     /**
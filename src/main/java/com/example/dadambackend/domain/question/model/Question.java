@@ -1,20 +1,30 @@
 package com.example.dadambackend.domain.question.model;
 
+import com.example.dadambackend.global.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+// 저장 후 바뀌지 않는 하루치 콘텐츠 → 2차 캐시 (READ_ONLY)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = HibernateCacheConfig.QUESTION_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
         name = "question",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_question_date", columnNames = "question_date")
+        },
+        indexes = {
+                // 가장 최근 질문 조회
+                @Index(name = "idx_question_created_at", columnList = "created_at")
         }
 )
 public class Question {
@@ -1,9 +1,16 @@
 package com.example.dadambackend.domain.question.repository;
 
 import com.example.dadambackend.domain.question.model.Question;
+import com.example.dadambackend.global.config.HibernateCacheConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
@@ -12,11 +19,25 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
      * 특정 날짜(questionDate)에 해당하는 질문 중
      * 가장 나중에 생성된(createdAt DESC) 하나만 가져온다.
      * (혹시라도 중복 데이터가 있어도 한 개만 반환하도록 방지 로직)
+     * - 쿼리 캐시 (daily-content-by-date, 짧은 TTL)
+     * - 자체 읽기 트랜잭션 : 바깥 트랜잭션 없이 (NOT_SUPPORTED) 부르면 커넥션이 호출한 메서드가 끝날 때까지 묶여
+     *   이어지는 AI 호출 내내 반납되지 않는다. 자체 트랜잭션이면 조회가 끝나는 즉시 반납된다.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.DAILY_CONTENT_BY_DATE_REGION)
+    })
+    @Transactional(readOnly = true)
     Optional<Question> findTopByQuestionDateOrderByCreatedAtDesc(LocalDate questionDate);
 
     /**
      * 가장 최근에 생성된 질문
      */
     Optional<Question> findTopByOrderByCreatedAtDesc();
+
+    /**
+     * 모든 질문 내용 (유사 중복 인덱스 적재용, 엔티티 대신 문자열만 조회)
+     */
+    @Query("select q.content from Question q")
+    List<String> findAllContents();
 }
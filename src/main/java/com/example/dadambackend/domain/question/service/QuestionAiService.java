@@ -1,34 +1,71 @@
 package com.example.dadambackend.domain.question.service;
 
 import com.example.dadambackend.common.ai.AiClient;
+import com.example.dadambackend.common.ai.AiClientException;
+import com.example.dadambackend.common.ai.cache.AiCachePolicy;
+import com.example.dadambackend.common.daily.DailyContentBatchGenerator;
+import com.example.dadambackend.common.daily.DailyContentType;
 import com.example.dadambackend.domain.question.dto.QuestionGenerationResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
-public class QuestionAiService {
+public class QuestionAiService implements DailyContentBatchGenerator<QuestionGenerationResult> {
 
-    private final AiClient aiClient;
-    private final ObjectMapper objectMapper;
-    private final Random random = new Random();
-
-    public QuestionGenerationResult generateDailyQuestion() {
+    private static final String[] CATEGORIES = {"TRAVEL", "HOBBY", "MEMORY"};
 
-        String[] categories = {"TRAVEL", "HOBBY", "MEMORY"};
-        String targetCategory = categories[random.nextInt(categories.length)];
-
-        String systemPrompt = """
+    private static final String SYSTEM_PROMPT = """
             너는 세대 간 소통을 돕는 '가족 대화 질문 생성기'야.
             정치, 혐오, 폭력, 선정적인 내용은 절대 포함하지 마.
             가족이 서로를 더 이해하고 공감할 수 있는 따뜻한 질문만 생성해.
             반드시 JSON 형식으로만 응답해야 해.
             """;
 
+    private final AiClient aiClient;
+    private final ObjectMapper objectMapper;
+    private final Random random = new Random();
+
+    /**
+     * 질문 생성 (실패 시 fallback 질문 반환)
+     */
+    public QuestionGenerationResult generateDailyQuestion(LocalDate date) {
+        try {
+            return generateDailyQuestionOrThrow(date);
+        } catch (Exception e) {
+            System.out.println("[QuestionAiService] GPT 질문 생성 실패, fallback 사용: " + e.getMessage());
+            return buildFallback();
+        }
+    }
+
+    /**
+     * 질문 생성 (실패 시 AiClientException)
+     * - DailyContentPipeline 처럼 실패하면 나중에 재시도해야 하는 곳에서 사용
+     * - 같은 날짜로 다시 호출하면 캐시된 응답을 재사용 (재배포 / 저장 실패 후 재시도)
+     */
+    public QuestionGenerationResult generateDailyQuestionOrThrow(LocalDate date) {
+        return AiClient.await(generateDailyQuestionAsync(date, false));
+    }
+
+    /**
+     * 질문 비동기 생성 (실패 시 AiClientException 으로 예외 완료)
+     * - 여러 건을 동시에 요청해도 응답 대기 동안 스레드를 점유하지 않음
+     * - fresh = true 면 캐시를 건너뛰고 새로 생성
+     */
+    public CompletableFuture<QuestionGenerationResult> generateDailyQuestionAsync(LocalDate date, boolean fresh) {
+
+        // 카테고리는 날짜 기준으로 고정 → 같은 날짜의 재시도는 같은 캐시 키를 쓴다
+        String targetCategory = CATEGORIES[new Random(date.toEpochDay()).nextInt(CATEGORIES.length)];
+
         String userPrompt = ("""
             아래 형식의 JSON으로만 응답해라.
 
@@ -45,17 +82,97 @@ public class QuestionAiService {
             - JSON 이외의 설명, 말줄임표, 주석 등은 절대 넣지 마라.
             """).formatted(targetCategory, targetCategory, targetCategory);
 
+        // 캐시 구분값에 날짜를 넣어서 다른 날짜끼리 같은 질문을 공유하지 않게 한다
+        String cacheCategory = "QUESTION:" + targetCategory + ":" + date;
+        AiCachePolicy cachePolicy = fresh ? AiCachePolicy.fresh(cacheCategory) : AiCachePolicy.cached(cacheCategory);
+
+        return aiClient.requestAsync(SYSTEM_PROMPT, userPrompt, cachePolicy, this::parse);
+    }
+
+    @Override
+    public DailyContentType getContentType() {
+        return DailyContentType.QUESTION;
+    }
+
+    /**
+     * 질문 여러 개를 AI 호출 한 번으로 생성 (DailyContentBufferRefiller 용)
+     * - 각 항목을 따로 검증해서 통과한 것만 반환
+     * - response_format 이 json_object 라 배열을 바로 받을 수 없으므로 {"items": [...]} 로 감싼다
+     */
+    @Override
+    public CompletableFuture<List<QuestionGenerationResult>> generateBatchAsync(int count) {
+        String userPrompt = ("""
+            아래 형식의 JSON으로만 응답해라.
+
+            형식:
+            {
+              "items": [
+                { "content": "질문 내용", "category": "TRAVEL | HOBBY | MEMORY 중 하나" }
+              ]
+            }
+
+            규칙:
+            - items 배열에 서로 다른 질문을 정확히 %d개 넣어라.
+            - content에는 가족이 함께 대화하기 좋은 질문 한 가지만 넣어라.
+            - category 는 TRAVEL, HOBBY, MEMORY 중 하나로 하고, 골고루 섞어라.
+            - 비슷한 질문을 반복하지 마라.
+            - JSON 이외의 설명, 말줄임표, 주석 등은 절대 넣지 마라.
+            """).formatted(count);
+
+        return aiClient.requestAsync(SYSTEM_PROMPT, userPrompt)
+                .thenApply(this::parseBatch);
+    }
+
+    private QuestionGenerationResult parse(String json) {
         try {
-            // 🔹 AiClient 호출 + JSON 파싱 전체를 try 안으로
-            String json = aiClient.request(systemPrompt, userPrompt);
-            return objectMapper.readValue(json, QuestionGenerationResult.class);
-        } catch (Exception e) {
-            System.out.println("[QuestionAiService] GPT 질문 생성 실패, fallback 사용: " + e.getMessage());
+            return validate(objectMapper.readValue(json, QuestionGenerationResult.class));
+        } catch (JsonProcessingException e) {
+            throw new AiClientException("JSON 파싱 실패: " + e.getMessage(), e);
+        }
+    }
 
-            QuestionGenerationResult fallback = new QuestionGenerationResult();
-            fallback.setContent("요즘 가장 감사하게 느끼는 일은 뭐야?");
-            fallback.setCategory("MEMORY");
-            return fallback;
+    private List<QuestionGenerationResult> parseBatch(String json) {
+        JsonNode items;
+        try {
+            items = objectMapper.readTree(json).path("items");
+        } catch (JsonProcessingException e) {
+            throw new AiClientException("JSON 파싱 실패: " + e.getMessage(), e);
+        }
+
+        List<QuestionGenerationResult> results = new ArrayList<>();
+        for (JsonNode item : items) {
+            try {
+                results.add(validate(objectMapper.treeToValue(item, QuestionGenerationResult.class)));
+            } catch (JsonProcessingException | AiClientException e) {
+                System.out.println("[QuestionAiService] 배치 항목 제외: " + e.getMessage());
+            }
+        }
+        if (results.isEmpty()) {
+            throw new AiClientException("배치 응답에 유효한 질문이 없음");
         }
+        return results;
+    }
+
+    private QuestionGenerationResult validate(QuestionGenerationResult result) {
+        if (result == null || result.getContent() == null || result.getContent().isBlank()) {
+            throw new AiClientException("AI 응답 content 누락");
+        }
+        return result;
+    }
+
+    /** AI 를 쓸 수 없을 때 사용하는 기본 질문 */
+    public QuestionGenerationResult buildFallback() {
+        // AI 장애가 길어져도 매일 같은 질문이 저장되지 않도록 몇 개 중에서 고른다
+        String[][] candidates = {
+                {"요즘 가장 감사하게 느끼는 일은 뭐야?", "MEMORY"},
+                {"가족과 함께 꼭 다시 가 보고 싶은 여행지는 어디야?", "TRAVEL"},
+                {"요즘 새로 빠져 있는 취미나 관심사가 있어?", "HOBBY"}
+        };
+        String[] picked = candidates[random.nextInt(candidates.length)];
+
+        QuestionGenerationResult fallback = new QuestionGenerationResult();
+        fallback.setContent(picked[0]);
+        fallback.setCategory(picked[1]);
+        return fallback;
     }
-}
\ No newline at end of file
+}
@@ -1,50 +1,67 @@
 package com.example.dadambackend.domain.question.service;
 
+import com.example.dadambackend.common.ai.AiClient;
+import com.example.dadambackend.common.daily.DailyContentBuffer;
+import com.example.dadambackend.common.daily.DailyContentCandidate;
+import com.example.dadambackend.common.daily.DailyContentProvider;
+import com.example.dadambackend.common.daily.DailyContentSingleFlight;
+import com.example.dadambackend.common.daily.DailyContentType;
+import com.example.dadambackend.common.daily.DailySnapshotCache;
+import com.example.dadambackend.common.daily.NearDuplicateIndex;
 import com.example.dadambackend.domain.question.dto.QuestionGenerationResult;
+import com.example.dadambackend.domain.question.dto.QuestionResponse;
 import com.example.dadambackend.domain.question.model.Question;
 import com.example.dadambackend.domain.question.model.QuestionCategory;
 import com.example.dadambackend.domain.question.repository.QuestionRepository;
 import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class QuestionService {
+public class QuestionService implements DailyContentProvider {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
 
     private final QuestionRepository questionRepository;
     private final QuestionAiService questionAiService;
+    private final DailyContentSingleFlight singleFlight;
+    private final DailyContentBuffer contentBuffer;
+    private final NearDuplicateIndex duplicateIndex;
+    private final DailySnapshotCache snapshotCache;
 
     /**
      * 오늘의 질문을 가져옵니다.
      * - DB에 오늘(questionDate == 오늘) 질문이 하나 이상 있으면
      *   → createdAt 기준으로 가장 최근 것 1개만 사용
-     * - 없으면 AI가 새 질문을 생성하고 저장한 뒤 반환
-     * - 동시성으로 인한 question_date unique 충돌 시
-     *   → 다시 조회하여 이미 생성된 오늘 질문을 반환
+     * - 없으면 (DailyContentPipeline 이 아직 못 채운 경우) AI를 기다리지 않고
+     *   버퍼에 미리 생성된 질문 → 없으면 기본 질문 순서로 저장한 뒤 반환
+     * - 동시에 몰린 요청은 DailyContentSingleFlight 로 묶어서 한 번만 저장하고,
+     *   다른 노드와의 충돌은 question_date unique 제약조건으로 막는다.
+     * - 바깥 트랜잭션 없이 실행: 조회/저장은 각각 짧은 트랜잭션으로 끝나고 커넥션을 오래 잡지 않는다.
+     * - 결과는 불변 응답(QuestionResponse) 그대로 날짜별 스냅샷 캐시에 두고 재사용한다.
      */
-    @Transactional
-    public Question getTodayQuestion() {
-        LocalDate today = LocalDate.now();
-
-        return questionRepository.findTopByQuestionDateOrderByCreatedAtDesc(today)
-                .orElseGet(() -> {
-                    try {
-                        // 아직 없으면 AI를 통해 새로 생성
-                        return createTodayQuestionFromAi(today);
-                    } catch (DataIntegrityViolationException e) {
-                        // 동시에 다른 트랜잭션이 먼저 insert한 경우
-                        // 다시 한 번 오늘 날짜 기준으로 가장 최근 질문을 조회
-                        return questionRepository.findTopByQuestionDateOrderByCreatedAtDesc(today)
-                                .orElseThrow(() -> e);
-                    }
-                });
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public QuestionResponse getTodayQuestion() {
+        LocalDate today = LocalDate.now(ZONE_SEOUL);
+
+        return snapshotCache.get(DailyContentType.QUESTION, today, QuestionResponse.class, () -> QuestionResponse.of(
+                questionRepository.findTopByQuestionDateOrderByCreatedAtDesc(today)
+                        .orElseGet(() -> {
+                            // 사전 생성이 안 된 경우: 요청 스레드에서 AI를 호출하지 않고 fallback 사용
+                            System.out.println("[QuestionService] 사전 생성된 질문 없음 → fallback 질문 사용: " + today);
+                            return findOrCreate(today, () -> fromBufferOr(questionAiService::buildFallback));
+                        })));
     }
 
     /**
@@ -65,15 +82,75 @@ public class QuestionService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
     }
 
+    @Override
+    public DailyContentType getContentType() {
+        return DailyContentType.QUESTION;
+    }
+
+    /**
+     * 해당 날짜의 질문이 없으면 버퍼에서 꺼내거나, 버퍼가 비었으면 AI로 생성해서 저장합니다. (DailyContentPipeline 용)
+     * - 있던 질문이든 새로 만든 질문이든 스냅샷 캐시에 올려 둔다. (자정 직후 첫 요청도 캐시에서)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean prepareForDate(LocalDate date) {
+        Optional<Question> existing = questionRepository.findTopByQuestionDateOrderByCreatedAtDesc(date);
+        Question question = existing.orElseGet(() -> findOrCreate(date, () -> fromBufferOr(() -> generateDistinct(date))));
+        snapshotCache.put(DailyContentType.QUESTION, date, QuestionResponse.of(question));
+        return existing.isEmpty();
+    }
+
+    @Override
+    public List<String> findAllDedupTexts() {
+        return questionRepository.findAllContents();
+    }
+
+    /**
+     * 배치 생성으로 쌓아 둔 버퍼에서 (기존 질문과 겹치지 않는) 하나를 꺼내고, 비어 있으면 otherwise 사용
+     */
+    private DailyContentCandidate<QuestionGenerationResult> fromBufferOr(Supplier<QuestionGenerationResult> otherwise) {
+        return contentBuffer.poll(DailyContentType.QUESTION, QuestionGenerationResult.class,
+                        result -> !duplicateIndex.isNearDuplicate(DailyContentType.QUESTION, result.getContent()))
+                .orElseGet(() -> DailyContentCandidate.generated(otherwise.get()));
+    }
+
+    /**
+     * 기존 질문과 유사 중복이 아닌 질문을 AI로 생성 (두 번째 시도부터는 캐시를 건너뛴다)
+     */
+    private QuestionGenerationResult generateDistinct(LocalDate date) {
+        return duplicateIndex.generateDistinct(
+                DailyContentType.QUESTION,
+                QuestionGenerationResult::getContent,
+                attempt -> attempt == 0
+                        ? questionAiService.generateDailyQuestionOrThrow(date)
+                        : AiClient.await(questionAiService.generateDailyQuestionAsync(date, true))
+        );
+    }
+
     /**
-     * AI를 호출해 오늘의 질문을 생성하고 저장한 뒤 반환합니다.
-     * - getTodayQuestion() 트랜잭션 내부에서만 호출되는 헬퍼 메서드입니다.
+     * (QUESTION, date) 단위 single-flight 안에서 "조회 후 없으면 생성" 을 실행합니다.
+     * - generator(AI 호출 등)는 트랜잭션 밖, 저장만 짧은 트랜잭션 안에서 실행
      */
-    protected Question createTodayQuestionFromAi(LocalDate today) {
-        // 1. AI에게 질문 생성 요청
-        QuestionGenerationResult result = questionAiService.generateDailyQuestion();
+    private Question findOrCreate(LocalDate date, Supplier<DailyContentCandidate<QuestionGenerationResult>> generator) {
+        return singleFlight.execute(
+                DailyContentType.QUESTION,
+                date,
+                () -> questionRepository.findTopByQuestionDateOrderByCreatedAtDesc(date),
+                generator,
+                candidate -> {
+                    // 버퍼 항목 삭제도 같은 트랜잭션 (저장이 롤백되면 항목은 선점 만료 후 다시 쓰인다)
+                    Question saved = saveQuestion(date, candidate.value());
+                    contentBuffer.consume(DailyContentType.QUESTION, candidate);
+                    return saved;
+                }
+        );
+    }
 
-        // 2. category 문자열을 enum으로 변환
+    /**
+     * 생성 결과를 Question 엔티티로 저장합니다.
+     */
+    private Question saveQuestion(LocalDate date, QuestionGenerationResult result) {
+        // 1. category 문자열을 enum으로 변환
         QuestionCategory category;
         try {
             category = QuestionCategory.valueOf(result.getCategory());
@@ -82,15 +159,17 @@ public class QuestionService {
             category = QuestionCategory.MEMORY;
         }
 
-        // 3. 새 Question 엔티티 생성
+        // 2. 새 Question 엔티티 생성
         Question question = new Question(
                 result.getContent(),
                 category,
-                today
+                date
         );
 
-        // 4. 저장 후 반환
-        return questionRepository.save(question);
+        // 3. 저장 후 유사 중복 인덱스에 추가
+        Question saved = questionRepository.save(question);
+        duplicateIndex.add(DailyContentType.QUESTION, saved.getContent());
+        return saved;
     }
 
     /**
@@ -102,7 +181,7 @@ public class QuestionService {
             Question initialQuestion = new Question(
                     "가족과 함께한 가장 즐거웠던 여행은 무엇인가요?",
                     QuestionCategory.TRAVEL,
-                    LocalDate.now()
+                    LocalDate.now(ZONE_SEOUL)
             );
             questionRepository.save(initialQuestion);
         }
@@ -0,0 +1,51 @@
+package com.example.dadambackend.domain.quiz.dto;
+
+import com.example.dadambackend.domain.quiz.model.SlangQuiz;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 하루치 신조어 퀴즈의 불변 스냅샷 (DailySnapshotCache 에 날짜별로 보관)
+ * - choices 문자열 분리와 정답 인덱스 계산을 만들 때 한 번만 한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SlangQuizSnapshot {
+
+    private final Long id;
+    private final LocalDate quizDate;
+    private final String question;
+    private final String answer;
+    private final List<String> choices;
+    private final String explanation;
+    private final Integer answerIndex;   // 정답 보기 인덱스 (보기에 정답이 없으면 null)
+
+    public static SlangQuizSnapshot of(SlangQuiz quiz) {
+        List<String> choices = List.of(quiz.getChoiceArray());
+
+        Integer answerIndex = null;
+        if (quiz.getAnswer() != null) {
+            String answer = quiz.getAnswer().trim();
+            for (int i = 0; i < choices.size(); i++) {
+                if (answer.equals(choices.get(i).trim())) {
+                    answerIndex = i;
+                    break;
+                }
+            }
+        }
+
+        return new SlangQuizSnapshot(
+                quiz.getId(),
+                quiz.getQuizDate(),
+                quiz.getQuestion(),
+                quiz.getAnswer(),
+                choices,
+                quiz.getExplanation(),
+                answerIndex
+        );
+    }
+}
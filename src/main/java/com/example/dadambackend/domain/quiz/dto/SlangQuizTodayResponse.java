@@ -2,15 +2,14 @@
 
 package com.example.dadambackend.domain.quiz.dto;
 
-import com.example.dadambackend.domain.quiz.model.SlangQuiz;
 import com.example.dadambackend.domain.quiz.model.SlangQuizVote;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -29,6 +28,9 @@ public class SlangQuizTodayResponse {
     private List<VoterSummary> votes1;
     private List<VoterSummary> votes2;
 
+    // 보기별 우리 가족 표 수 (choices 와 같은 순서, 가족별 집계 테이블 기준)
+    private List<Long> voteCounts;
+
     @Getter
     @AllArgsConstructor
     public static class VoterSummary {
@@ -36,28 +38,17 @@ public class SlangQuizTodayResponse {
         private String userName;
     }
 
-    public static SlangQuizTodayResponse of(SlangQuiz quiz,
-                                            List<SlangQuizVote> votes) {
-        return of(quiz, votes, null);
-    }
-
-    public static SlangQuizTodayResponse of(SlangQuiz quiz,
+    /**
+     * @param quiz   오늘 퀴즈 스냅샷 (보기 분리 / 정답 인덱스 계산 완료)
+     * @param votes  우리 가족 투표 (user fetch join 된 상태)
+     * @param counts 보기 인덱스 → 표 수
+     */
+    public static SlangQuizTodayResponse of(SlangQuizSnapshot quiz,
                                             List<SlangQuizVote> votes,
-                                            Long currentUserId) {
-
-        String[] choiceArr = quiz.getChoiceArray();
-        List<String> choices = Arrays.asList(choiceArr);
-
-        // 정답 인덱스 계산
-        Integer answerIndex = null;
-        if (quiz.getAnswer() != null) {
-            for (int i = 0; i < choiceArr.length; i++) {
-                if (quiz.getAnswer().trim().equals(choiceArr[i].trim())) {
-                    answerIndex = i;
-                    break;
-                }
-            }
-        }
+                                            Long currentUserId,
+                                            Map<Integer, Long> counts) {
+
+        List<String> choices = quiz.getChoices();
 
         List<VoterSummary> votes0 = new ArrayList<>();
         List<VoterSummary> votes1 = new ArrayList<>();
@@ -81,17 +72,23 @@ public class SlangQuizTodayResponse {
             }
         }
 
+        List<Long> voteCounts = new ArrayList<>(choices.size());
+        for (int i = 0; i < choices.size(); i++) {
+            voteCounts.add(counts.getOrDefault(i, 0L));
+        }
+
         return SlangQuizTodayResponse.builder()
                 .id(quiz.getId())
                 .question(quiz.getQuestion())
                 .choices(choices)
                 .answer(quiz.getAnswer())
                 .explanation(quiz.getExplanation())
-                .answerIndex(answerIndex)
+                .answerIndex(quiz.getAnswerIndex())
                 .myChoiceIndex(myChoiceIndex)
                 .votes0(votes0)
                 .votes1(votes1)
                 .votes2(votes2)
+                .voteCounts(voteCounts)
                 .build();
     }
 }
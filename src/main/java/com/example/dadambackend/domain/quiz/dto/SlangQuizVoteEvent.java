@@ -0,0 +1,16 @@
+package com.example.dadambackend.domain.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 신조어 퀴즈 투표 실시간 이벤트 (가족 채널 QUIZ_VOTE)
+ */
+@Getter
+@AllArgsConstructor
+public class SlangQuizVoteEvent {
+    private Long quizId;
+    private Long userId;
+    private String userName;
+    private int choiceIndex;
+}
@@ -1,27 +1,43 @@
 package com.example.dadambackend.domain.quiz.model;
 
 import com.example.dadambackend.domain.quiz.dto.SlangQuizGenerationResult;
+import com.example.dadambackend.global.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 @Entity
-@Table(name = "slang_quiz")
+// 저장 후 바뀌지 않는 하루치 콘텐츠 → 2차 캐시 (READ_ONLY)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = HibernateCacheConfig.SLANG_QUIZ_REGION)
+@Table(
+        name = "slang_quiz",
+        uniqueConstraints = {
+                // 하루 1개 정책을 DB 레벨에서도 보장 (여러 노드가 동시에 생성하는 경우 대비)
+                @UniqueConstraint(name = "uk_slang_quiz_quiz_date", columnNames = "quiz_date")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SlangQuiz {
 
+    // choices 구분자 "||" (split 할 때마다 정규식을 다시 컴파일하지 않도록 미리 컴파일)
+    private static final Pattern CHOICE_DELIMITER = Pattern.compile("||", Pattern.LITERAL);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     /** 이 퀴즈가 표시될 날짜 (하루 1개 정책용) */
-    @Column(nullable = false)
+    @Column(name = "quiz_date", nullable = false)
     private LocalDate quizDate;
 
     @Column(nullable = false, length = 500)
@@ -68,7 +84,7 @@ public class SlangQuiz {
         if (choices == null || choices.isBlank()) {
             return new String[0];
         }
-        return choices.split("\\|\\|");
+        return CHOICE_DELIMITER.split(choices);
     }
 
     /** Entity → DTO 변환 헬퍼 */
@@ -1,5 +1,6 @@
 package com.example.dadambackend.domain.quiz.model;
 
+import com.example.dadambackend.domain.family.model.Family;
 import com.example.dadambackend.domain.user.model.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -14,7 +15,11 @@ import java.time.LocalDateTime;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_slang_quiz_vote_quiz_user",
                 columnNames = {"slang_quiz_id", "user_id"}
-        )
+        ),
+        indexes = {
+                // 가족별 투표자 조회
+                @Index(name = "idx_slang_quiz_vote_quiz_family", columnList = "slang_quiz_id, family_id, created_at")
+        }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -38,6 +43,11 @@ public class SlangQuizVote {
     @Column(nullable = false)
     private Integer choiceIndex;
 
+    // 투표 당시 가족 (가족 없으면 null) → 가족별 투표자 조회/집계 기준
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id")
+    private Family family;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -55,10 +65,11 @@ public class SlangQuizVote {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public SlangQuizVote(SlangQuiz quiz, User user, int choiceIndex) {
+    public SlangQuizVote(SlangQuiz quiz, User user, int choiceIndex, Family family) {
         this.quiz = quiz;
         this.user = user;
         this.choiceIndex = choiceIndex;
+        this.family = family;
     }
 
     public void updateChoice(int choiceIndex) {
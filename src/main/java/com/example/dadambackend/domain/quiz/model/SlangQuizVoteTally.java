@@ -0,0 +1,43 @@
+package com.example.dadambackend.domain.quiz.model;
+
+import com.example.dadambackend.domain.family.model.Family;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 신조어 퀴즈 가족별 보기 집계 (quiz, family_id, choice_index) → 표 수
+ * - 투표 저장과 같은 트랜잭션에서 SlangQuizVoteTallyRepository.increment 로 갱신
+ * - 가족이 없는 유저의 투표는 집계하지 않는다 (본인 투표만 보이므로)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "slang_quiz_vote_tally",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_slang_quiz_vote_tally_quiz_family_choice",
+                columnNames = {"slang_quiz_id", "family_id", "choice_index"}
+        )
+)
+public class SlangQuizVoteTally {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "slang_quiz_id", nullable = false)
+    private SlangQuiz quiz;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "family_id", nullable = false)
+    private Family family;
+
+    @Column(name = "choice_index", nullable = false)
+    private Integer choiceIndex;
+
+    @Column(name = "vote_count", nullable = false)
+    private long voteCount;
+}
@@ -1,9 +1,16 @@
 package com.example.dadambackend.domain.quiz.repository;
 
 import com.example.dadambackend.domain.quiz.model.SlangQuiz;
+import com.example.dadambackend.global.config.HibernateCacheConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface SlangQuizRepository extends JpaRepository<SlangQuiz, Long> {
@@ -11,6 +18,20 @@ public interface SlangQuizRepository extends JpaRepository<SlangQuiz, Long> {
     /**
      * 특정 날짜에 해당하는 퀴즈 1개 조회
      * - 하루 1개 정책이므로, createdAt 기준 가장 먼저 생성된 것 하나만 사용
+     * - 쿼리 캐시 (daily-content-by-date, 짧은 TTL)
+     * - 자체 읽기 트랜잭션 : 바깥 트랜잭션 없이 (NOT_SUPPORTED) 부르면 커넥션이 호출한 메서드가 끝날 때까지 묶여
+     *   이어지는 AI 호출 내내 반납되지 않는다. 자체 트랜잭션이면 조회가 끝나는 즉시 반납된다.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.DAILY_CONTENT_BY_DATE_REGION)
+    })
+    @Transactional(readOnly = true)
     Optional<SlangQuiz> findFirstByQuizDateOrderByCreatedAtAsc(LocalDate quizDate);
+
+    /**
+     * 모든 퀴즈 정답 문장 (유사 중복 인덱스 적재용, 엔티티 대신 문자열만 조회)
+     */
+    @Query("select q.answer from SlangQuiz q")
+    List<String> findAllAnswers();
 }
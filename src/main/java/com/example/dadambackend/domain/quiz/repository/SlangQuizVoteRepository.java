@@ -27,4 +27,19 @@ public interface SlangQuizVoteRepository extends JpaRepository<SlangQuizVote, Lo
      */
     @Query("select v from SlangQuizVote v join fetch v.user where v.quiz = :quiz")
     List<SlangQuizVote> findByQuizWithUser(@Param("quiz") SlangQuiz quiz);
+
+    /**
+     * 우리 가족 투표자 (user fetch join, 가족 크기만큼만 읽음)
+     */
+    @Query("select v from SlangQuizVote v join fetch v.user "
+            + "where v.quiz.id = :quizId and v.family.id = :familyId order by v.createdAt asc")
+    List<SlangQuizVote> findFamilyVotesWithUser(@Param("quizId") Long quizId,
+                                                @Param("familyId") Long familyId);
+
+    /**
+     * 가족이 없는 유저용 : 본인 투표만
+     */
+    @Query("select v from SlangQuizVote v join fetch v.user u where v.quiz.id = :quizId and u.id = :userId")
+    List<SlangQuizVote> findOwnVoteWithUser(@Param("quizId") Long quizId,
+                                            @Param("userId") Long userId);
 }
@@ -0,0 +1,28 @@
+package com.example.dadambackend.domain.quiz.repository;
+
+import com.example.dadambackend.domain.quiz.model.SlangQuizVoteTally;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SlangQuizVoteTallyRepository extends JpaRepository<SlangQuizVoteTally, Long> {
+
+    // 우리 가족 집계 (보기 수만큼)
+    List<SlangQuizVoteTally> findByQuizIdAndFamilyId(Long quizId, Long familyId);
+
+    /**
+     * 집계 행이 없으면 만들고, 있으면 delta 만큼 더한다 (행 단위 원자적 갱신)
+     */
+    @Modifying
+    @Query(value = "insert into slang_quiz_vote_tally (slang_quiz_id, family_id, choice_index, vote_count) "
+            + "values (:quizId, :familyId, :choiceIndex, :delta) "
+            + "on duplicate key update vote_count = vote_count + :delta",
+            nativeQuery = true)
+    void increment(@Param("quizId") Long quizId,
+                   @Param("familyId") Long familyId,
+                   @Param("choiceIndex") int choiceIndex,
+                   @Param("delta") long delta);
+}
@@ -1,22 +1,28 @@
 package com.example.dadambackend.domain.quiz.service;
 
 import com.example.dadambackend.common.ai.AiClient;
+import com.example.dadambackend.common.ai.AiClientException;
+import com.example.dadambackend.common.ai.cache.AiCachePolicy;
+import com.example.dadambackend.common.daily.DailyContentBatchGenerator;
+import com.example.dadambackend.common.daily.DailyContentType;
 import com.example.dadambackend.domain.quiz.dto.SlangQuizGenerationResult;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
-public class SlangQuizAiService {
-
-    private final AiClient aiClient;
-    private final ObjectMapper objectMapper;
+public class SlangQuizAiService implements DailyContentBatchGenerator<SlangQuizGenerationResult> {
 
-    public SlangQuizGenerationResult generate() {
-
-        // 🔹 역할 정의 (system 프롬프트)
-        String systemPrompt = """
+    // 🔹 역할 정의 (system 프롬프트)
+    private static final String SYSTEM_PROMPT = """
             너는 10~20대가 실제로 자주 쓰는 한국어 신조어/은어를 가지고
             객관식 퀴즈를 만드는 어시스턴트야.
 
@@ -26,6 +32,38 @@ public class SlangQuizAiService {
             - 반드시 JSON 형식으로만 응답해야 한다.
             """;
 
+    private final AiClient aiClient;
+    private final ObjectMapper objectMapper;
+    private final Random random = new Random();
+
+    /**
+     * 신조어 퀴즈 생성 (실패 시 fallback 반환)
+     */
+    public SlangQuizGenerationResult generate(LocalDate date) {
+        try {
+            return generateOrThrow(date);
+        } catch (AiClientException e) {
+            System.out.println("[SlangQuizAiService] 생성 실패 → fallback 사용: " + e.getMessage());
+            return buildFallback();
+        }
+    }
+
+    /**
+     * 신조어 퀴즈 생성 (실패 시 AiClientException)
+     * - DailyContentPipeline 처럼 실패하면 나중에 재시도해야 하는 곳에서 사용
+     * - 같은 날짜로 다시 호출하면 캐시된 응답을 재사용 (재배포 / 저장 실패 후 재시도)
+     */
+    public SlangQuizGenerationResult generateOrThrow(LocalDate date) {
+        return AiClient.await(generateAsync(date, false));
+    }
+
+    /**
+     * 신조어 퀴즈 비동기 생성 (실패 시 AiClientException 으로 예외 완료)
+     * - 여러 건을 동시에 요청해도 응답 대기 동안 스레드를 점유하지 않음
+     * - fresh = true 면 캐시를 건너뛰고 새로 생성
+     */
+    public CompletableFuture<SlangQuizGenerationResult> generateAsync(LocalDate date, boolean fresh) {
+
         // 🔹 출력 형식 + 내용 정의 (user 프롬프트)
         String userPrompt = """
             아래 형식의 JSON으로만 응답해라.
@@ -53,29 +91,96 @@ public class SlangQuizAiService {
             - JSON 이외의 자연어 문장, 설명, 말줄임표, 주석 등은 절대 넣지 마라.
             """;
 
-        // 🔹 AiClient 호출 (system + user 프롬프트 전달)
-        String json = aiClient.request(systemPrompt, userPrompt);
+        // 🔹 AiClient 호출 (캐시 구분값에 날짜를 넣어서 다른 날짜끼리 같은 퀴즈를 공유하지 않게 한다)
+        String cacheCategory = "SLANG_QUIZ:" + date;
+        AiCachePolicy cachePolicy = fresh ? AiCachePolicy.fresh(cacheCategory) : AiCachePolicy.cached(cacheCategory);
 
-        try {
-            // 🔹 GPT가 만든 JSON → DTO로 파싱
-            SlangQuizGenerationResult result =
-                    objectMapper.readValue(json, SlangQuizGenerationResult.class);
+        return aiClient.requestAsync(SYSTEM_PROMPT, userPrompt, cachePolicy, this::parseAndValidate);
+    }
+
+    @Override
+    public DailyContentType getContentType() {
+        return DailyContentType.SLANG_QUIZ;
+    }
 
-            // ✅ 필수 필드 검증
-            if (!isValid(result)) {
-                System.out.println("[SlangQuizAiService] AI 응답 필드 누락/이상 → fallback 사용");
-                return buildFallback();
+    /**
+     * 신조어 퀴즈 여러 개를 AI 호출 한 번으로 생성 (DailyContentBufferRefiller 용)
+     * - 각 항목을 따로 검증해서 통과한 것만 반환
+     * - response_format 이 json_object 라 배열을 바로 받을 수 없으므로 {"items": [...]} 로 감싼다
+     */
+    @Override
+    public CompletableFuture<List<SlangQuizGenerationResult>> generateBatchAsync(int count) {
+        String userPrompt = ("""
+            아래 형식의 JSON으로만 응답해라.
+
+            형식:
+            {
+              "items": [
+                {
+                  "question": "‘OOO’의 의미는 무엇일까?",
+                  "answer": "정답 문장",
+                  "choices": ["보기1", "보기2", "보기3"],
+                  "explanation": "정답에 대한 짧은 해설"
+                }
+              ]
             }
 
-            // ✅ choices 안에 answer 가 꼭 포함되도록 + 3지선다 고정
-            normalizeChoices(result);
+            생성 규칙:
+            - items 배열에 서로 다른 신조어/은어 퀴즈를 정확히 %d개 넣어라. 같은 신조어를 두 번 쓰지 마라.
+            - 실제 10~20대가 많이 쓰는 신조어/은어만 사용해라.
+            - answer에는 그 신조어의 정확한 의미를 문장으로 적어라.
+            - choices 배열에는 answer와 동일한 문장을 포함한 3개의 보기를 넣어라.
+            - explanation에는 왜 answer가 정답인지, 어떤 상황에서 쓰는지 짧게 설명해라.
+            - JSON 이외의 자연어 문장, 설명, 말줄임표, 주석 등은 절대 넣지 마라.
+            """).formatted(count);
 
-            return result;
+        return aiClient.requestAsync(SYSTEM_PROMPT, userPrompt)
+                .thenApply(this::parseBatch);
+    }
 
+    private SlangQuizGenerationResult parseAndValidate(String json) {
+        SlangQuizGenerationResult result;
+        try {
+            // 🔹 GPT가 만든 JSON → DTO로 파싱
+            result = objectMapper.readValue(json, SlangQuizGenerationResult.class);
         } catch (Exception e) {
-            System.out.println("[SlangQuizAiService] JSON 파싱 실패 → fallback 사용: " + e.getMessage());
-            return buildFallback();
+            throw new AiClientException("JSON 파싱 실패: " + e.getMessage(), e);
         }
+        return validate(result);
+    }
+
+    private List<SlangQuizGenerationResult> parseBatch(String json) {
+        JsonNode items;
+        try {
+            items = objectMapper.readTree(json).path("items");
+        } catch (Exception e) {
+            throw new AiClientException("JSON 파싱 실패: " + e.getMessage(), e);
+        }
+
+        List<SlangQuizGenerationResult> results = new ArrayList<>();
+        for (JsonNode item : items) {
+            try {
+                results.add(validate(objectMapper.treeToValue(item, SlangQuizGenerationResult.class)));
+            } catch (Exception e) {
+                System.out.println("[SlangQuizAiService] 배치 항목 제외: " + e.getMessage());
+            }
+        }
+        if (results.isEmpty()) {
+            throw new AiClientException("배치 응답에 유효한 퀴즈가 없음");
+        }
+        return results;
+    }
+
+    private SlangQuizGenerationResult validate(SlangQuizGenerationResult result) {
+        // ✅ 필수 필드 검증
+        if (!isValid(result)) {
+            throw new AiClientException("AI 응답 필드 누락/이상");
+        }
+
+        // ✅ choices 안에 answer 가 꼭 포함되도록 + 3지선다 고정
+        normalizeChoices(result);
+
+        return result;
     }
 
     /** 필수 필드 유효성 체크 */
@@ -139,16 +244,41 @@ public class SlangQuizAiService {
     }
 
     /** fallback 퀴즈 (DB 제약조건 만족) */
-    private SlangQuizGenerationResult buildFallback() {
+    public SlangQuizGenerationResult buildFallback() {
+        // AI 장애가 길어져도 매일 같은 퀴즈가 저장되지 않도록 몇 개 중에서 고른다
         SlangQuizGenerationResult fallback = new SlangQuizGenerationResult();
-        fallback.setQuestion("‘갓생 살기’의 의미는 무엇일까?");
-        fallback.setAnswer("부지런하고 계획적으로 자기계발하며 사는 삶");
-        fallback.setChoices(new String[]{
-                "아무 생각 없이 편하게만 사는 삶",
-                "부지런하고 계획적으로 자기계발하며 사는 삶",
-                "돈을 최대한 많이 버는 삶"
-        });
-        fallback.setExplanation("‘갓생’은 God(갓) + 인생의 합성어로, 스스로 만족할 만큼 성실하게 사는 삶을 의미해.");
+        switch (random.nextInt(3)) {
+            case 0 -> {
+                fallback.setQuestion("‘갓생 살기’의 의미는 무엇일까?");
+                fallback.setAnswer("부지런하고 계획적으로 자기계발하며 사는 삶");
+                fallback.setChoices(new String[]{
+                        "아무 생각 없이 편하게만 사는 삶",
+                        "부지런하고 계획적으로 자기계발하며 사는 삶",
+                        "돈을 최대한 많이 버는 삶"
+                });
+                fallback.setExplanation("‘갓생’은 God(갓) + 인생의 합성어로, 스스로 만족할 만큼 성실하게 사는 삶을 의미해.");
+            }
+            case 1 -> {
+                fallback.setQuestion("‘스불재’의 의미는 무엇일까?");
+                fallback.setAnswer("스스로 불러온 재앙");
+                fallback.setChoices(new String[]{
+                        "스스로 불러온 재앙",
+                        "스마트폰 불량 재고",
+                        "스포츠 불꽃 재능"
+                });
+                fallback.setExplanation("자기가 한 선택 때문에 생긴 곤란한 상황을 가볍게 이르는 말이야.");
+            }
+            default -> {
+                fallback.setQuestion("‘점메추’의 의미는 무엇일까?");
+                fallback.setAnswer("점심 메뉴 추천");
+                fallback.setChoices(new String[]{
+                        "점점 메마른 추억",
+                        "점심 메뉴 추천",
+                        "점수 메기기 추가"
+                });
+                fallback.setExplanation("‘점심 메뉴 추천해 줘’를 줄여서 부르는 말이야.");
+            }
+        }
         return fallback;
     }
 
@@ -1,131 +1,263 @@
 package com.example.dadambackend.domain.quiz.service;
 
+import com.example.dadambackend.common.ai.AiClient;
+import com.example.dadambackend.common.daily.DailyContentBuffer;
+import com.example.dadambackend.common.daily.DailyContentCandidate;
+import com.example.dadambackend.common.daily.DailyContentProvider;
+import com.example.dadambackend.common.daily.DailyContentSingleFlight;
+import com.example.dadambackend.common.daily.DailyContentType;
+import com.example.dadambackend.common.daily.DailySnapshotCache;
+import com.example.dadambackend.common.daily.NearDuplicateIndex;
+import com.example.dadambackend.common.realtime.FamilyEventHub;
+import com.example.dadambackend.common.realtime.FamilyEventType;
+import com.example.dadambackend.domain.family.service.FamilyService;
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.service.NotificationService;
 import com.example.dadambackend.domain.quiz.dto.SlangQuizGenerationResult;
+import com.example.dadambackend.domain.quiz.dto.SlangQuizSnapshot;
 import com.example.dadambackend.domain.quiz.dto.SlangQuizTodayResponse;
+import com.example.dadambackend.domain.quiz.dto.SlangQuizVoteEvent;
 import com.example.dadambackend.domain.quiz.model.SlangQuiz;
 import com.example.dadambackend.domain.quiz.model.SlangQuizVote;
+import com.example.dadambackend.domain.quiz.model.SlangQuizVoteTally;
 import com.example.dadambackend.domain.quiz.repository.SlangQuizRepository;
 import com.example.dadambackend.domain.quiz.repository.SlangQuizVoteRepository;
+import com.example.dadambackend.domain.quiz.repository.SlangQuizVoteTallyRepository;
 import com.example.dadambackend.domain.user.model.User;
 import com.example.dadambackend.domain.user.repository.UserRepository;
 import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class SlangQuizService {
+public class SlangQuizService implements DailyContentProvider {
 
     private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
 
     private final SlangQuizAiService slangQuizAiService;
     private final SlangQuizRepository slangQuizRepository;
     private final SlangQuizVoteRepository slangQuizVoteRepository;
+    private final SlangQuizVoteTallyRepository slangQuizVoteTallyRepository;
     private final UserRepository userRepository;
+    private final FamilyService familyService;
+    private final DailyContentSingleFlight singleFlight;
+    private final DailyContentBuffer contentBuffer;
+    private final NearDuplicateIndex duplicateIndex;
+    private final DailySnapshotCache snapshotCache;
+    private final FamilyEventHub familyEventHub;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 오늘 날짜 기준 신조어 퀴즈 조회 (없으면 생성)
-     * currentUserId가 있으면 내 선택 인덱스도 함께 내려줌
+     * 내 선택 인덱스도 함께 내려줌 (가족 코드는 요청 principal 기준)
+     * - 바깥 트랜잭션 없이 실행 (우리 가족 투표만 fetch join 으로 조회하므로 지연 로딩 없음)
+     * - 퀴즈 내용(보기 분리, 정답 인덱스 포함)은 날짜별 스냅샷 캐시에서 읽는다.
+     * - 보기별 표 수는 가족별 집계 테이블에서 읽는다.
      */
-    @Transactional
-    public SlangQuizTodayResponse getOrCreateTodayQuiz(Long currentUserId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SlangQuizTodayResponse getOrCreateTodayQuiz(UserPrincipal requester) {
         LocalDate today = LocalDate.now(ZONE_SEOUL);
 
         // 오늘 퀴즈 조회 or 생성
-        SlangQuiz quiz = getOrCreateQuizForDate(today);
+        SlangQuizSnapshot quiz = getQuizSnapshot(today);
 
-        User requester = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        // 투표 + 유저 정보를 fetch join으로 한 번에 조회
-        List<SlangQuizVote> votes = slangQuizVoteRepository.findByQuizWithUser(quiz)
-                .stream()
-                .filter(vote -> isSameFamily(vote.getUser(), requester.getFamilyCode()))
-                .toList();
-
-        return SlangQuizTodayResponse.of(quiz, votes, currentUserId);
+        return buildFamilyResponse(quiz, requester);
     }
 
     /**
      * 오늘자 퀴즈에 투표
      *  - 이미 투표한 유저는 다시 변경 불가 (ALREADY_PARTICIPATED)
      *  - 동시 요청 시 DB unique 제약조건 위반도 ALREADY_PARTICIPATED로 처리
+     *  - 퀴즈 조회/생성은 트랜잭션 밖에서, 투표 저장 + 가족별 집계 갱신만 짧은 트랜잭션에서 실행
+     *  - 커밋 후 가족 채널에 QUIZ_VOTE 이벤트
      */
-    @Transactional
-    public SlangQuizTodayResponse voteToday(Long userId, int choiceIndex) {
-        if (userId == null) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SlangQuizTodayResponse voteToday(UserPrincipal currentUser, int choiceIndex) {
+        if (currentUser == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
+        Long userId = currentUser.userId();
 
         LocalDate today = LocalDate.now(ZONE_SEOUL);
 
         // 1) 오늘 퀴즈 조회 or 생성
-        SlangQuiz quiz = getOrCreateQuizForDate(today);
+        SlangQuizSnapshot quiz = getQuizSnapshot(today);
 
-        String[] choiceArr = quiz.getChoiceArray();
-        if (choiceIndex < 0 || choiceIndex >= choiceArr.length) {
+        if (choiceIndex < 0 || choiceIndex >= quiz.getChoices().size()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        // 2) 유저 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return transactionTemplate.execute(status -> {
+            // 2) 유저 / 퀴즈 참조 (존재 여부는 이미 확인됨 → SELECT 없음)
+            User user = userRepository.getReferenceById(userId);
+            SlangQuiz quizRef = slangQuizRepository.getReferenceById(quiz.getId());
 
-        // 3) 이미 투표했는지 선조회
-        slangQuizVoteRepository.findByQuizAndUser(quiz, user)
-                .ifPresent(v -> {
-                    throw new BusinessException(ErrorCode.ALREADY_PARTICIPATED);
-                });
+            // 3) 이미 투표했는지 선조회
+            slangQuizVoteRepository.findByQuizAndUser(quizRef, user)
+                    .ifPresent(v -> {
+                        throw new BusinessException(ErrorCode.ALREADY_PARTICIPATED);
+                    });
+
+            // 4) 새 투표 저장 (동시 요청 대비해서 unique 제약조건 예외도 처리)
+            Long familyId = currentUser.familyId();
+            try {
+                SlangQuizVote vote = new SlangQuizVote(quizRef, user, choiceIndex, familyService.getReference(familyId));
+                slangQuizVoteRepository.save(vote);
+            } catch (DataIntegrityViolationException e) {
+                // 동시 요청으로 인한 중복 insert 시 DB에서 unique 제약조건 위반 발생 → 이미 참여한 것으로 간주
+                throw new BusinessException(ErrorCode.ALREADY_PARTICIPATED);
+            }
 
-        // 4) 새 투표 저장 (동시 요청 대비해서 unique 제약조건 예외도 처리)
-        try {
-            SlangQuizVote vote = new SlangQuizVote(quiz, user, choiceIndex);
-            slangQuizVoteRepository.save(vote);
-        } catch (DataIntegrityViolationException e) {
-            // 동시 요청으로 인한 중복 insert 시 DB에서 unique 제약조건 위반 발생 → 이미 참여한 것으로 간주
-            throw new BusinessException(ErrorCode.ALREADY_PARTICIPATED);
+            // 5) 가족별 집계 갱신 (같은 트랜잭션)
+            if (familyId != null) {
+                slangQuizVoteTallyRepository.increment(quiz.getId(), familyId, choiceIndex, 1);
+            }
+            familyEventHub.publish(familyId, FamilyEventType.QUIZ_VOTE,
+                    new SlangQuizVoteEvent(quiz.getId(), userId, currentUser.name(), choiceIndex));
+            notificationService.notifyVote(currentUser, NotificationType.QUIZ_VOTE);
+
+            // 6) 최신 결과 반환
+            return buildFamilyResponse(quiz, currentUser);
+        });
+    }
+
+    /**
+     * 가족이 있으면 우리 가족 투표자 + 가족별 집계, 없으면 본인 투표만
+     */
+    private SlangQuizTodayResponse buildFamilyResponse(SlangQuizSnapshot quiz, UserPrincipal requester) {
+        Long familyId = requester.familyId();
+        if (familyId == null) {
+            List<SlangQuizVote> ownVote = slangQuizVoteRepository.findOwnVoteWithUser(quiz.getId(), requester.userId());
+            Map<Integer, Long> counts = ownVote.stream()
+                    .collect(Collectors.groupingBy(SlangQuizVote::getChoiceIndex, Collectors.counting()));
+            return SlangQuizTodayResponse.of(quiz, ownVote, requester.userId(), counts);
         }
 
-        // 5) 최신 결과 반환 (user fetch join)
-        List<SlangQuizVote> votes = slangQuizVoteRepository.findByQuizWithUser(quiz)
+        List<SlangQuizVote> votes = slangQuizVoteRepository.findFamilyVotesWithUser(quiz.getId(), familyId);
+        Map<Integer, Long> counts = slangQuizVoteTallyRepository
+                .findByQuizIdAndFamilyId(quiz.getId(), familyId)
                 .stream()
-                .filter(v -> isSameFamily(v.getUser(), user.getFamilyCode()))
-                .toList();
-        return SlangQuizTodayResponse.of(quiz, votes, userId);
+                .collect(Collectors.toMap(SlangQuizVoteTally::getChoiceIndex, SlangQuizVoteTally::getVoteCount));
+
+        return SlangQuizTodayResponse.of(quiz, votes, requester.userId(), counts);
+    }
+
+    @Override
+    public DailyContentType getContentType() {
+        return DailyContentType.SLANG_QUIZ;
+    }
+
+    /**
+     * 해당 날짜의 퀴즈가 없으면 버퍼에서 꺼내거나, 버퍼가 비었으면 AI로 생성해서 저장합니다. (DailyContentPipeline 용)
+     * - 있던 퀴즈든 새로 만든 퀴즈든 스냅샷 캐시에 올려 둔다. (자정 직후 첫 요청도 캐시에서)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean prepareForDate(LocalDate date) {
+        Optional<SlangQuiz> existing = slangQuizRepository.findFirstByQuizDateOrderByCreatedAtAsc(date);
+        SlangQuiz quiz = existing.orElseGet(() -> findOrCreate(date, () -> fromBufferOr(() -> generateDistinct(date))));
+        snapshotCache.put(DailyContentType.SLANG_QUIZ, date, SlangQuizSnapshot.of(quiz));
+        return existing.isEmpty();
+    }
+
+    /**
+     * 퀴즈는 질문 문장 틀이 거의 같으므로 정답(신조어 의미) 문장으로 중복을 판단한다.
+     */
+    @Override
+    public List<String> findAllDedupTexts() {
+        return slangQuizRepository.findAllAnswers();
+    }
+
+    /**
+     * 배치 생성으로 쌓아 둔 버퍼에서 (기존 퀴즈와 겹치지 않는) 하나를 꺼내고, 비어 있으면 otherwise 사용
+     */
+    private DailyContentCandidate<SlangQuizGenerationResult> fromBufferOr(Supplier<SlangQuizGenerationResult> otherwise) {
+        return contentBuffer.poll(DailyContentType.SLANG_QUIZ, SlangQuizGenerationResult.class,
+                        result -> !duplicateIndex.isNearDuplicate(DailyContentType.SLANG_QUIZ, result.getAnswer()))
+                .orElseGet(() -> DailyContentCandidate.generated(otherwise.get()));
+    }
+
+    /**
+     * 기존 퀴즈와 유사 중복이 아닌 퀴즈를 AI로 생성 (두 번째 시도부터는 캐시를 건너뛴다)
+     */
+    private SlangQuizGenerationResult generateDistinct(LocalDate date) {
+        return duplicateIndex.generateDistinct(
+                DailyContentType.SLANG_QUIZ,
+                SlangQuizGenerationResult::getAnswer,
+                attempt -> attempt == 0
+                        ? slangQuizAiService.generateOrThrow(date)
+                        : AiClient.await(slangQuizAiService.generateAsync(date, true))
+        );
+    }
+
+    /**
+     * 특정 날짜의 퀴즈 스냅샷 (캐시에 없으면 조회/생성해서 올린다)
+     */
+    private SlangQuizSnapshot getQuizSnapshot(LocalDate date) {
+        return snapshotCache.get(DailyContentType.SLANG_QUIZ, date, SlangQuizSnapshot.class,
+                () -> SlangQuizSnapshot.of(getOrCreateQuizForDate(date)));
     }
 
     /**
-     * 특정 날짜의 퀴즈를 조회하거나, 없으면 AI로 생성해서 저장
+     * 특정 날짜의 퀴즈를 조회하거나, 없으면 (사전 생성 실패 시) 버퍼의 퀴즈 → fallback 퀴즈 순서로 저장
+     * - 요청 스레드에서는 AI를 호출하지 않는다.
      */
     private SlangQuiz getOrCreateQuizForDate(LocalDate date) {
         return slangQuizRepository
                 .findFirstByQuizDateOrderByCreatedAtAsc(date)
                 .orElseGet(() -> {
-                    SlangQuizGenerationResult generated = slangQuizAiService.generate();
-
-                    // 혹시라도 choices가 비어 있으면 answer 하나로 채워서 DB 제약조건 만족
-                    if (generated.getChoices() == null || generated.getChoices().length == 0) {
-                        generated.setChoices(new String[]{generated.getAnswer()});
-                    }
-
-                    SlangQuiz entity = SlangQuiz.of(date, generated);
-                    return slangQuizRepository.save(entity);
+                    System.out.println("[SlangQuizService] 사전 생성된 퀴즈 없음 → fallback 퀴즈 사용: " + date);
+                    return findOrCreate(date, () -> fromBufferOr(slangQuizAiService::buildFallback));
                 });
     }
 
-    private boolean isSameFamily(User target, String familyCode) {
-        return normalize(target.getFamilyCode()).equals(normalize(familyCode));
+    /**
+     * (SLANG_QUIZ, date) 단위 single-flight 안에서 "조회 후 없으면 생성" 을 실행합니다.
+     * - 다른 노드와의 중복 생성은 quiz_date unique 제약조건으로 막는다.
+     * - generator(AI 호출 등)는 트랜잭션 밖, 저장만 짧은 트랜잭션 안에서 실행
+     */
+    private SlangQuiz findOrCreate(LocalDate date, Supplier<DailyContentCandidate<SlangQuizGenerationResult>> generator) {
+        return singleFlight.execute(
+                DailyContentType.SLANG_QUIZ,
+                date,
+                () -> slangQuizRepository.findFirstByQuizDateOrderByCreatedAtAsc(date),
+                generator,
+                candidate -> {
+                    // 버퍼 항목 삭제도 같은 트랜잭션 (저장이 롤백되면 항목은 선점 만료 후 다시 쓰인다)
+                    SlangQuiz saved = saveQuiz(date, candidate.value());
+                    contentBuffer.consume(DailyContentType.SLANG_QUIZ, candidate);
+                    return saved;
+                }
+        );
     }
 
-    private String normalize(String code) {
-        return (code == null || code.isBlank()) ? "" : code.trim();
+    private SlangQuiz saveQuiz(LocalDate date, SlangQuizGenerationResult generated) {
+        // 혹시라도 choices가 비어 있으면 answer 하나로 채워서 DB 제약조건 만족
+        if (generated.getChoices() == null || generated.getChoices().length == 0) {
+            generated.setChoices(new String[]{generated.getAnswer()});
+        }
+
+        SlangQuiz entity = SlangQuiz.of(date, generated);
+        SlangQuiz saved = slangQuizRepository.save(entity);
+        duplicateIndex.add(DailyContentType.SLANG_QUIZ, saved.getAnswer());
+        return saved;
     }
+
 }
@@ -1,12 +1,19 @@
 package com.example.dadambackend.domain.user.model;
 
+import com.example.dadambackend.domain.family.model.Family;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "app_user")
+@Table(
+        name = "app_user",
+        indexes = {
+                // 가족 구성원 조회
+                @Index(name = "idx_app_user_family", columnList = "family_id")
+        }
+)
 public class User {
 
     @Id
@@ -28,18 +35,25 @@ public class User {
     // 가족 역할 (child / parent / grandparent 등)
     private String familyRole;
 
-    // 초대 코드
-    private String familyCode;
+    // 소속 가족 (없으면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id")
+    private Family family;
 
     @Builder
     public User(String email, String password, String name,
-                String avatarUrl, String familyRole, String familyCode) {
+                String avatarUrl, String familyRole, Family family) {
         this.email = email;
         this.password = password;
         this.name = name;
         this.avatarUrl = avatarUrl;
         this.familyRole = familyRole;
-        this.familyCode = familyCode;
+        this.family = family;
+    }
+
+    /** 가족 초대 코드 (가족이 없으면 null) */
+    public String getFamilyCode() {
+        return family == null ? null : family.getCode();
     }
 
     // ============================
@@ -57,10 +71,14 @@ public class User {
     }
 
     /** 프로필 전체 수정 */
-    public void updateProfile(String name, String familyRole, String familyCode, String avatarUrl) {
+    public void updateProfile(String name, String familyRole, String avatarUrl) {
         if (name != null) this.name = name;
         if (familyRole != null) this.familyRole = familyRole;
-        if (familyCode != null) this.familyCode = familyCode;
         if (avatarUrl != null) this.avatarUrl = avatarUrl;
     }
+
+    /** 가족 합류 / 변경 (null 이면 가족 해제) */
+    public void changeFamily(Family family) {
+        this.family = family;
+    }
 }
@@ -1,7 +1,10 @@
 package com.example.dadambackend.domain.user.repository;
 
 import com.example.dadambackend.domain.user.model.User;
+import com.example.dadambackend.security.UserPrincipal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,9 +17,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);   // ← 반드시 필요!!
 
     // 가족 기능용
-    Optional<User> findByFamilyCode(String familyCode);
+    List<User> findAllByFamilyId(Long familyId);
 
-    boolean existsByFamilyCode(String familyCode);
-
-    List<User> findAllByFamilyCode(String familyCode);
+    // 요청 principal 용 (엔티티 대신 필요한 컬럼만)
+    @Query("select new com.example.dadambackend.security.UserPrincipal(u.id, u.email, u.name, u.familyRole, f.id, f.code) "
+            + "from User u left join u.family f where u.id = :id")
+    Optional<UserPrincipal> findPrincipalById(@Param("id") Long id);
 }
@@ -1,5 +1,7 @@
 package com.example.dadambackend.domain.user.service;
 
+import com.example.dadambackend.domain.family.model.Family;
+import com.example.dadambackend.domain.family.service.FamilyService;
 import com.example.dadambackend.domain.user.dto.request.LoginRequest;
 import com.example.dadambackend.domain.user.dto.request.SignupRequest;
 import com.example.dadambackend.domain.user.dto.response.LoginResponse;
@@ -10,7 +12,6 @@ import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
 import com.example.dadambackend.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,7 @@ import java.util.Set;
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final FamilyService familyService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -37,7 +39,7 @@ public class AuthService {
             throw new BusinessException(ErrorCode.USER_ALREADY_EXIST);
         }
 
-        String familyCode = resolveFamilyCode(request.getFamilyCode());
+        Family family = resolveFamily(request.getFamilyCode());
 
         String familyRole = normalizeFamilyRole(request.getFamilyRole());
 
@@ -47,7 +49,7 @@ public class AuthService {
                 .name(request.getName())
                 .avatarUrl(null)
                 .familyRole(familyRole)
-                .familyCode(familyCode)
+                .family(family)
                 .build();
 
         userRepository.save(user);
@@ -61,32 +63,15 @@ public class AuthService {
     }
 
     /**
-     * 회원가입 시 고유한 가족 코드를 생성합니다.
-     * - 패턴: "DADAM-" + 대문자/숫자 6자리
+     * 회원가입 시 가족 적용 로직
+     * - 코드가 없으면 새 초대 코드("DADAM-" + 6자리)로 가족 생성
+     * - 코드가 있으면 기존 가족에 합류, 없으면 그 코드로 새 가족 생성
      */
-    private String generateUniqueFamilyCode() {
-        String code;
-        do {
-            code = "DADAM-" + RandomStringUtils.randomAlphanumeric(6).toUpperCase();
-        } while (userRepository.existsByFamilyCode(code));
-        return code;
-    }
-
-    /**
-     * 회원가입 시 가족 코드 적용 로직
-     * - 코드가 없으면 새 가족 코드를 부여
-     * - 코드가 있으면 기존 코드(이미 존재한다면 해당 가족)에 합류, 없으면 그대로 새 코드로 사용
-     */
-    private String resolveFamilyCode(String rawCode) {
-        if (rawCode == null || rawCode.isBlank()) {
-            return generateUniqueFamilyCode();
+    private Family resolveFamily(String rawCode) {
+        if (FamilyService.normalizeCode(rawCode) == null) {
+            return familyService.createWithGeneratedCode();
         }
-
-        String normalized = rawCode.trim().toUpperCase();
-
-        return userRepository.findByFamilyCode(normalized)
-                .map(User::getFamilyCode)
-                .orElse(normalized);
+        return familyService.joinOrCreate(rawCode);
     }
 
     private String normalizeFamilyRole(String rawRole) {
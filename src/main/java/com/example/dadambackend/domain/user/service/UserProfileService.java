@@ -4,6 +4,7 @@ import com.example.dadambackend.domain.user.dto.response.UserProfileResponse;
 import com.example.dadambackend.domain.user.model.User;
 import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,8 +57,8 @@ public class UserProfileService {
      * ✅ 내 가족 멤버 조회
      *    - UserService.getFamilyMembers 를 재사용해서, 도메인 로직은 한 곳에만 둔다.
      */
-    public List<UserProfileResponse> getMyFamilyMembers(Long userId) {
-        List<User> members = userService.getFamilyMembers(userId);
+    public List<UserProfileResponse> getMyFamilyMembers(UserPrincipal me) {
+        List<User> members = userService.getFamilyMembers(me);
         return members.stream()
                 .map(UserProfileResponse::from)
                 .toList();
@@ -1,11 +1,15 @@
 package com.example.dadambackend.domain.user.service;
 
+import com.example.dadambackend.common.realtime.FamilyEventHub;
+import com.example.dadambackend.domain.family.service.FamilyService;
+import com.example.dadambackend.domain.notification.support.PushTokenRegistry;
 import com.example.dadambackend.domain.user.model.User;
 import com.example.dadambackend.domain.user.repository.UserRepository;
 import com.example.dadambackend.global.exception.BusinessException;
 import com.example.dadambackend.global.exception.ErrorCode;
+import com.example.dadambackend.security.UserPrincipal;
+import com.example.dadambackend.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +23,10 @@ import java.util.Set;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final FamilyService familyService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final PushTokenRegistry pushTokenRegistry;
+    private final FamilyEventHub familyEventHub;
 
     private static final Set<String> ALLOWED_ROLES = Set.of("child", "parent", "grandparent");
 
@@ -33,11 +41,12 @@ public class UserService {
     /**
      * 프로필 수정 + 가족 코드 처리
      * - name, familyRole, avatarUrl 는 null 이 아닌 값만 변경
-     * - familyCode 가 null 이면: 가족 코드는 변경하지 않음
-     * - familyCode 가 ""(빈 문자열)이면: 가족 코드 해제
+     * - familyCode 가 null 이면: 가족은 변경하지 않음
+     * - familyCode 가 ""(빈 문자열)이면: 가족 해제
      * - familyCode 가 값이 있으면:
-     *      1) 해당 코드를 가진 유저가 있으면 그 가족에 합류
-     *      2) 없으면 내가 새 가족 코드의 최초 소유자가 됨
+     *      1) 해당 코드의 가족이 있으면 그 가족에 합류
+     *      2) 없으면 그 코드로 새 가족을 만들고 최초 구성원이 됨
+     * - 이름/가족이 principal 캐시에 들어 있으므로 수정 후 캐시를 비운다.
      */
     public User updateProfile(Long userId,
                               String name,
@@ -47,75 +56,54 @@ public class UserService {
 
         User user = getById(userId);
 
-        String newFamilyCode = user.getFamilyCode();
         String normalizedRole = normalizeFamilyRole(familyRole);
 
         if (familyCode != null) {
-            String normalized = normalizeFamilyCode(familyCode);
-
-            if (normalized.isEmpty()) {
-                // 비워서 보냈다면 가족 코드 제거 (원하지 않으면 이 부분 막으면 됨)
-                newFamilyCode = null;
-            } else {
-                // 이미 존재하는 코드면 해당 가족에 합류, 없으면 내가 새 코드의 소유자가 됨
-                User owner = userRepository.findByFamilyCode(normalized).orElse(null);
-                if (owner != null) {
-                    newFamilyCode = owner.getFamilyCode();
-                } else {
-                    newFamilyCode = normalized;
-                }
-            }
+            // 비워서 보냈다면 joinOrCreate 가 null → 가족 해제 (원하지 않으면 이 부분 막으면 됨)
+            user.changeFamily(familyService.joinOrCreate(familyCode));
+            pushTokenRegistry.familyChanged(userId, familyIdOf(user));
+            familyEventHub.userFamilyChanged(userId);
         }
 
-        user.updateProfile(name, normalizedRole, newFamilyCode, avatarUrl);
+        user.updateProfile(name, normalizedRole, avatarUrl);
+        userPrincipalCache.evict(userId);
         return user;
     }
 
     /**
-     * 가족 초대 코드 생성 (이미 있으면 기존 거 재사용)
+     * 가족 초대 코드 조회 (가족이 없으면 새 초대 코드로 가족 생성)
      * - 초대 코드 패턴: "DADAM-" + 랜덤 6자리
      */
     public String generateOrGetFamilyCode(Long userId) {
         User me = getById(userId);
 
-        if (me.getFamilyCode() != null && !me.getFamilyCode().isBlank()) {
+        if (me.getFamily() != null) {
             return me.getFamilyCode();
         }
 
-        String code;
-        do {
-            code = "DADAM-" + RandomStringUtils.randomAlphanumeric(6).toUpperCase();
-        } while (userRepository.existsByFamilyCode(code));
-
-        me.updateProfile(null, null, code, null);
-        return code;
+        me.changeFamily(familyService.createWithGeneratedCode());
+        userPrincipalCache.evict(userId);
+        pushTokenRegistry.familyChanged(userId, familyIdOf(me));
+        familyEventHub.userFamilyChanged(userId);
+        return me.getFamilyCode();
     }
 
     /**
-     * 같은 familyCode 를 가진 가족 구성원 전체 조회
-     * - familyCode 가 없으면 본인만 반환
+     * 같은 가족의 구성원 전체 조회
+     * - 요청 principal 의 familyId 를 바로 사용 (본인 User 조회 생략)
+     * - 가족이 없으면 본인만 반환
      */
     @Transactional(readOnly = true)
-    public List<User> getFamilyMembers(Long userId) {
-        User me = getById(userId);
-        String familyCode = normalizeFamilyCode(me.getFamilyCode());
-
-        if (familyCode == null) {
-            return Collections.singletonList(me);
+    public List<User> getFamilyMembers(UserPrincipal me) {
+        if (me.familyId() == null) {
+            return Collections.singletonList(getById(me.userId()));
         }
 
-        return userRepository.findAllByFamilyCode(familyCode);
+        return userRepository.findAllByFamilyId(me.familyId());
     }
 
-    /**
-     * 가족 코드 문자열을 공통 규칙(양쪽 공백 제거 + 대문자)으로 정규화합니다.
-     * 값이 없으면 null을 반환하여 빈 문자열과 혼동되지 않도록 합니다.
-     */
-    private String normalizeFamilyCode(String code) {
-        if (code == null) return null;
-        String trimmed = code.trim();
-        if (trimmed.isEmpty()) return null;
-        return trimmed.toUpperCase();
+    private static Long familyIdOf(User user) {
+        return user.getFamily() == null ? null : user.getFamily().getId();
     }
 
     private String normalizeFamilyRole(String familyRole) {
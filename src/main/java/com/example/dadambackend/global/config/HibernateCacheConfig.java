@@ -0,0 +1,94 @@
+package com.example.dadambackend.global.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (JCache, 구현체 Ehcache 3)
+ * - 한 번 저장되면 바뀌지 않는 일일 콘텐츠 엔티티(질문 / 밸런스 게임 / 신조어 퀴즈)를 READ_ONLY 로 캐시
+ *   → 답변 API 마다 하는 getQuestionById 유효성 검사가 DB 를 거치지 않는다.
+ * - 날짜 조회(findByGameDate 등)는 쿼리 캐시 영역 daily-content-by-date 에 짧게 둔다.
+ *   다른 노드가 저장한 행은 이 노드의 테이블 갱신 시각에 반영되지 않으므로 TTL 로 "없음" 결과가 오래 남지 않게 한다.
+ * - 영역은 여기서 모두 만들고 missing_cache_strategy=fail 로 설정에 없는 영역은 시작 시 실패시킨다.
+ * - 힙 엔트리 수를 넘으면 Ehcache 가 오래 안 쓴 항목부터 내보낸다.
+ * - CacheManager 는 애플리케이션 컨텍스트마다 따로 만든다. (JVM 공용 기본 매니저를 쓰면
+ *   테스트처럼 한 JVM 에 컨텍스트가 둘 뜰 때 같은 이름의 영역을 다시 만들다 실패한다)
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String QUESTION_REGION = "question";
+    public static final String BALANCE_GAME_REGION = "balance_game";
+    public static final String SLANG_QUIZ_REGION = "slang_quiz";
+    public static final String DAILY_CONTENT_BY_DATE_REGION = "daily-content-by-date";
+
+    // Hibernate 기본 영역 (쿼리 캐시를 켜면 항상 만들어진다)
+    static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String DEFAULT_UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${hibernate-cache.entity-heap-entries:2000}") long entityHeapEntries,
+            @Value("${hibernate-cache.entity-idle-hours:24}") long entityIdleHours,
+            @Value("${hibernate-cache.query-heap-entries:500}") long queryHeapEntries,
+            @Value("${hibernate-cache.query-ttl-seconds:60}") long queryTtlSeconds
+    ) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:dadam:hibernate-cache:" + UUID.randomUUID()),
+                new DefaultConfiguration(getClass().getClassLoader()));
+
+        for (String region : new String[]{QUESTION_REGION, BALANCE_GAME_REGION, SLANG_QUIZ_REGION}) {
+            createRegion(cacheManager, region, entityHeapEntries,
+                    ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofHours(entityIdleHours)));
+        }
+        for (String region : new String[]{DAILY_CONTENT_BY_DATE_REGION, DEFAULT_QUERY_RESULTS_REGION}) {
+            createRegion(cacheManager, region, queryHeapEntries,
+                    ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(queryTtlSeconds)));
+        }
+        // 테이블별 마지막 갱신 시각 (테이블 수만큼만 쌓이고, 만료되면 쿼리 캐시가 잘못된 결과를 줄 수 있어 만료 없음)
+        createRegion(cacheManager, DEFAULT_UPDATE_TIMESTAMPS_REGION, 1000, ExpiryPolicyBuilder.noExpiration());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // 영역별 hit / miss 집계 (HibernateCacheMetrics 가 주기적으로 출력)
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long heapEntries,
+                                     ExpiryPolicy<Object, Object> expiry) {
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder
+                        .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(heapEntries))
+                        .withExpiry(expiry)
+                        .build()));
+    }
+}
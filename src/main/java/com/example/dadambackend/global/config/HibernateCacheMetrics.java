@@ -0,0 +1,56 @@
+package com.example.dadambackend.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 영역별 hit / miss / put 주기 출력
+ * - 누적값은 Hibernate Statistics 가 들고 있고, 여기서는 읽어서 로그로만 남긴다.
+ */
+@Component
+public class HibernateCacheMetrics {
+
+    private static final String[] REGIONS = {
+            HibernateCacheConfig.QUESTION_REGION,
+            HibernateCacheConfig.BALANCE_GAME_REGION,
+            HibernateCacheConfig.SLANG_QUIZ_REGION,
+            HibernateCacheConfig.DAILY_CONTENT_BY_DATE_REGION,
+    };
+
+    private final Statistics statistics;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Scheduled(
+            initialDelayString = "${hibernate-cache.metrics-interval-ms:600000}",
+            fixedDelayString = "${hibernate-cache.metrics-interval-ms:600000}"
+    )
+    public void report() {
+        StringBuilder sb = new StringBuilder("[HibernateCacheMetrics]");
+        for (String region : REGIONS) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats == null) {
+                continue;
+            }
+            sb.append(' ').append(region)
+                    .append(" hit=").append(stats.getHitCount())
+                    .append(" miss=").append(stats.getMissCount())
+                    .append(" put=").append(stats.getPutCount())
+                    .append(" (").append(hitRatio(stats.getHitCount(), stats.getMissCount())).append("%)");
+        }
+        sb.append(" / query hit=").append(statistics.getQueryCacheHitCount())
+                .append(" miss=").append(statistics.getQueryCacheMissCount());
+        System.out.println(sb);
+    }
+
+    private static long hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : Math.round(hits * 100.0 / total);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.dadambackend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (일일 콘텐츠 사전 생성 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,91 @@
+package com.example.dadambackend.global.pagination;
+
+import com.example.dadambackend.global.exception.BusinessException;
+import com.example.dadambackend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 키 + id)
+ * - 클라이언트에는 "정렬키|id" 를 base64url 로 감싼 불투명한 문자열로 준다.
+ * - cursor 가 없으면(첫 페이지) 모든 행보다 앞선 값을 써서 쿼리를 하나로 유지한다.
+ * - 정렬 키 컬럼은 NOT NULL 이어야 한다. (NULL 행은 비교 조건에서 빠져서 어느 페이지에도 나오지 않음)
+ */
+public final class Cursors {
+
+    private static final LocalDateTime FIRST_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private Cursors() {
+    }
+
+    /**
+     * (createdAt, id) 커서
+     */
+    public record TimeKey(LocalDateTime createdAt, long id) {
+    }
+
+    /**
+     * (date, id) 커서
+     */
+    public record DateKey(LocalDate date, long id) {
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        return wrap(createdAt + "|" + id);
+    }
+
+    public static String encode(LocalDate date, Long id) {
+        return wrap(date + "|" + id);
+    }
+
+    public static TimeKey decodeTime(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new TimeKey(FIRST_TIME, 0L);
+        }
+        String[] parts = unwrap(cursor);
+        try {
+            return new TimeKey(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * @param first cursor 가 없을 때 시작할 날짜 (이 날짜의 일정부터 포함)
+     */
+    public static DateKey decodeDate(String cursor, LocalDate first) {
+        if (cursor == null || cursor.isBlank()) {
+            return new DateKey(first, 0L);
+        }
+        String[] parts = unwrap(cursor);
+        try {
+            return new DateKey(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static String wrap(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] unwrap(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw invalid();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_REQUEST, "잘못된 cursor 입니다.");
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.dadambackend.global.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 API 페이지 크기 정책
+ * - size 파라미터가 없으면 default-size, 1 ~ max-size 범위로 보정
+ */
+@Component
+public class PageSizePolicy {
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public PageSizePolicy(
+            @Value("${pagination.default-size:20}") int defaultSize,
+            @Value("${pagination.max-size:100}") int maxSize
+    ) {
+        this.maxSize = Math.max(1, maxSize);
+        this.defaultSize = Math.max(1, Math.min(defaultSize, this.maxSize));
+    }
+
+    public int resolve(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(requested, maxSize));
+    }
+
+    /**
+     * 다음 페이지 여부를 알기 위해 size + 1 건을 조회
+     */
+    public Pageable lookAhead(int size) {
+        return PageRequest.ofSize(size + 1);
+    }
+}
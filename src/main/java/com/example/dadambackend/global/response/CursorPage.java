@@ -0,0 +1,42 @@
+package com.example.dadambackend.global.response;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답
+ * - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 넘기면 이어서 조회된다. (마지막 페이지면 null)
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private CursorPage(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null, false);
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지 생성
+     * - 1건이 넘치면 다음 페이지가 있다는 뜻이고, 그 1건은 응답에서 뺀다.
+     * - 다음 커서는 이번 페이지 마지막 행으로 만든다.
+     */
+    public static <R, T> CursorPage<T> of(List<R> rows, int size,
+                                          Function<R, String> cursorOf,
+                                          Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
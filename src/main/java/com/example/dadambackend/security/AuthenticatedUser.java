@@ -0,0 +1,7 @@
+package com.example.dadambackend.security;
+
+/**
+ * JwtAuthenticationFilter 가 검증한 요청 사용자 (SecurityContext 의 principal)
+ */
+public record AuthenticatedUser(Long userId, String email) {
+}
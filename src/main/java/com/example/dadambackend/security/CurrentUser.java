@@ -0,0 +1,17 @@
+package com.example.dadambackend.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 로그인한 사용자를 주입
+ * - Long 타입이면 userId, AuthenticatedUser 타입이면 토큰의 claims 전체
+ * - UserPrincipal 타입이면 이름/가족 정보까지 (UserPrincipalCache 에서, 요청당 한 번만 조회)
+ * - 인증되지 않은 요청이면 BusinessException(UNAUTHORIZED)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -0,0 +1,60 @@
+package com.example.dadambackend.security;
+
+import com.example.dadambackend.global.exception.BusinessException;
+import com.example.dadambackend.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser 파라미터 처리
+ * - 토큰 검증은 JwtAuthenticationFilter 에서 요청당 한 번만 하고, 여기서는 SecurityContext 에서 꺼내기만 한다.
+ * - UserPrincipal 은 UserPrincipalCache 에서 꺼내고, 같은 요청 안에서는 request attribute 에 둔 것을 재사용
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String PRINCIPAL_ATTRIBUTE = UserPrincipal.class.getName();
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (parameter.getParameterType() == Long.class
+                || parameter.getParameterType() == AuthenticatedUser.class
+                || parameter.getParameterType() == UserPrincipal.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        if (parameter.getParameterType() == Long.class) {
+            return user.userId();
+        }
+        if (parameter.getParameterType() == AuthenticatedUser.class) {
+            return user;
+        }
+
+        Object resolved = webRequest.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolved instanceof UserPrincipal principal) {
+            return principal;
+        }
+        UserPrincipal principal = userPrincipalCache.get(user.userId());
+        webRequest.setAttribute(PRINCIPAL_ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+        return principal;
+    }
+}
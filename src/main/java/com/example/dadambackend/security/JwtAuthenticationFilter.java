@@ -0,0 +1,68 @@
+package com.example.dadambackend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Authorization: Bearer {token} 헤더를 요청당 한 번만 검증해서 SecurityContext 에 principal 을 넣는다.
+ * - 최근 검증한 토큰은 VerifiedTokenCache 에서 바로 꺼낸다.
+ * - 토큰이 없거나 잘못된 경우 인증 없이 통과 → @CurrentUser 가 필요한 API 에서 401
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            AuthenticatedUser user = authenticate(authHeader.substring(BEARER_PREFIX.length()).trim());
+            if (user != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private AuthenticatedUser authenticate(String token) {
+        AuthenticatedUser cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            AuthenticatedUser user = new AuthenticatedUser(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class)
+            );
+            if (claims.getExpiration() != null) {
+                verifiedTokenCache.put(token, user, claims.getExpiration().getTime());
+            }
+            return user;
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료 / 서명 불일치 / 형식 오류 → 인증 없이 진행
+            return null;
+        }
+    }
+}
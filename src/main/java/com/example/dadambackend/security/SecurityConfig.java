@@ -14,6 +14,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -33,7 +34,11 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            JwtTokenProvider jwtTokenProvider,
+            VerifiedTokenCache verifiedTokenCache
+    ) throws Exception {
 
         http
                 // CSRF / 폼 로그인 / HTTP Basic 비활성화 (API 서버 기준)
@@ -65,11 +70,15 @@ public class SecurityConfig {
                                 "/api/v1/auth/**"
                         ).permitAll()
 
-                        // 그 외는 일단 전부 허용 (지금은 컨트롤러에서 직접 토큰 파싱)
+                        // 그 외는 일단 전부 허용 (로그인이 필요한 API 는 @CurrentUser 에서 401 처리)
                         .anyRequest().permitAll()
-                );
+                )
 
-        // 나중에 JWT 필터 붙일 때 여기서 addFilterBefore(...) 하면 됨
+                // JWT 검증은 이 필터에서 요청당 한 번만
+                .addFilterBefore(
+                        new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache),
+                        UsernamePasswordAuthenticationFilter.class
+                );
 
         return http.build();
     }
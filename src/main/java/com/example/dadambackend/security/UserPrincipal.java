@@ -0,0 +1,11 @@
+package com.example.dadambackend.security;
+
+/**
+ * 요청 사용자의 식별/가족 정보 (@CurrentUser UserPrincipal)
+ * - 서비스가 가족 하나 확인하려고 User 를 다시 조회하지 않도록, 요청당 한 번 UserPrincipalCache 에서 꺼내 넘긴다.
+ * - 가족 범위 조회/권한 검사는 familyId 로 하고, familyCode / familyRole 은 화면 / 알림 문구용
+ * - 가족이 바뀌면 UserService 가 캐시를 비운다.
+ */
+public record UserPrincipal(Long userId, String email, String name, String familyRole,
+                            Long familyId, String familyCode) {
+}
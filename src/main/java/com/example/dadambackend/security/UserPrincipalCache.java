@@ -0,0 +1,129 @@
+package com.example.dadambackend.security;
+
+import com.example.dadambackend.domain.user.repository.UserRepository;
+import com.example.dadambackend.global.exception.BusinessException;
+import com.example.dadambackend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * userId → UserPrincipal 캐시
+ * - miss 일 때만 필요한 컬럼(id, email, name, 가족 id/코드)만 조회한다.
+ * - 이름/가족 코드가 바뀌면 UserService 가 evict 호출 (커밋 후에 한 번 더 비워서, 커밋 전에 다시 읽힌 옛 값도 제거)
+ * - 다른 서버 인스턴스에서 바뀐 경우는 ttl 이 지나면 다시 조회
+ * - evict 마다 userId 별 세대(generation) 번호를 올리고, DB 에서 읽은 값은 읽기 전 세대가 그대로일 때만 저장한다.
+ *   (커밋 전에 옛 값을 읽은 요청이 evict 이후에 put 해서 ttl 동안 옛 가족 정보가 남는 것을 막음)
+ * - 모든 인증 요청이 거치는 경로라 VerifiedTokenCache 처럼 전역 락 없이 ConcurrentHashMap 을 쓰고,
+ *   크기 제한은 근사치로 둔다. (max-entries 를 넘으면 한 스레드만 만료 항목부터, 그래도 넘으면 90% 까지 비움)
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>(256);
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    // userId 를 stripe 로 나눈 세대 번호 (같은 stripe 의 다른 유저 evict 는 put 을 한 번 건너뛰게 할 뿐)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            @Value("${jwt.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 principal 반환, 없거나 만료됐으면 DB 에서 읽어서 저장
+     * - 탈퇴 등으로 유저가 없으면 USER_NOT_FOUND
+     */
+    public UserPrincipal get(Long userId) {
+        Entry cached = entries.get(userId);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return cached.principal();
+            }
+            entries.remove(userId, cached);
+        }
+
+        // 세대는 DB 를 읽기 전에 본다
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+
+        UserPrincipal principal = userRepository.findPrincipalById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        // 읽는 동안 evict 가 있었으면 읽은 값이 옛 값일 수 있으므로 캐시에 올리지 않는다
+        if (generations.get(stripe) != generation) {
+            return principal;
+        }
+        Entry entry = new Entry(principal, System.currentTimeMillis() + ttlMillis);
+        entries.put(userId, entry);
+        // 확인과 put 사이에 evict 가 끼어들었으면 방금 넣은 값을 되돌린다
+        // (remove 는 세대를 올린 뒤 지우므로, 여기서 못 보면 remove 쪽이 put 뒤에 지운다)
+        if (generations.get(stripe) != generation) {
+            entries.remove(userId, entry);
+        } else if (entries.size() > maxEntries && evicting.compareAndSet(false, true)) {
+            try {
+                evictOverflow();
+            } finally {
+                evicting.set(false);
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * 유저 정보 변경 시 호출
+     */
+    public void evict(Long userId) {
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    private void remove(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        entries.remove(userId);
+    }
+
+    private void evictOverflow() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+        int target = maxEntries - maxEntries / 10;
+        Iterator<Long> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (GENERATION_STRIPES - 1));
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.dadambackend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 최근 검증한 토큰 캐시
+ * - 같은 토큰이 다시 오면 HMAC 서명 검증과 claims 파싱을 건너뛴다.
+ * - 토큰 만료 시각까지만 유효 (만료된 항목은 조회 시 제거)
+ * - 서명 검증을 통과한 토큰만 저장하므로, 문자열이 정확히 같은 토큰만 hit 된다.
+ * - 모든 인증 요청이 거치는 경로라 전역 락을 쓰지 않는다. (ConcurrentHashMap, 조회는 락 없음)
+ *   크기 제한은 근사치 : max-entries 를 넘으면 한 스레드만 만료 항목부터 정리하고,
+ *   그래도 넘으면 임의 항목을 90% 까지 비운다. (밀려난 토큰은 다음 요청에서 다시 검증될 뿐)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>(256);
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxEntries;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public AuthenticatedUser get(String token) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.user();
+    }
+
+    public void put(String token, AuthenticatedUser user, long expiresAtMillis) {
+        entries.put(token, new Entry(user, expiresAtMillis));
+        if (entries.size() > maxEntries && evicting.compareAndSet(false, true)) {
+            try {
+                evict();
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+        int target = maxEntries - maxEntries / 10;
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private record Entry(AuthenticatedUser user, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,11 @@
+-- 댓글 목록 키셋 페이지네이션 (created_at, id) 정렬 키를 NOT NULL 로
+-- created_at 이 NULL 인 댓글은 "created_at > ?" 조건에서 빠져서 목록에 나오지 않았다.
+-- 옛 데이터는 답변 작성 시각으로 채운다. (댓글은 답변보다 먼저 달릴 수 없으므로 같은 답변 안에서 맨 앞에 온다)
+
+update comment c
+    join answer a on a.id = c.answer_id
+set c.created_at = a.created_at
+where c.created_at is null;
+
+alter table comment
+    modify column created_at datetime(6) not null;
@@ -0,0 +1,13 @@
+-- 기기 토큰 증분 재적재 (PushTokenRegistry 가 updated_at > 마지막으로 본 시각 인 행만 다시 읽는다)
+-- 같은 토큰이 다른 계정으로 옮겨가면 upsert 가 updated_at 을 올려서 다른 노드도 따라잡는다.
+
+alter table push_token
+    add column updated_at datetime(6) null;
+
+update push_token
+set updated_at = created_at
+where updated_at is null;
+
+alter table push_token
+    modify column updated_at datetime(6) not null,
+    add index idx_push_token_updated (updated_at);
@@ -0,0 +1,108 @@
+-- 기준 스키마 : ddl-auto=update 로 운영하던 시점의 테이블 (가족은 문자열 family_code 로 구분)
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용한다.
+
+create table app_user (
+    id          bigint       not null auto_increment,
+    email       varchar(255) not null,
+    password    varchar(255) not null,
+    name        varchar(255) not null,
+    avatar_url  varchar(255),
+    family_role varchar(255),
+    family_code varchar(255),
+    primary key (id),
+    constraint uk_app_user_email unique (email)
+) engine = InnoDB default charset = utf8mb4;
+
+create table question (
+    id            bigint       not null auto_increment,
+    content       varchar(500) not null,
+    category      enum ('DAILY','HOBBY','TRAVEL','FOOD','MEMORY','ETC') not null,
+    created_at    datetime(6)  not null,
+    question_date date         not null,
+    primary key (id),
+    constraint uk_question_date unique (question_date)
+) engine = InnoDB default charset = utf8mb4;
+
+create table answer (
+    id          bigint        not null auto_increment,
+    question_id bigint        not null,
+    user_id     bigint        not null,
+    content     varchar(1000) not null,
+    created_at  datetime(6)   not null,
+    primary key (id),
+    constraint fk_answer_question foreign key (question_id) references question (id),
+    constraint fk_answer_user foreign key (user_id) references app_user (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table comment (
+    id         bigint      not null auto_increment,
+    content    varchar(50) not null,
+    answer_id  bigint      not null,
+    user_id    bigint      not null,
+    created_at datetime(6),
+    primary key (id),
+    constraint fk_comment_answer foreign key (answer_id) references answer (id),
+    constraint fk_comment_user foreign key (user_id) references app_user (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table schedule (
+    id          bigint       not null auto_increment,
+    title       varchar(255) not null,
+    date        date         not null,
+    time        varchar(255),
+    place       varchar(255),
+    memo        text,
+    type        varchar(255),
+    remind      bit          not null,
+    family_code varchar(255),
+    created_at  datetime(6),
+    primary key (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table balance_game (
+    id         bigint       not null auto_increment,
+    game_date  date         not null,
+    question   varchar(255) not null,
+    option_a   varchar(100) not null,
+    option_b   varchar(100) not null,
+    category   varchar(50)  not null,
+    created_at datetime(6)  not null,
+    primary key (id),
+    constraint uk_balance_game_game_date unique (game_date)
+) engine = InnoDB default charset = utf8mb4;
+
+create table balance_game_vote (
+    id              bigint      not null auto_increment,
+    balance_game_id bigint      not null,
+    user_id         bigint      not null,
+    choice          varchar(1)  not null,
+    created_at      datetime(6) not null,
+    primary key (id),
+    constraint uk_balance_game_vote_game_user unique (balance_game_id, user_id),
+    constraint fk_balance_game_vote_game foreign key (balance_game_id) references balance_game (id),
+    constraint fk_balance_game_vote_user foreign key (user_id) references app_user (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table slang_quiz (
+    id          bigint        not null auto_increment,
+    quiz_date   date          not null,
+    question    varchar(500)  not null,
+    answer      varchar(500)  not null,
+    choices     varchar(1000) not null,
+    explanation varchar(500)  not null,
+    created_at  datetime(6)   not null,
+    primary key (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table slang_quiz_vote (
+    id            bigint      not null auto_increment,
+    slang_quiz_id bigint      not null,
+    user_id       bigint      not null,
+    choice_index  integer     not null,
+    created_at    datetime(6) not null,
+    updated_at    datetime(6) not null,
+    primary key (id),
+    constraint uk_slang_quiz_vote_quiz_user unique (slang_quiz_id, user_id),
+    constraint fk_slang_quiz_vote_quiz foreign key (slang_quiz_id) references slang_quiz (id),
+    constraint fk_slang_quiz_vote_user foreign key (user_id) references app_user (id)
+) engine = InnoDB default charset = utf8mb4;
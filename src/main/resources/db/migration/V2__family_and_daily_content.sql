@@ -0,0 +1,123 @@
+-- 가족 테이블 + family_id FK, 투표 집계, AI 응답 캐시, 일일 콘텐츠 버퍼
+-- 예전 문자열 family_code 는 family 테이블로 옮기고 컬럼은 롤백 대비로 남겨 둔다.
+
+create table family (
+    id         bigint       not null auto_increment,
+    code       varchar(255) not null,
+    created_at datetime(6)  not null,
+    primary key (id),
+    constraint uk_family_code unique (code)
+) engine = InnoDB default charset = utf8mb4;
+
+alter table app_user
+    add column family_id bigint,
+    add constraint fk_app_user_family foreign key (family_id) references family (id);
+
+alter table schedule
+    add column family_id bigint,
+    add constraint fk_schedule_family foreign key (family_id) references family (id);
+
+alter table answer
+    add column family_id bigint,
+    add constraint fk_answer_family foreign key (family_id) references family (id);
+
+alter table balance_game_vote
+    add column family_id bigint,
+    add constraint fk_balance_game_vote_family foreign key (family_id) references family (id);
+
+alter table slang_quiz_vote
+    add column family_id bigint,
+    add constraint fk_slang_quiz_vote_family foreign key (family_id) references family (id);
+
+-- family_code → family 이관 (코드는 FamilyService.normalizeCode 와 같이 trim + 대문자)
+insert ignore into family (code, created_at)
+select distinct upper(trim(family_code)), now(6) from app_user
+where family_code is not null and trim(family_code) <> '';
+
+insert ignore into family (code, created_at)
+select distinct upper(trim(family_code)), now(6) from schedule
+where family_code is not null and trim(family_code) <> '';
+
+update app_user u join family f on f.code = upper(trim(u.family_code))
+set u.family_id = f.id;
+
+update schedule s join family f on f.code = upper(trim(s.family_code))
+set s.family_id = f.id;
+
+-- 답변/투표는 작성자의 현재 가족으로 연결
+update answer a join app_user u on u.id = a.user_id
+set a.family_id = u.family_id;
+
+update balance_game_vote v join app_user u on u.id = v.user_id
+set v.family_id = u.family_id;
+
+update slang_quiz_vote v join app_user u on u.id = v.user_id
+set v.family_id = u.family_id;
+
+-- 가족별 투표 집계
+create table balance_game_vote_tally (
+    id              bigint     not null auto_increment,
+    balance_game_id bigint     not null,
+    family_id       bigint     not null,
+    choice          varchar(1) not null,
+    vote_count      bigint     not null,
+    primary key (id),
+    constraint uk_balance_game_vote_tally_game_family_choice unique (balance_game_id, family_id, choice),
+    constraint fk_balance_game_vote_tally_game foreign key (balance_game_id) references balance_game (id),
+    constraint fk_balance_game_vote_tally_family foreign key (family_id) references family (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table slang_quiz_vote_tally (
+    id            bigint  not null auto_increment,
+    slang_quiz_id bigint  not null,
+    family_id     bigint  not null,
+    choice_index  integer not null,
+    vote_count    bigint  not null,
+    primary key (id),
+    constraint uk_slang_quiz_vote_tally_quiz_family_choice unique (slang_quiz_id, family_id, choice_index),
+    constraint fk_slang_quiz_vote_tally_quiz foreign key (slang_quiz_id) references slang_quiz (id),
+    constraint fk_slang_quiz_vote_tally_family foreign key (family_id) references family (id)
+) engine = InnoDB default charset = utf8mb4;
+
+insert into balance_game_vote_tally (balance_game_id, family_id, choice, vote_count)
+select balance_game_id, family_id, choice, count(*) from balance_game_vote
+where family_id is not null
+group by balance_game_id, family_id, choice;
+
+insert into slang_quiz_vote_tally (slang_quiz_id, family_id, choice_index, vote_count)
+select slang_quiz_id, family_id, choice_index, count(*) from slang_quiz_vote
+where family_id is not null
+group by slang_quiz_id, family_id, choice_index;
+
+-- 하루 1개 퀴즈 : 동시 생성으로 생긴 같은 날짜 퀴즈는 가장 먼저 만든 것만 남긴다
+delete v from slang_quiz_vote v
+    join slang_quiz q on q.id = v.slang_quiz_id
+    join slang_quiz k on k.quiz_date = q.quiz_date and k.id < q.id;
+
+delete t from slang_quiz_vote_tally t
+    join slang_quiz q on q.id = t.slang_quiz_id
+    join slang_quiz k on k.quiz_date = q.quiz_date and k.id < q.id;
+
+delete q from slang_quiz q
+    join slang_quiz k on k.quiz_date = q.quiz_date and k.id < q.id;
+
+alter table slang_quiz
+    add constraint uk_slang_quiz_quiz_date unique (quiz_date);
+
+create table ai_response_cache (
+    fingerprint varchar(64)  not null,
+    model       varchar(50)  not null,
+    category    varchar(100),
+    content     text         not null,
+    created_at  datetime(6)  not null,
+    expires_at  datetime(6)  not null,
+    primary key (fingerprint)
+) engine = InnoDB default charset = utf8mb4;
+
+create table daily_content_buffer (
+    id           bigint      not null auto_increment,
+    content_type enum ('QUESTION','BALANCE_GAME','SLANG_QUIZ') not null,
+    payload      text        not null,
+    created_at   datetime(6) not null,
+    primary key (id)
+) engine = InnoDB default charset = utf8mb4;
@@ -0,0 +1,32 @@
+-- 리포지토리 조회별 인덱스 (where 조건 → order by 순서로 구성해서 filesort 없이 읽도록)
+
+-- AnswerRepository.findFamilyFeed : question_id = ? and family_id = ? order by created_at
+create index idx_answer_question_family on answer (question_id, family_id, created_at);
+-- AnswerRepository.existsByQuestionIdAndUserId / findOwnFeed
+create index idx_answer_question_user on answer (question_id, user_id);
+
+-- CommentRepository.findByAnswerIdOrderByCreatedAtAsc / countByAnswerId, 피드의 댓글 수 서브쿼리
+create index idx_comment_answer_created on comment (answer_id, created_at);
+-- CommentRepository.countByUserId
+create index idx_comment_user on comment (user_id);
+
+-- ScheduleRepository.findByFamilyIdAndDateBetweenOrderByDateAsc / findByFamilyIdAndDate
+create index idx_schedule_family_date on schedule (family_id, date);
+
+-- UserRepository.findAllByFamilyId
+create index idx_app_user_family on app_user (family_id);
+
+-- QuestionRepository.findTopByOrderByCreatedAtDesc
+-- (findTopByQuestionDateOrderByCreatedAtDesc 는 uk_question_date 로 한 건만 읽는다)
+create index idx_question_created_at on question (created_at);
+
+-- BalanceGameVoteRepository.findFamilyVotesWithUser : balance_game_id = ? and family_id = ? order by created_at
+create index idx_balance_game_vote_game_family on balance_game_vote (balance_game_id, family_id, created_at);
+-- SlangQuizVoteRepository.findFamilyVotesWithUser
+create index idx_slang_quiz_vote_quiz_family on slang_quiz_vote (slang_quiz_id, family_id, created_at);
+
+-- DailyContentBufferRepository.findFirstByContentTypeOrderByIdAsc / countByContentType
+create index idx_daily_content_buffer_type_id on daily_content_buffer (content_type, id);
+
+-- AiResponseCacheRepository.deleteExpired
+create index idx_ai_response_cache_expires_at on ai_response_cache (expires_at);
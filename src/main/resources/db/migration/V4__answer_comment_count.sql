@@ -0,0 +1,8 @@
+-- 답변별 댓글 수 (목록 조회 때 comment 집계를 하지 않도록 비정규화)
+
+alter table answer
+    add column comment_count bigint not null default 0;
+
+update answer a
+    join (select answer_id, count(*) as cnt from comment group by answer_id) c on c.answer_id = a.id
+set a.comment_count = c.cnt;
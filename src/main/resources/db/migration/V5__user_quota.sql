@@ -0,0 +1,15 @@
+-- 유저별 사용량 카운터 (QuotaService)
+
+create table user_quota (
+    id         bigint  not null auto_increment,
+    user_id    bigint  not null,
+    quota_type enum ('COMMENT') not null,
+    used       bigint  not null,
+    primary key (id),
+    constraint uk_user_quota_user_type unique (user_id, quota_type),
+    constraint fk_user_quota_user foreign key (user_id) references app_user (id)
+) engine = InnoDB default charset = utf8mb4;
+
+-- 지금까지 쓴 댓글 수로 시작
+insert into user_quota (user_id, quota_type, used)
+select user_id, 'COMMENT', count(*) from comment group by user_id;
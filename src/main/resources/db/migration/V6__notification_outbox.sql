@@ -0,0 +1,35 @@
+-- 푸시 알림 아웃박스 + 기기 토큰
+-- 서비스는 자기 트랜잭션 안에서 outbound_notification 행만 쓰고, NotificationDispatcher 가 따로 꺼내 FCM 으로 보낸다.
+
+create table push_token (
+    id         bigint       not null auto_increment,
+    user_id    bigint       not null,
+    token      varchar(512) not null,
+    created_at datetime(6)  not null,
+    primary key (id),
+    constraint uk_push_token_token unique (token),
+    constraint fk_push_token_user foreign key (user_id) references app_user (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table outbound_notification (
+    id              bigint        not null auto_increment,
+    recipient_id    bigint        not null,
+    type            enum ('ANSWER_CREATED','SCHEDULE_CREATED') not null,
+    title           varchar(255)  not null,
+    body            varchar(1000) not null,
+    status          enum ('PENDING','SENT','SKIPPED','FAILED') not null,
+    attempts        int           not null,
+    next_attempt_at datetime(6)   not null,
+    last_error      varchar(500),
+    created_at      datetime(6)   not null,
+    sent_at         datetime(6),
+    primary key (id),
+    constraint fk_outbound_notification_recipient foreign key (recipient_id) references app_user (id)
+) engine = InnoDB default charset = utf8mb4;
+
+-- NotificationDispatcher 폴링 : status = 'PENDING' and next_attempt_at <= ? order by next_attempt_at
+create index idx_outbound_notification_status_next on outbound_notification (status, next_attempt_at);
+-- 보관 기간 지난 행 정리 : created_at < ?
+create index idx_outbound_notification_created on outbound_notification (created_at);
+-- PushTokenRepository.findAllByUserIdIn
+create index idx_push_token_user on push_token (user_id);
@@ -0,0 +1,19 @@
+-- 알림 fan-out + 묶음(digest) 발송
+-- outbound_notification 은 이제 두 종류의 행을 담는다.
+--   1) 가족 이벤트 (recipient_id = null) : 작성자 / 대상 문장만 저장, 디스패처가 가족 기기 토큰으로 펼친다.
+--   2) 받는 사람 지정 (recipient_id 있음) : 이미 만들어진 제목/본문을 그 사람에게만 보낸다. (재시도, 이전 행)
+
+alter table outbound_notification
+    modify column recipient_id bigint null,
+    modify column type enum ('ANSWER_CREATED','SCHEDULE_CREATED','COMMENT_CREATED','BALANCE_VOTE','QUIZ_VOTE','DIGEST') not null,
+    modify column title varchar(255) null,
+    modify column body varchar(1000) null,
+    add column family_id  bigint       null after recipient_id,
+    add column actor_id   bigint       null after family_id,
+    add column actor_name varchar(255) null after actor_id,
+    add column subject    varchar(500) null after actor_name,
+    add constraint fk_outbound_notification_family foreign key (family_id) references family (id);
+
+-- 이미 쌓인 받는 사람 지정 행도 가족 단위 토큰 조회로 보낼 수 있도록
+update outbound_notification n join app_user u on u.id = n.recipient_id
+set n.family_id = u.family_id;
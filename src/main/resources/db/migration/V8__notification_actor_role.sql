@@ -0,0 +1,4 @@
+-- 알림 문구의 {familyRole} placeholder 용 작성자 가족 역할 (child / parent / grandparent)
+
+alter table outbound_notification
+    add column actor_role varchar(255) null after actor_name;
@@ -0,0 +1,5 @@
+-- DailyContentBuffer.poll 이 항목을 바로 지우지 않고 선점만 한다.
+-- 콘텐츠 저장 트랜잭션에서 삭제하고, 저장이 실패하면 claimed_until 이 지난 뒤 다시 꺼낼 수 있다.
+
+alter table daily_content_buffer
+    add column claimed_until datetime(6) null;
@@ -400,8 +400,15 @@ async function refreshAnswerList() {
     }
 
     try {
-        const data = await apiGet(`${API_BASE}/questions/${questionId}/answers`);
-        const answers = Array.isArray(data) ? data : [];
+        // 첫 로드는 홈 묶음 응답에 한 페이지로 다 들어왔으면 그대로 사용
+        const homePage = await takeHomeSection("answers");
+        // 질문 하나의 가족 답변은 가족 수만큼이라 모든 페이지를 이어 붙인다
+        const answers = homePage && !homePage.hasNext
+            ? homePage.items || []
+            : await fetchAllCursorPages(
+                `${API_BASE}/questions/${questionId}/answers`,
+                apiGet
+            );
         todaysAnswersCache = answers;
         renderAnswerListFromData(answers);
     } catch (err) {
@@ -549,75 +556,109 @@ function openAnswerThread(answerId) {
     openModal(answerThreadModalId);
 }
 
-/* 댓글 리스트 렌더링 (백엔드에서 가져오기) */
-async function renderCommentList(answerId) {
+/* 답변 스레드 댓글 페이지 상태 ("댓글 더 보기"로 이어서 불러오기) */
+let threadComments = [];
+let threadCommentCursor = null;
+
+function buildCommentItemHtml(c, answerId) {
+    const displayName =
+        c.userName ||
+        (typeof currentUser !== "undefined" && currentUser.name) ||
+        "가족";
+    const avatarLabel =
+        typeof getAvatarLabel === "function"
+            ? getAvatarLabel(displayName)
+            : displayName;
+    const text = c.content || c.text || "";
+    const mine = isMyComment(c);
+
+    return `
+      <li class="comment-item" data-comment-id="${c.commentId}" data-answer-id="${answerId}">
+        <span class="avatar avatar-sm avatar-soft">
+          <span class="avatar-initial">${avatarLabel}</span>
+        </span>
+        <div class="comment-bubble">
+          <p style="font-size:13px; color:var(--fh-color-text-main);">
+            <strong>${escapeHtml(displayName)}</strong>
+          </p>
+          <p class="comment-text" style="font-size:13px; margin-top:2px;">
+            ${escapeHtml(text)}
+          </p>
+          <div class="comment-footer">
+            <p class="comment-time" style="font-size:11px; margin-top:4px; color:var(--fh-color-text-softer);">
+              ${formatTimeLabel(c.createdAt)}
+            </p>
+            ${
+                mine
+                    ? `
+            <div class="comment-actions">
+              <button type="button" class="link-button comment-edit-btn">수정</button>
+              <button type="button" class="link-button comment-delete-btn">삭제</button>
+            </div>
+            `
+                    : ""
+            }
+          </div>
+        </div>
+      </li>
+    `;
+}
+
+/* 현재 threadComments 상태로 댓글 목록만 다시 그림 (서버 재조회 없음) */
+function paintCommentList(answerId) {
+    if (!commentListEl) return;
+
+    const comments = threadComments;
+
+    if (comments.length === 0) {
+        commentListEl.innerHTML = `
+    <li class="comment-item">
+      <div class="comment-bubble text-soft" style="font-size:13px;">
+        아직 댓글이 없어요. 따뜻한 한마디를 남겨볼까요? 🌷
+      </div>
+    </li>
+  `;
+        return;
+    }
+
+    const moreHtml = threadCommentCursor
+        ? `
+      <li class="comment-item comment-more">
+        <button type="button" class="link-button comment-more-btn">댓글 더 보기</button>
+      </li>
+    `
+        : "";
+
+    commentListEl.innerHTML =
+        comments.map((c) => buildCommentItemHtml(c, answerId)).join("") + moreHtml;
+}
+
+/* 댓글 리스트 렌더링 (백엔드에서 가져오기)
+   - append=false : 첫 페이지부터 다시 불러오기 (작성/수정/삭제 후)
+   - append=true  : 다음 페이지를 이어 붙이기 */
+async function renderCommentList(answerId, append = false) {
     if (!commentListEl) return;
 
     try {
-        const data = await apiGet(`${API_BASE}/answers/${answerId}/comments`);
-        const comments = Array.isArray(data) ? data : [];
-
-        if (comments.length === 0) {
-            commentListEl.innerHTML = `
-        <li class="comment-item">
-          <div class="comment-bubble text-soft" style="font-size:13px;">
-            아직 댓글이 없어요. 따뜻한 한마디를 남겨볼까요? 🌷
-          </div>
-        </li>
-      `;
-            return;
+        if (!append) {
+            threadComments = [];
+            threadCommentCursor = null;
         }
 
-        commentListEl.innerHTML = comments
-            .map((c) => {
-                const displayName =
-                    c.userName ||
-                    (typeof currentUser !== "undefined" && currentUser.name) ||
-                    "가족";
-                const avatarLabel =
-                    typeof getAvatarLabel === "function"
-                        ? getAvatarLabel(displayName)
-                        : displayName;
-                const text = c.content || c.text || "";
-                const mine = isMyComment(c);
-
-                return `
-          <li class="comment-item" data-comment-id="${c.commentId}" data-answer-id="${answerId}">
-            <span class="avatar avatar-sm avatar-soft">
-              <span class="avatar-initial">${avatarLabel}</span>
-            </span>
-            <div class="comment-bubble">
-              <p style="font-size:13px; color:var(--fh-color-text-main);">
-                <strong>${escapeHtml(displayName)}</strong>
-              </p>
-              <p class="comment-text" style="font-size:13px; margin-top:2px;">
-                ${escapeHtml(text)}
-              </p>
-              <div class="comment-footer">
-                <p class="comment-time" style="font-size:11px; margin-top:4px; color:var(--fh-color-text-softer);">
-                  ${formatTimeLabel(c.createdAt)}
-                </p>
-                ${
-                    mine
-                        ? `
-                <div class="comment-actions">
-                  <button type="button" class="link-button comment-edit-btn">수정</button>
-                  <button type="button" class="link-button comment-delete-btn">삭제</button>
-                </div>
-                `
-                        : ""
-                }
-              </div>
-            </div>
-          </li>
-        `;
-            })
-            .join("");
+        const page = await apiGet(
+            withCursor(`${API_BASE}/answers/${answerId}/comments`, threadCommentCursor)
+        );
+        threadComments = threadComments.concat(page?.items || []);
+        threadCommentCursor = page?.hasNext ? page.nextCursor : null;
 
+        const comments = threadComments;
+        paintCommentList(answerId);
+
+        // 마지막 페이지까지 받았을 때만 댓글 수가 정확하다
         const target = todaysAnswersCache.find(
             (a) => String(a.id) === String(answerId)
         );
-        if (target) {
+        if (target && !threadCommentCursor) {
             target.commentCount = comments.length;
             updateThreadMetaCounts(target);
             renderAnswerListFromData(todaysAnswersCache);
@@ -1160,6 +1201,14 @@ answerDeleteBtn?.addEventListener("click", () => {
 
 /* ✅ 댓글 목록 안에서 수정/삭제 버튼 클릭 (이벤트 위임) */
 commentListEl?.addEventListener("click", (e) => {
+    // 댓글 더 보기
+    if (e.target.closest(".comment-more-btn")) {
+        if (currentThreadAnswerId) {
+            renderCommentList(currentThreadAnswerId, true);
+        }
+        return;
+    }
+
     const li = e.target.closest(".comment-item");
     if (!li) return;
 
@@ -1213,7 +1262,7 @@ async function loadTodayQuestionAndAnswers() {
     if (!todayQuestionEl) return;
 
     try {
-        const q = await apiGet(`${API_BASE}/questions/today`);
+        const q = (await takeHomeSection("question")) ?? await apiGet(`${API_BASE}/questions/today`);
 
         const questionId =
             q.id ?? q.questionId ?? q.questionID ?? q.question_id;
@@ -1244,3 +1293,49 @@ async function loadTodayQuestionAndAnswers() {
         console.error("오늘의 질문을 불러오는 중 오류:", err);
     }
 }
+
+/* -----------------------------------------------------
+   📡 가족 실시간 이벤트 반영 (ANSWER_CREATED / COMMENT_CREATED)
+   - 이벤트에 담긴 답변/댓글을 캐시에 넣고 다시 그린다 (목록 재조회 없음)
+----------------------------------------------------- */
+
+window.addEventListener("dadam:family-event", (e) => {
+    const { type, data } = e.detail || {};
+    if (!data) return;
+
+    if (type === "ANSWER_CREATED") {
+        const answer = data.answer;
+        if (!answer || String(data.questionId) !== String(getCurrentQuestionId())) return;
+        if (todaysAnswersCache.some((a) => String(a.id) === String(answer.id))) return;
+
+        todaysAnswersCache = todaysAnswersCache.concat(answer);
+        renderAnswerListFromData(todaysAnswersCache);
+        return;
+    }
+
+    if (type === "COMMENT_CREATED") {
+        const comment = data.comment;
+        if (!comment) return;
+
+        const target = todaysAnswersCache.find(
+            (a) => String(a.id) === String(data.answerId)
+        );
+        if (target) {
+            target.commentCount = (target.commentCount || 0) + 1;
+            renderAnswerListFromData(todaysAnswersCache);
+            if (String(currentThreadAnswerId) === String(data.answerId)) {
+                updateThreadMetaCounts(target);
+            }
+        }
+
+        // 열려 있는 스레드면 댓글 목록에도 바로 추가 (다음 페이지가 남아 있으면 그 페이지에서 보인다)
+        if (
+            String(currentThreadAnswerId) === String(data.answerId) &&
+            !threadCommentCursor &&
+            !threadComments.some((c) => String(c.commentId) === String(comment.commentId))
+        ) {
+            threadComments = threadComments.concat(comment);
+            paintCommentList(data.answerId);
+        }
+    }
+});
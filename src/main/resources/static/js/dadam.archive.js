@@ -90,30 +90,37 @@ async function fetchQuestionByDate(dateKey) {
     return fetchJsonWithFallbacks(endpoints);
 }
 
-async function fetchAnswersForQuestion(questionId) {
-    const url = `${API_BASE}/questions/${questionId}/answers`;
+async function archiveGetJson(url) {
     const res = await fetch(url, {
         method: "GET",
         headers: archiveAuthHeaders({ "Content-Type": "application/json" }),
     });
-    if (!res.ok) return [];
+    if (!res.ok) throw new Error(`GET ${url} 실패, status=${res.status}`);
     return res.json();
 }
 
-async function fetchCommentsForAnswer(answerId) {
-    const url = `${API_BASE}/answers/${answerId}/comments`;
+/* 가족 답변은 가족 수만큼이라 모든 페이지를 가져온다 */
+async function fetchAnswersForQuestion(questionId) {
     try {
-        const res = await fetch(url, {
-            method: "GET",
-            headers: archiveAuthHeaders({ "Content-Type": "application/json" }),
-        });
-        if (!res.ok) return [];
-        return await res.json();
+        return await fetchAllCursorPages(
+            `${API_BASE}/questions/${questionId}/answers`,
+            archiveGetJson
+        );
     } catch (_) {
         return [];
     }
 }
 
+/* 아카이브에서는 댓글 첫 페이지만 보여준다 (나머지는 hasMoreComments 로 표시) */
+async function fetchCommentsForAnswer(answerId) {
+    try {
+        const page = await archiveGetJson(`${API_BASE}/answers/${answerId}/comments`);
+        return { comments: page?.items || [], hasMore: !!page?.hasNext };
+    } catch (_) {
+        return { comments: [], hasMore: false };
+    }
+}
+
 function normalizeQuestionResponse(raw) {
     if (!raw) return { id: null, text: "" };
     return {
@@ -169,6 +176,9 @@ function renderArchiveAnswers(answers) {
             `;
                 })
                 .join("");
+            const moreCommentHtml = ans.hasMoreComments
+                ? `<li class="archive-comment-item text-soft">댓글이 더 있어요 (전체 ${ans.commentCount ?? ""}개)</li>`
+                : "";
 
             return `
           <li class="archive-answer-item">
@@ -180,7 +190,7 @@ function renderArchiveAnswers(answers) {
               <span>${archiveEscapeHtml(createdLabel)}</span>
             </div>
             <p class="archive-answer-text">${text}</p>
-            ${commentHtml ? `<ul class="archive-comment-list">${commentHtml}</ul>` : ""}
+            ${commentHtml ? `<ul class="archive-comment-list">${commentHtml}${moreCommentHtml}</ul>` : ""}
           </li>
         `;
         })
@@ -231,8 +241,8 @@ async function loadArchiveForDate(dateKey) {
         if (question.id && Array.isArray(answers)) {
             const enriched = await Promise.all(
                 answers.map(async (ans) => {
-                    const comments = await fetchCommentsForAnswer(ans.id);
-                    return { ...ans, comments };
+                    const { comments, hasMore } = await fetchCommentsForAnswer(ans.id);
+                    return { ...ans, comments, hasMoreComments: hasMore };
                 })
             );
             renderArchiveAnswers(enriched);
@@ -89,6 +89,9 @@ const balanceQuestionEl = document.getElementById("balance-question");
 const balanceOptions = document.querySelectorAll(".balance-option");
 const regenBalanceBtn = document.getElementById("regen-balance");
 
+// 화면에 그려진 현재 투표 현황 (실시간 이벤트 반영용)
+let currentBalanceSummary = null;
+
 /* 백엔드 응답 DTO (BalanceGameTodayResponse)
    {
      "id": 1,
@@ -195,6 +198,7 @@ function setBalanceGameFromSummary(summary) {
 
     console.log("[BALANCE] set game", summary);
 
+    currentBalanceSummary = summary;
     balanceContainer.dataset.gameId = summary.id;
 
     if (balanceQuestionEl) balanceQuestionEl.textContent = summary.question;
@@ -213,19 +217,23 @@ function setBalanceGameFromSummary(summary) {
 /* 서버에서 오늘의 밸런스 게임 + 투표 현황 가져오기 */
 async function fetchBalanceGameFromServer() {
     try {
-        const token = getAuthToken();
+        let raw = await takeHomeSection("balanceGame");
 
-        const res = await fetch(BALANCE_TODAY_API_URL, {
-            method: "GET",
-            headers: {
-                "Content-Type": "application/json",
-                "Authorization": `Bearer ${token}`,  // 추가됨
-            },
-        });
+        if (!raw) {
+            const token = getAuthToken();
 
-        if (!res.ok) throw new Error("Failed to fetch balance game");
+            const res = await fetch(BALANCE_TODAY_API_URL, {
+                method: "GET",
+                headers: {
+                    "Content-Type": "application/json",
+                    "Authorization": `Bearer ${token}`,  // 추가됨
+                },
+            });
 
-        const raw = await res.json();
+            if (!res.ok) throw new Error("Failed to fetch balance game");
+
+            raw = await res.json();
+        }
         console.log("[BALANCE] /today response:", raw);
 
         const summary = normalizeBalanceSummary(raw);
@@ -367,6 +375,25 @@ regenBalanceBtn?.addEventListener("click", () => {
     });
 });
 
+/* 가족 투표 실시간 반영 (BALANCE_VOTE) → 투표 목록만 고쳐서 다시 그림 */
+window.addEventListener("dadam:family-event", (e) => {
+    const { type, data } = e.detail || {};
+    if (type !== "BALANCE_VOTE" || !data || !currentBalanceSummary) return;
+    if (String(data.gameId) !== String(currentBalanceSummary.id)) return;
+
+    const isVoter = (v) => typeof v !== "string" && String(v.userId) === String(data.userId);
+    const votesA = (currentBalanceSummary.votesA || []).filter((v) => !isVoter(v));
+    const votesB = (currentBalanceSummary.votesB || []).filter((v) => !isVoter(v));
+    const voter = { userId: data.userId, userName: data.userName };
+
+    if (data.choice === "A") votesA.push(voter);
+    if (data.choice === "B") votesB.push(voter);
+
+    currentBalanceSummary.votesA = votesA;
+    currentBalanceSummary.votesB = votesB;
+    renderBalanceFromSummary(currentBalanceSummary);
+});
+
 /* 초기 진입 시 밸런스 게임 실행 */
 document.addEventListener("DOMContentLoaded", () => {
     initBalanceGame();
@@ -106,6 +106,7 @@ function clearUserScopedStorage() {
     userScopedKeys.forEach((key) => {
         clearPersistedKey(key);
     });
+    resetHomeSnapshot();
 }
 
 /* -----------------------------------------------------
@@ -348,6 +349,12 @@ function setAuthToken(token) {
     } else {
         clearPersistedKey(DADAM_KEYS.AUTH_TOKEN);
     }
+
+    // 가족 실시간 이벤트 연결도 토큰을 따라간다 (dadam.realtime.js)
+    if (typeof connectFamilyEvents === "function") {
+        if (authToken) connectFamilyEvents();
+        else disconnectFamilyEvents();
+    }
 }
 
 function isLoggedIn() {
@@ -370,6 +377,77 @@ function setAuthUiState(loggedIn) {
     }
 }
 
+/* -----------------------------------------------------
+   📄 커서 페이지 헬퍼
+   - 목록 API 응답: { items: [...], nextCursor: "...", hasNext: true }
+   - 다음 페이지는 nextCursor 를 cursor 파라미터로 넘겨서 요청
+----------------------------------------------------- */
+
+function withCursor(url, cursor) {
+    if (!cursor) return url;
+    const sep = url.includes("?") ? "&" : "?";
+    return `${url}${sep}cursor=${encodeURIComponent(cursor)}`;
+}
+
+/* 마지막 페이지까지 이어서 가져오기
+   - 하루치 일정, 질문 하나의 가족 답변처럼 범위가 정해진 목록에만 사용
+   - getJson(url) 은 각 화면의 fetch 헬퍼 (인증 헤더 포함) */
+async function fetchAllCursorPages(url, getJson, maxPages = 20) {
+    const items = [];
+    let cursor = null;
+    for (let i = 0; i < maxPages; i++) {
+        const page = await getJson(withCursor(url, cursor));
+        items.push(...(page?.items || []));
+        if (!page?.hasNext || !page.nextCursor) break;
+        cursor = page.nextCursor;
+    }
+    return items;
+}
+
+/* -----------------------------------------------------
+   🏠 홈 화면 묶음 조회 (/api/v1/home)
+   - 첫 화면 섹션(프로필, 가족, 오늘의 질문/답변, 밸런스 게임, 퀴즈, 일정)을 요청 한 번으로 받는다.
+   - 각 섹션은 takeHomeSection(name) 으로 한 번만 꺼내 쓰고, 이후 새로고침은 원래 API 를 호출
+   - 섹션 값이 null(서버에서 실패/시간 초과)이거나 요청 자체가 실패하면 null → 원래 API 로 조회
+----------------------------------------------------- */
+
+let homeSnapshotPromise = null;
+const consumedHomeSections = new Set();
+
+function loadHomeSnapshot() {
+    if (homeSnapshotPromise) return homeSnapshotPromise;
+
+    const token = getAuthToken();
+    if (!token) return Promise.resolve(null);
+
+    homeSnapshotPromise = fetch(`${API_BASE}/home`, {
+        method: "GET",
+        headers: {
+            "Content-Type": "application/json",
+            "Authorization": `Bearer ${token}`,
+        },
+    })
+        .then((res) => (res.ok ? res.json() : null))
+        .catch((err) => {
+            console.warn("[HOME] snapshot 실패 → 섹션별 API 사용", err);
+            return null;
+        });
+    return homeSnapshotPromise;
+}
+
+async function takeHomeSection(name) {
+    if (consumedHomeSections.has(name)) return null;
+    consumedHomeSections.add(name);
+
+    const snapshot = await loadHomeSnapshot();
+    return snapshot?.[name] ?? null;
+}
+
+function resetHomeSnapshot() {
+    homeSnapshotPromise = null;
+    consumedHomeSections.clear();
+}
+
 /* -----------------------------------------------------
    🔔 알림(Notification) 시스템
 ----------------------------------------------------- */
@@ -316,7 +316,7 @@ window.openFamilyProfile = openFamilyProfile;
 ----------------------------------------------------- */
 async function fetchAndRenderFamilyMembers() {
     try {
-        const raw = await familyApiGet(FAMILY_MEMBERS_API_URL);
+        const raw = (await takeHomeSection("family")) ?? await familyApiGet(FAMILY_MEMBERS_API_URL);
         const members = normalizeFamilyMembers(raw);
         const filtered = filterMembersByMyFamilyCode(members);
 
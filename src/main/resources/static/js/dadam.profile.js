@@ -108,14 +108,17 @@ async function fetchProfile() {
     const token = getAuthToken();
     if (!token) return;
 
-    const res = await fetch("/api/v1/users/me", {
-        method: "GET",
-        headers: { Authorization: "Bearer " + token },
-    });
+    let data = await takeHomeSection("profile");
+    if (!data) {
+        const res = await fetch("/api/v1/users/me", {
+            method: "GET",
+            headers: { Authorization: "Bearer " + token },
+        });
 
-    if (!res.ok) return;
+        if (!res.ok) return;
 
-    const data = await res.json();
+        data = await res.json();
+    }
 
     // 전역 currentUser를 백엔드 값으로 갱신
     if (typeof setCurrentUser === "function") {
@@ -300,7 +300,7 @@ async function fetchTodayQuiz() {
     if (!quizContainer) return; // 해당 UI가 없는 페이지에서는 무시
 
     try {
-        const raw = await quizApiGet(QUIZ_TODAY_API_URL);
+        const raw = (await takeHomeSection("slangQuiz")) ?? await quizApiGet(QUIZ_TODAY_API_URL);
         console.log("[QUIZ] today response:", raw);
 
         const summary = normalizeQuizSummary(raw);
@@ -491,6 +491,22 @@ quizCheckBtn?.addEventListener("click", async () => {
     updateQuizVisuals();
 });
 
+/* 가족 투표 실시간 반영 (QUIZ_VOTE) → 해당 보기 투표자만 추가해서 다시 그림 */
+window.addEventListener("dadam:family-event", (e) => {
+    const { type, data } = e.detail || {};
+    if (type !== "QUIZ_VOTE" || !data || !currentQuiz) return;
+    if (String(data.quizId) !== String(currentQuiz.id)) return;
+
+    const idx = data.choiceIndex;
+    if (!Array.isArray(currentQuiz.votes[idx])) return;
+
+    const isVoter = (v) => typeof v !== "string" && String(v.userId) === String(data.userId);
+    currentQuiz.votes = currentQuiz.votes.map((list) => (list || []).filter((v) => !isVoter(v)));
+    currentQuiz.votes[idx].push({ userId: data.userId, userName: data.userName });
+
+    updateQuizVisuals();
+});
+
 /* DOM 로드 시 초기화 */
 document.addEventListener("DOMContentLoaded", () => {
     initQuiz();
@@ -0,0 +1,129 @@
+/* =====================================================
+   📡 가족 실시간 이벤트 (SSE, GET /api/v1/family/events)
+   - EventSource 는 Authorization 헤더를 붙일 수 없어서 fetch 스트림으로 직접 읽는다.
+   - 받은 이벤트는 window 에 "dadam:family-event" 로 다시 뿌리고,
+     각 화면 모듈(balance / quiz / answers)이 자기 상태에 바로 반영한다. (today API 재조회 없음)
+   - 내가 만든 이벤트는 요청 응답으로 이미 반영했으므로 무시
+   - 끊기면 1초부터 최대 30초까지 늘려 가며 다시 연결
+===================================================== */
+
+const FAMILY_EVENTS_URL = `${API_BASE}/family/events`;
+const FAMILY_EVENTS_MAX_RETRY_MS = 30000;
+
+let familyEventsAbort = null;
+let familyEventsRetryMs = 1000;
+let familyEventsRetryTimer = null;
+
+function connectFamilyEvents() {
+    disconnectFamilyEvents();
+
+    const token = getAuthToken();
+    if (!token) return;
+
+    const controller = new AbortController();
+    familyEventsAbort = controller;
+
+    streamFamilyEvents(token, controller)
+        .catch((err) => {
+            if (!controller.signal.aborted) {
+                console.warn("[REALTIME] 연결 끊김:", err);
+            }
+        })
+        .finally(() => {
+            // 직접 끊었거나(로그아웃) 다시 연결하지 않기로 한 경우
+            if (controller.signal.aborted || familyEventsAbort !== controller) return;
+
+            familyEventsRetryTimer = setTimeout(connectFamilyEvents, familyEventsRetryMs);
+            familyEventsRetryMs = Math.min(familyEventsRetryMs * 2, FAMILY_EVENTS_MAX_RETRY_MS);
+        });
+}
+
+function disconnectFamilyEvents() {
+    clearTimeout(familyEventsRetryTimer);
+    familyEventsRetryTimer = null;
+
+    const controller = familyEventsAbort;
+    familyEventsAbort = null;
+    controller?.abort();
+}
+
+async function streamFamilyEvents(token, controller) {
+    const res = await fetch(FAMILY_EVENTS_URL, {
+        method: "GET",
+        headers: {
+            Accept: "text/event-stream",
+            Authorization: `Bearer ${token}`,
+        },
+        signal: controller.signal,
+    });
+
+    if (!res.ok || !res.body) {
+        // 가족이 없는 계정(400), 만료 토큰(401) 등은 다시 연결해도 같으므로 멈춘다
+        if (res.status >= 400 && res.status < 500 && familyEventsAbort === controller) {
+            familyEventsAbort = null;
+        }
+        throw new Error(`HTTP ${res.status}`);
+    }
+
+    familyEventsRetryMs = 1000;
+
+    const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = "";
+
+    while (true) {
+        const { value, done } = await reader.read();
+        if (done) break;
+
+        buffer += value.replace(/\r\n?/g, "\n");
+
+        let boundary;
+        while ((boundary = buffer.indexOf("\n\n")) >= 0) {
+            const block = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary + 2);
+            handleFamilyEventBlock(block);
+        }
+    }
+}
+
+/* SSE 이벤트 블록 하나 ("event: ...", "data: ..." 줄들) 해석 */
+function handleFamilyEventBlock(block) {
+    let type = null;
+    const dataLines = [];
+
+    block.split("\n").forEach((line) => {
+        if (line.startsWith(":")) return; // heartbeat comment
+        if (line.startsWith("event:")) type = line.slice(6).trim();
+        if (line.startsWith("data:")) dataLines.push(line.slice(5).replace(/^ /, ""));
+    });
+
+    if (!type || type === "CONNECTED" || dataLines.length === 0) return;
+
+    let data;
+    try {
+        data = JSON.parse(dataLines.join("\n"));
+    } catch (e) {
+        console.warn("[REALTIME] 이벤트 data 파싱 실패:", type, e);
+        return;
+    }
+
+    const actorId = data.userId ?? data.answer?.userId ?? data.comment?.userId;
+    if (
+        actorId != null &&
+        typeof currentUser !== "undefined" &&
+        currentUser?.id != null &&
+        String(actorId) === String(currentUser.id)
+    ) {
+        return;
+    }
+
+    window.dispatchEvent(new CustomEvent("dadam:family-event", { detail: { type, data } }));
+}
+
+window.connectFamilyEvents = connectFamilyEvents;
+window.disconnectFamilyEvents = disconnectFamilyEvents;
+
+document.addEventListener("DOMContentLoaded", () => {
+    if (isLoggedIn()) {
+        connectFamilyEvents();
+    }
+});
@@ -159,28 +159,34 @@ function buildAuthHeaders(base = {}) {
     return headers;
 }
 
+/** 일정 API GET (인증 헤더 포함, 실패 시 status 를 담아 throw) */
+async function scheduleGetJson(url) {
+    const res = await fetch(url, {
+        method: "GET",
+        headers: buildAuthHeaders({
+            "Content-Type": "application/json",
+        }),
+    });
+
+    if (!res.ok) {
+        throw new Error(`일정 조회 실패: ${res.status}`);
+    }
+
+    return res.json(); // { items: [ScheduleResponse...], nextCursor, hasNext }
+}
+
 /**
  * 서버에서 다가오는 일정 목록을 가져와
  * 로컬스토리지에 반영하고 캘린더/리스트를 다시 그린다.
+ * - 30일 범위라 모든 페이지를 이어 붙인다.
  */
 async function syncEventsFromServer() {
     try {
-        const res = await fetch(`${SCHEDULE_API}/upcoming`, {
-            method: "GET",
-            headers: buildAuthHeaders({
-                "Content-Type": "application/json",
-            }),
-        });
-
-        if (!res.ok) {
-            console.error("다가오는 일정 조회 실패:", res.status);
-            return;
-        }
-
-        const data = await res.json(); // [ScheduleResponse...]
-        const events = Array.isArray(data)
-            ? data.map((s) => mapScheduleToEvent(s))
-            : [];
+        const homePage = await takeHomeSection("upcomingSchedules");
+        const schedules = homePage && !homePage.hasNext
+            ? homePage.items || []
+            : await fetchAllCursorPages(`${SCHEDULE_API}/upcoming`, scheduleGetJson);
+        const events = schedules.map((s) => mapScheduleToEvent(s));
 
         saveEvents(events);
         renderCalendar(calendarState.year, calendarState.month);
@@ -192,24 +198,12 @@ async function syncEventsFromServer() {
 
 /**
  * 특정 날짜 기준 서버에서 일정 목록 조회
- * GET /api/v1/schedules?date=YYYY-MM-DD
+ * GET /api/v1/schedules?date=YYYY-MM-DD (하루치라 모든 페이지)
  */
 async function fetchSchedulesByDate(dateKey) {
     try {
         const url = `${SCHEDULE_API}?date=${encodeURIComponent(dateKey)}`;
-        const res = await fetch(url, {
-            method: "GET",
-            headers: buildAuthHeaders({
-                "Content-Type": "application/json",
-            }),
-        });
-
-        if (!res.ok) {
-            throw new Error(`특정 날짜 일정 조회 실패: ${res.status}`);
-        }
-
-        const data = await res.json(); // [ScheduleResponse...]
-        return Array.isArray(data) ? data : [];
+        return await fetchAllCursorPages(url, scheduleGetJson);
     } catch (err) {
         console.error(err);
         alert("해당 날짜의 약속을 불러오는 중 문제가 발생했습니다.");
@@ -0,0 +1,83 @@
+package com.example.dadambackend.common.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AiCircuitBreaker 상태 전이 (CLOSED → OPEN → HALF_OPEN → CLOSED / OPEN)
+ */
+class AiCircuitBreakerTest {
+
+    private static final long OPEN_MS = 100;
+
+    // 최근 4건 중 50% 이상 실패하면 OPEN (4건이 쌓이기 전에는 판단하지 않음)
+    private final AiCircuitBreaker breaker = new AiCircuitBreaker(4, 4, 50, OPEN_MS);
+
+    @Test
+    @DisplayName("minimum-calls 만큼 쌓인 뒤 실패율이 임계치를 넘으면 OPEN 되고 호출을 막는다")
+    void opensAfterFailures() {
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치 아래면 실패가 있어도 CLOSED 로 남는다")
+    void staysClosedBelowThreshold() {
+        breaker.onFailure();
+        for (int i = 0; i < 3; i++) {
+            breaker.onSuccess();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        assertThat(breaker.getFailureRate()).isEqualTo(25.0);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("open-ms 가 지나면 HALF_OPEN 으로 시험 호출 1건만 보내고, 성공하면 CLOSED")
+    void halfOpensAfterCoolDown() throws InterruptedException {
+        open();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        Thread.sleep(OPEN_MS + 50);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.HALF_OPEN);
+        // 시험 호출이 끝나기 전에는 다른 호출을 막는다
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void reopensWhenProbeFails() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_MS + 50);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.dadambackend.common.ai;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AiResilience 재시도 예산 / 헤지 요청
+ * - 서킷 브레이커는 열리지 않도록 윈도우를 크게 둔다. (상태 전이는 AiCircuitBreakerTest)
+ */
+class AiResilienceTest {
+
+    private static final long HEDGE_DELAY_MS = 200;
+
+    private AiResilience resilience;
+
+    @AfterEach
+    void shutdown() {
+        if (resilience != null) {
+            resilience.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("재시도는 토큰 버킷 예산이 남아 있을 때만 하고, 비면 바로 실패한다")
+    void retriesStopWhenBudgetIsEmpty() {
+        // 시도 5번까지 허용하지만 예산은 토큰 2개, 적립 없음
+        resilience = resilience(5, 0, 2, false);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<CompletableFuture<String>> failing = () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(new AiClientException("503"));
+        };
+
+        assertThatThrownBy(() -> resilience.execute(failing).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(AiClientException.class);
+        // 첫 시도 + 예산 2개만큼 재시도
+        assertThat(calls.get()).isEqualTo(3);
+
+        calls.set(0);
+        assertThatThrownBy(() -> resilience.execute(failing).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(AiClientException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 실패는 예산이 있어도 다시 보내지 않는다")
+    void doesNotRetryNonRetryableFailure() {
+        resilience = resilience(5, 0, 10, false);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> resilience.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.<String>failedFuture(AiClientException.nonRetryable("400"));
+        }).get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AiClientException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 헤지 지연보다 늦으면 두 번째 요청을 보내고, 먼저 온 응답을 쓰고 진 쪽은 취소한다")
+    void hedgeFiresAfterDelayAndCancelsLoser() throws Exception {
+        resilience = resilience(1, 0, 10, true);
+        List<CompletableFuture<String>> sent = new CopyOnWriteArrayList<>();
+        Supplier<CompletableFuture<String>> call = () -> {
+            // 첫 요청은 응답이 오지 않고, 헤지 요청은 바로 응답
+            CompletableFuture<String> request = sent.isEmpty()
+                    ? new CompletableFuture<>()
+                    : CompletableFuture.completedFuture("hedge");
+            sent.add(request);
+            return request;
+        };
+
+        long startedAt = System.nanoTime();
+        String result = resilience.execute(call).get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(HEDGE_DELAY_MS);
+        assertThat(sent).hasSize(2);
+        assertCancelled(sent.get(0));
+    }
+
+    @Test
+    @DisplayName("헤지 요청을 보낸 뒤 첫 요청이 이기면 헤지 요청을 취소한다")
+    void primaryWinAfterHedgeCancelsHedge() throws Exception {
+        resilience = resilience(1, 0, 10, true);
+        List<CompletableFuture<String>> sent = new CopyOnWriteArrayList<>();
+        Supplier<CompletableFuture<String>> call = () -> {
+            CompletableFuture<String> request = new CompletableFuture<>();
+            if (sent.isEmpty()) {
+                request.completeOnTimeout("primary", HEDGE_DELAY_MS * 2, TimeUnit.MILLISECONDS);
+            }
+            sent.add(request);
+            return request;
+        };
+
+        assertThat(resilience.execute(call).get(5, TimeUnit.SECONDS)).isEqualTo("primary");
+
+        assertThat(sent).hasSize(2);
+        assertCancelled(sent.get(1));
+    }
+
+    @Test
+    @DisplayName("첫 요청이 헤지 지연 안에 끝나면 헤지 요청을 보내지 않는다")
+    void noHedgeWhenPrimaryIsFast() throws Exception {
+        resilience = resilience(1, 0, 10, true);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = resilience.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("primary");
+        }).get(5, TimeUnit.SECONDS);
+        Thread.sleep(HEDGE_DELAY_MS + 100);
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    /**
+     * 진 쪽 취소는 결과를 넘긴 뒤 같은 완료 콜백 체인에서 일어나므로 잠깐 기다린다.
+     */
+    private static void assertCancelled(CompletableFuture<?> request) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!request.isCancelled() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(request.isCancelled()).isTrue();
+    }
+
+    private static AiResilience resilience(int maxAttempts, double budgetRatio, double budgetTokens, boolean hedge) {
+        return new AiResilience(maxAttempts, 1, 1, budgetRatio, budgetTokens,
+                100, 100, 50, 30_000, hedge, HEDGE_DELAY_MS);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.dadambackend.common.daily;
+
+import com.example.dadambackend.support.MySqlContainerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DailyContentBuffer 선점 / 삭제
+ * - consume 은 선점할 때 기록한 claimed_until 이 그대로인 항목만 지운다.
+ * - 선점이 만료된 뒤 다른 노드가 다시 꺼낸 항목이면 삭제하지 않고, 저장 트랜잭션을 롤백시킨다.
+ */
+class DailyContentBufferTest extends MySqlContainerTest {
+
+    private static final DailyContentType TYPE = DailyContentType.QUESTION;
+
+    @Autowired
+    private DailyContentBuffer buffer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from daily_content_buffer where content_type = ?", TYPE.name());
+    }
+
+    @Test
+    @DisplayName("선점한 항목은 저장 트랜잭션에서 삭제된다")
+    void consumesOwnClaim() {
+        buffer.push(TYPE, List.of("가족과 가장 기억에 남는 여행은?"));
+        DailyContentCandidate<String> candidate = buffer.poll(TYPE, String.class).orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> buffer.consume(TYPE, candidate));
+
+        assertThat(buffer.size(TYPE)).isZero();
+    }
+
+    @Test
+    @DisplayName("선점이 만료된 뒤 다른 노드가 다시 꺼낸 항목은 지우지 않고 저장을 롤백시킨다")
+    void rejectsLostClaim() {
+        buffer.push(TYPE, List.of("요즘 가장 즐거운 일은?"));
+        DailyContentCandidate<String> candidate = buffer.poll(TYPE, String.class).orElseThrow();
+
+        // 다른 노드가 만료된 선점을 다시 가져감 (claimed_until 이 새 값으로 바뀜)
+        jdbcTemplate.update("update daily_content_buffer set claimed_until = ? where id = ?",
+                LocalDateTime.now().plusHours(1), candidate.bufferItemId());
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                buffer.consume(TYPE, candidate)))
+                .isInstanceOf(DailyContentClaimLostException.class);
+        assertThat(buffer.size(TYPE)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.dadambackend.common.daily;
+
+import com.example.dadambackend.common.ai.stub.AiStubController;
+import com.example.dadambackend.domain.balance.service.BalanceGameService;
+import com.example.dadambackend.domain.quiz.service.SlangQuizService;
+import com.example.dadambackend.security.UserPrincipal;
+import com.example.dadambackend.support.MySqlContainerTest;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 호출 중 커넥션 풀 사용량
+ * - 느린 AI 스텁 (ai.stub.latency-ms) 으로 세 종류의 사전 생성(prepareForDate)을 동시에 돌리면서
+ *   오늘 콘텐츠 조회를 계속 보내고, 생성이 모두 AI 응답을 기다리는 동안 Hikari 풀을 짧은 간격으로 관찰한다.
+ *   (생성 결과 저장은 짧은 트랜잭션이라 조회와 겹치면 잠깐 커넥션을 기다릴 수 있어서 관찰 구간에서 뺀다)
+ * - 생성이 AI 응답을 기다리는 동안 커넥션을 잡고 있으면 조회 스레드 수 + 생성 수가 풀 크기를 넘어서
+ *   커넥션 대기가 생긴다. (조회 스레드 수는 풀 크기보다 작게, 둘을 더하면 풀 크기보다 크게 둔다)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles(value = {"render", "stub", "test"}, inheritProfiles = false)
+class DailyContentPoolUsageTest extends MySqlContainerTest {
+
+    private static final int PORT = freePort();
+    private static final int POOL_SIZE = 6;
+    private static final int READERS = 4;
+    private static final long AI_LATENCY_MS = 1500;
+
+    @Autowired
+    private List<DailyContentProvider> providers;
+    @Autowired
+    private BalanceGameService balanceGameService;
+    @Autowired
+    private SlangQuizService slangQuizService;
+    @Autowired
+    private AiStubController aiStub;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<LocalDate> preparedDates = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void slowAi(DynamicPropertyRegistry registry) {
+        registry.add("server.port", () -> PORT);
+        registry.add("ai.api.url", () -> "http://localhost:" + PORT + "/stub/ai/v1/chat/completions");
+        registry.add("ai.stub.latency-ms", () -> AI_LATENCY_MS);
+        registry.add("ai.stub.latency-jitter-ms", () -> 0);
+        // 응답 캐시 조회/저장도 커넥션을 쓰므로 끄고 AI 대기 구간만 본다
+        registry.add("ai.cache.enabled", () -> false);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+        registry.add("spring.datasource.hikari.minimum-idle", () -> POOL_SIZE);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (LocalDate date : preparedDates) {
+            jdbcTemplate.update("delete from question where question_date = ?", date);
+            jdbcTemplate.update("delete from balance_game where game_date = ?", date);
+            jdbcTemplate.update("delete from slang_quiz where quiz_date = ?", date);
+        }
+    }
+
+    @Test
+    @DisplayName("AI 응답을 기다리는 동안 커넥션을 잡지 않아서 동시 조회가 커넥션을 기다리지 않는다")
+    void aiCallsDoNotHoldConnections() throws Exception {
+        // 버퍼에 항목이 있으면 AI 를 부르지 않으므로 비운다
+        jdbcTemplate.update("delete from daily_content_buffer");
+        UserPrincipal reader = insertMember();
+        // 오늘 콘텐츠 스냅샷을 먼저 올려 둔다 (조회는 가족 투표 / 집계만 DB 에서)
+        balanceGameService.getOrCreateTodayGame(reader);
+        slangQuizService.getOrCreateTodayQuiz(reader);
+
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        ExecutorService executor = Executors.newFixedThreadPool(providers.size() + READERS);
+        AtomicBoolean generating = new AtomicBoolean(true);
+        AtomicInteger reads = new AtomicInteger();
+        try {
+            LocalDate date = LocalDate.of(2090, 1, 1).plusDays(ThreadLocalRandom.current().nextInt(30_000));
+            preparedDates.add(date);
+
+            long startedAt = System.nanoTime();
+            List<CompletableFuture<Boolean>> generations = providers.stream()
+                    .map(provider -> CompletableFuture.supplyAsync(() -> provider.prepareForDate(date), executor))
+                    .toList();
+            CompletableFuture<Void> allGenerated = CompletableFuture.allOf(generations.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, error) -> generating.set(false));
+
+            List<CompletableFuture<Void>> readers = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                readers.add(CompletableFuture.runAsync(() -> {
+                    while (generating.get()) {
+                        balanceGameService.getOrCreateTodayGame(reader);
+                        slangQuizService.getOrCreateTodayQuiz(reader);
+                        reads.addAndGet(2);
+                    }
+                }, executor));
+            }
+
+            int samples = 0;
+            int maxActive = 0;
+            int maxAwaiting = 0;
+            while (generating.get()) {
+                if (aiStub.inFlight() >= providers.size()) {
+                    samples++;
+                    maxActive = Math.max(maxActive, pool.getActiveConnections());
+                    maxAwaiting = Math.max(maxAwaiting, pool.getThreadsAwaitingConnection());
+                }
+                Thread.sleep(2);
+            }
+            allGenerated.get(30, TimeUnit.SECONDS);
+            CompletableFuture.allOf(readers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            System.out.println("[DailyContentPoolUsageTest] 생성 " + elapsedMs + "ms 동안 조회 " + reads.get()
+                    + "건, AI 대기 중 관찰 " + samples + "회 최대 active " + maxActive + "/" + POOL_SIZE
+                    + ", 최대 대기 " + maxAwaiting);
+            // 생성은 실제로 느린 AI 를 거쳤고, 그동안 조회가 계속 돌았다
+            assertThat(generations).allSatisfy(generation -> assertThat(generation.join()).isTrue());
+            assertThat(elapsedMs).isGreaterThanOrEqualTo(AI_LATENCY_MS);
+            assertThat(reads.get()).isGreaterThan(READERS * 2);
+            assertThat(samples).isPositive();
+
+            assertThat(maxActive).isLessThan(POOL_SIZE);
+            assertThat(maxAwaiting).isZero();
+        } finally {
+            generating.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private UserPrincipal insertMember() {
+        String code = "POOL-" + UUID.randomUUID();
+        jdbcTemplate.update("insert into family (code, created_at) values (?, now(6))", code);
+        Long familyId = jdbcTemplate.queryForObject("select id from family where code = ?", Long.class, code);
+        String email = UUID.randomUUID() + "@test.dadam";
+        jdbcTemplate.update("insert into app_user (email, password, name, family_id) values (?, 'x', '테스트', ?)",
+                email, familyId);
+        Long userId = jdbcTemplate.queryForObject("select id from app_user where email = ?", Long.class, email);
+        return new UserPrincipal(userId, email, "테스트", null, familyId, code);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
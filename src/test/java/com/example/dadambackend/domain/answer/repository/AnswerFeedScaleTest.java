@@ -0,0 +1,162 @@
+package com.example.dadambackend.domain.answer.repository;
+
+import com.example.dadambackend.domain.answer.model.Answer;
+import com.example.dadambackend.support.MySqlContainerTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가족 10만 곳이 같은 오늘의 질문에 답한 상태에서 우리 가족 답변 목록 조회 비용
+ * - findFamilyFeed : 지금 쿼리 ((question_id, family_id, created_at) 인덱스로 우리 가족 답변만)
+ * - legacy : 예전 findByQuestionIdOrderByCreatedAtAsc 처럼 질문의 답변 전체를 읽고 Java 에서 가족만 거른다.
+ *   (예전에는 작성자를 답변마다 lazy 로 읽었지만, 여기서는 fetch join 으로 한 번에 읽어 예전보다 유리하게 잰다)
+ * 데이터를 10만 건씩 넣으므로 기본 test 에서는 빠지고 gradle test -Pbenchmark 로만 실행한다.
+ */
+@Tag("benchmark")
+class AnswerFeedScaleTest extends MySqlContainerTest {
+
+    private static final int FAMILIES = 100_000;
+    private static final int MEMBERS_OF_MEASURED_FAMILY = 4;
+    private static final int FEED_RUNS = 50;
+    private static final int LEGACY_RUNS = 5;
+
+    // 0 ~ 99999 (자릿수 테이블 5개 cross join)
+    private static final String DIGIT = "(select 0 d union all select 1 union all select 2 union all select 3 "
+            + "union all select 4 union all select 5 union all select 6 union all select 7 "
+            + "union all select 8 union all select 9)";
+    private static final String SEQUENCE = "select d1.d + d2.d * 10 + d3.d * 100 + d4.d * 1000 + d5.d * 10000 as n from "
+            + DIGIT + " d1 cross join " + DIGIT + " d2 cross join " + DIGIT + " d3 cross join "
+            + DIGIT + " d4 cross join " + DIGIT + " d5";
+
+    @Autowired
+    private AnswerRepository answerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final String prefix = "FEED-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    private Long questionId;
+
+    @AfterEach
+    void cleanUp() {
+        if (questionId != null) {
+            jdbcTemplate.update("delete from answer where question_id = ?", questionId);
+            jdbcTemplate.update("delete from question where id = ?", questionId);
+        }
+        jdbcTemplate.update("delete from app_user where email like ?", prefix + "%");
+        jdbcTemplate.update("delete from family where code like ?", prefix + "%");
+    }
+
+    @Test
+    @DisplayName("가족 10만 곳의 답변 중 우리 가족 답변 조회 : 가족 범위 쿼리가 전체 로드 + Java 필터보다 빠르다")
+    void familyFeedStaysFlatWithManyFamilies() {
+        Long familyId = seed();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Long> feedIds = readOnly.execute(status -> answerRepository.findFamilyFeed(
+                questionId, familyId, LocalDateTime.of(1970, 1, 1, 0, 0), 0L, PageRequest.of(0, 20))
+                .stream().map(AnswerFeedRow::answerId).toList());
+        List<Long> legacyIds = readOnly.execute(status -> legacy(familyId));
+        assertThat(feedIds).hasSize(MEMBERS_OF_MEASURED_FAMILY).isEqualTo(legacyIds);
+
+        long feedMicros = medianMicros(FEED_RUNS, () -> readOnly.execute(status -> answerRepository.findFamilyFeed(
+                questionId, familyId, LocalDateTime.of(1970, 1, 1, 0, 0), 0L, PageRequest.of(0, 20))));
+        long legacyMicros = medianMicros(LEGACY_RUNS, () -> readOnly.execute(status -> legacy(familyId)));
+
+        System.out.println("[AnswerFeedScaleTest] 가족 " + FAMILIES + "곳 → findFamilyFeed 중앙값 " + feedMicros
+                + "us, 전체 로드 + Java 필터 중앙값 " + legacyMicros + "us");
+        assertThat(feedMicros * 10).isLessThan(legacyMicros);
+    }
+
+    /**
+     * 예전 방식 : 질문의 답변 전체 → Java 에서 우리 가족만
+     */
+    private List<Long> legacy(Long familyId) {
+        List<Long> ids = new ArrayList<>();
+        for (Answer answer : entityManager.createQuery("select a from Answer a join fetch a.user "
+                        + "where a.question.id = :questionId order by a.createdAt asc, a.id asc", Answer.class)
+                .setParameter("questionId", questionId)
+                .getResultList()) {
+            if (answer.getFamily() != null && Objects.equals(answer.getFamily().getId(), familyId)) {
+                ids.add(answer.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 가족 10만 곳 (각 1명) + 측정할 가족 구성원 추가분, 모두 같은 질문에 한 번씩 답변
+     *
+     * @return 측정할 가족 id
+     */
+    private Long seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            LocalDate questionDate = LocalDate.of(2090, 1, 1).plusDays(ThreadLocalRandom.current().nextInt(30_000));
+            jdbcTemplate.update("insert into question (content, category, created_at, question_date) "
+                    + "values ('오늘 가장 고마웠던 일은?', 'DAILY', now(6), ?)", questionDate);
+            questionId = jdbcTemplate.queryForObject("select id from question where question_date = ?",
+                    Long.class, questionDate);
+
+            jdbcTemplate.update("insert into family (code, created_at) select concat(?, n), now(6) from ("
+                    + SEQUENCE + ") seq", prefix);
+            jdbcTemplate.update("insert into app_user (email, password, name, family_id) "
+                    + "select concat(f.code, '@feed.dadam'), 'x', '구성원', f.id from family f where f.code like ?",
+                    prefix + "%");
+        });
+
+        Long familyId = jdbcTemplate.queryForObject("select id from family where code = ?", Long.class,
+                prefix + (FAMILIES - 1));
+        for (int i = 1; i < MEMBERS_OF_MEASURED_FAMILY; i++) {
+            jdbcTemplate.update("insert into app_user (email, password, name, family_id) values (?, 'x', '구성원', ?)",
+                    prefix + "extra-" + i + "@feed.dadam", familyId);
+        }
+
+        // 답변 시각은 가족마다 흩어서 (우리 가족 답변이 전체 정렬의 맨 끝에 몰리지 않게)
+        jdbcTemplate.update("insert into answer (question_id, user_id, family_id, content, created_at) "
+                + "select ?, u.id, u.family_id, '답변', now(6) - interval (u.id % 86400) second "
+                + "from app_user u where u.email like ?", questionId, prefix + "%");
+        jdbcTemplate.execute("analyze table answer");
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from answer where question_id = ?",
+                Long.class, questionId)).isEqualTo(FAMILIES + MEMBERS_OF_MEASURED_FAMILY - 1L);
+        return familyId;
+    }
+
+    private static long medianMicros(int runs, Supplier<?> query) {
+        List<Long> micros = new ArrayList<>(runs);
+        for (int i = 0; i < runs; i++) {
+            long startedAt = System.nanoTime();
+            query.get();
+            micros.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+        }
+        Collections.sort(micros);
+        return micros.get(runs / 2);
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.dadambackend.domain.notification.service;
+
+import com.example.dadambackend.domain.notification.model.NotificationStatus;
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.model.OutboundNotification;
+import com.example.dadambackend.domain.notification.repository.OutboundNotificationRepository;
+import com.example.dadambackend.domain.notification.stub.FcmStubController;
+import com.example.dadambackend.domain.notification.support.PushTokenRegistry;
+import com.example.dadambackend.support.MySqlContainerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NotificationDispatcher 를 FcmStubController 에 실제 HTTP 로 붙여서
+ * - 꺼내기 : 다른 트랜잭션이 잠근 행은 SKIP LOCKED 로 건너뛰고, lease 가 끝나기 전에는 다시 꺼내지 않는다.
+ * - 재시도 : 503 은 지수 백오프로 다음 시도 시각을 미루고, max-attempts 에 닿으면 FAILED
+ * - 401 은 재시도 없이 FAILED
+ * - 가족 이벤트가 일부 구성원에게만 실패하면 그 사람에게만 보낼 행을 새로 만든다.
+ * 를 확인한다. test 프로필은 폴링 스레드를 끄므로 dispatchBatch 를 직접 부른다.
+ * 스텁은 토큰 접두어로 응답을 고른다. (unavailable- → 503, unauthorized- → 401)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles(value = {"render", "stub", "test"}, inheritProfiles = false)
+class NotificationDispatcherTest extends MySqlContainerTest {
+
+    private static final int PORT = freePort();
+    private static final long RETRY_BASE_DELAY_MS = 10_000;
+    private static final long LEASE_MS = 60_000;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+    @Autowired
+    private OutboundNotificationRepository outboundNotificationRepository;
+    @Autowired
+    private PushTokenRegistry pushTokenRegistry;
+    @Autowired
+    private FcmStubController fcmStub;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void fcmStub(DynamicPropertyRegistry registry) {
+        registry.add("server.port", () -> PORT);
+        registry.add("fcm.url", () -> "http://localhost:" + PORT + "/stub/fcm/v1/messages:send");
+        registry.add("fcm.stub.latency-ms", () -> 0);
+        registry.add("fcm.stub.error-rate", () -> 0);
+        registry.add("notification.dispatch.max-attempts", () -> 3);
+        registry.add("notification.dispatch.retry-base-delay-ms", () -> RETRY_BASE_DELAY_MS);
+        registry.add("notification.dispatch.retry-max-delay-ms", () -> RETRY_BASE_DELAY_MS * 100);
+        registry.add("notification.dispatch.lease-ms", () -> LEASE_MS);
+    }
+
+    // 같은 DB 를 쓰는 다른 테스트 클래스에 알림 행을 남기지 않는다
+    @BeforeEach
+    @AfterEach
+    void clearOutbox() {
+        jdbcTemplate.update("delete from outbound_notification");
+    }
+
+    @Test
+    @DisplayName("가족 이벤트를 작성자를 뺀 구성원에게 보내고 SENT 로 기록한다")
+    void sendsFamilyEventToOtherMembers() {
+        Long familyId = insertFamily();
+        Long actorId = insertMember(familyId, "ok-");
+        insertMember(familyId, "ok-");
+        Long id = outboundNotificationRepository.save(OutboundNotification.familyEvent(familyId, actorId, "엄마", "parent",
+                NotificationType.SCHEDULE_CREATED, "가족 여행", LocalDateTime.now().minusSeconds(1))).getId();
+        long delivered = fcmStub.stats().get("delivered");
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+
+        assertThat(reload(id).getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(fcmStub.stats().get("delivered")).isEqualTo(delivered + 1);
+    }
+
+    @Test
+    @DisplayName("가족 이벤트가 일부 구성원에게만 실패하면 실패한 사람에게만 재시도 행을 만든다")
+    void retriesOnlyFailedMemberOfFamilyEvent() {
+        Long familyId = insertFamily();
+        Long actorId = insertMember(familyId, "ok-");
+        insertMember(familyId, "ok-");
+        Long failedId = insertMember(familyId, "unavailable-");
+        Long id = outboundNotificationRepository.save(OutboundNotification.familyEvent(familyId, actorId, "엄마", "parent",
+                NotificationType.SCHEDULE_CREATED, "가족 여행", LocalDateTime.now().minusSeconds(1))).getId();
+
+        dispatcher.dispatchBatch();
+
+        assertThat(reload(id).getStatus()).isEqualTo(NotificationStatus.SENT);
+        List<Long> retryIds = jdbcTemplate.queryForList(
+                "select id from outbound_notification where recipient_id is not null", Long.class);
+        assertThat(retryIds).hasSize(1);
+        OutboundNotification retry = reload(retryIds.get(0));
+        assertThat(retry.getRecipientId()).isEqualTo(failedId);
+        assertThat(retry.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 잠근 행은 건너뛰고 나머지만 꺼낸다 (SKIP LOCKED)")
+    void skipsRowsLockedByAnotherTransaction() throws Exception {
+        Long familyId = insertFamily();
+        Long recipientId = insertMember(familyId, "ok-");
+        Long locked = saveDirect(familyId, recipientId, LocalDateTime.now().minusSeconds(2));
+        Long free = saveDirect(familyId, recipientId, LocalDateTime.now().minusSeconds(1));
+
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            Integer dispatched = new TransactionTemplate(transactionManager).execute(status -> {
+                assertThat(outboundNotificationRepository.lockDueIds(LocalDateTime.now(), 1)).containsExactly(locked);
+                try {
+                    // 잠금을 쥔 채로 다른 스레드(다른 커넥션)에서 디스패치
+                    return other.submit(dispatcher::dispatchBatch).get(30, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertThat(dispatched).isEqualTo(1);
+        } finally {
+            other.shutdownNow();
+        }
+
+        assertThat(reload(locked).getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(reload(locked).getAttempts()).isEqualTo(1);
+        assertThat(reload(free).getStatus()).isEqualTo(NotificationStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("꺼낸 행은 lease 가 끝날 때까지 다시 꺼내지지 않는다")
+    void claimedRowsStayHiddenUntilLeaseExpires() {
+        Long familyId = insertFamily();
+        Long recipientId = insertMember(familyId, "ok-");
+        Long id = saveDirect(familyId, recipientId, LocalDateTime.now().minusSeconds(1));
+
+        // 꺼내기만 하고 결과를 못 쓴 디스패처 (서버 종료 등)
+        LocalDateTime claimedAt = LocalDateTime.now();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            List<Long> ids = outboundNotificationRepository.lockDueIds(claimedAt, 10);
+            outboundNotificationRepository.extendLease(ids, claimedAt.plus(LEASE_MS, ChronoUnit.MILLIS));
+        });
+
+        assertThat(dispatcher.dispatchBatch()).isZero();
+        List<Long> dueAfterLease = tx.execute(status -> outboundNotificationRepository.lockDueIds(
+                claimedAt.plus(LEASE_MS + 1000, ChronoUnit.MILLIS), 10));
+        assertThat(dueAfterLease).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("일시적 실패(503)는 지수 백오프 + jitter 만큼 미뤄서 다시 시도한다")
+    void retriesTransientFailureWithBackoff() {
+        Long familyId = insertFamily();
+        Long recipientId = insertMember(familyId, "unavailable-");
+        Long id = saveDirect(familyId, recipientId, LocalDateTime.now().minusSeconds(1));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchBatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        // 두 번째 시도 → ceiling = base * 2, 구간 [ceiling/2, ceiling)
+        OutboundNotification notification = reload(id);
+        assertThat(notification.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(notification.getAttempts()).isEqualTo(2);
+        assertThat(notification.getLastError()).isEqualTo("FCM 일시적 실패");
+        assertThat(notification.getNextAttemptAt())
+                .isAfterOrEqualTo(before.plus(RETRY_BASE_DELAY_MS, ChronoUnit.MILLIS))
+                .isBefore(after.plus(RETRY_BASE_DELAY_MS * 2, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("재시도 한도(max-attempts)에 닿으면 FAILED 로 끝낸다")
+    void failsAfterMaxAttempts() {
+        Long familyId = insertFamily();
+        Long recipientId = insertMember(familyId, "unavailable-");
+        Long id = saveDirect(familyId, recipientId, LocalDateTime.now().minusSeconds(1));
+
+        dispatcher.dispatchBatch();
+        assertThat(reload(id).getStatus()).isEqualTo(NotificationStatus.PENDING);
+
+        // 백오프를 기다리는 대신 다음 시도 시각을 당긴다
+        jdbcTemplate.update("update outbound_notification set next_attempt_at = ? where id = ?",
+                LocalDateTime.now().minusSeconds(1), id);
+        dispatcher.dispatchBatch();
+
+        OutboundNotification notification = reload(id);
+        assertThat(notification.getStatus()).isEqualTo(NotificationStatus.FAILED);
+        assertThat(notification.getAttempts()).isEqualTo(3);
+        assertThat(notification.getLastError()).contains("재시도 한도 초과");
+    }
+
+    @Test
+    @DisplayName("인증 실패(401)는 재시도하지 않고 바로 FAILED")
+    void authFailureIsNotRetried() {
+        Long familyId = insertFamily();
+        Long recipientId = insertMember(familyId, "unauthorized-");
+        Long id = saveDirect(familyId, recipientId, LocalDateTime.now().minusSeconds(1));
+
+        dispatcher.dispatchBatch();
+
+        OutboundNotification notification = reload(id);
+        assertThat(notification.getStatus()).isEqualTo(NotificationStatus.FAILED);
+        assertThat(notification.getAttempts()).isEqualTo(2);
+        assertThat(notification.getLastError()).isEqualTo("FCM 인증 실패 (401/403)");
+    }
+
+    private Long insertFamily() {
+        String code = "DISPATCH-" + UUID.randomUUID();
+        jdbcTemplate.update("insert into family (code, created_at) values (?, now(6))", code);
+        return jdbcTemplate.queryForObject("select id from family where code = ?", Long.class, code);
+    }
+
+    /**
+     * 가족 구성원 + 기기 토큰 하나 (토큰은 메모리 인덱스에만 올린다, 디스패처는 DB 를 보지 않음)
+     */
+    private Long insertMember(Long familyId, String tokenPrefix) {
+        String email = UUID.randomUUID() + "@test.dadam";
+        jdbcTemplate.update("insert into app_user (email, password, name, family_id) values (?, 'x', '테스트', ?)",
+                email, familyId);
+        Long userId = jdbcTemplate.queryForObject("select id from app_user where email = ?", Long.class, email);
+        pushTokenRegistry.registered(tokenPrefix + UUID.randomUUID(), userId, familyId);
+        return userId;
+    }
+
+    /**
+     * 받는 사람 지정 행 (fan-out 뒤 재시도 행과 같은 모양, attempts = 1 부터 시작)
+     */
+    private Long saveDirect(Long familyId, Long recipientId, LocalDateTime nextAttemptAt) {
+        return outboundNotificationRepository.save(OutboundNotification.retryFor(familyId, recipientId,
+                NotificationType.COMMENT_CREATED, "새 댓글", "댓글이 달렸어요", nextAttemptAt, "FCM 일시적 실패")).getId();
+    }
+
+    private OutboundNotification reload(Long id) {
+        return outboundNotificationRepository.findById(id).orElseThrow();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.dadambackend.domain.notification.service;
+
+import com.example.dadambackend.domain.notification.model.NotificationType;
+import com.example.dadambackend.domain.notification.model.OutboundNotification;
+import com.example.dadambackend.domain.notification.repository.FamilyPushToken;
+import com.example.dadambackend.domain.notification.service.template.NotificationTemplateService;
+import com.example.dadambackend.domain.notification.service.template.RenderedNotification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NotificationFanOut.expand (DB 없이 아웃박스 묶음 + 토큰 목록만으로 펼치기)
+ */
+class NotificationFanOutTest {
+
+    private static final Long FAMILY_ID = 10L;
+    private static final Long ACTOR_ID = 1L;
+    private static final Long MEMBER_ID = 2L;
+    private static final Long OTHER_MEMBER_ID = 3L;
+
+    private final NotificationTemplateService templateService = new NotificationTemplateService("ko");
+    private final NotificationFanOut fanOut = new NotificationFanOut(templateService);
+
+    private final List<FamilyPushToken> tokens = List.of(
+            new FamilyPushToken(FAMILY_ID, ACTOR_ID, "actor-token"),
+            new FamilyPushToken(FAMILY_ID, MEMBER_ID, "member-token"),
+            new FamilyPushToken(FAMILY_ID, MEMBER_ID, "member-tablet-token"),
+            new FamilyPushToken(FAMILY_ID, OTHER_MEMBER_ID, "other-token"));
+
+    @Test
+    @DisplayName("가족 이벤트는 작성자를 뺀 구성원에게만 펼친다")
+    void excludesActor() {
+        OutboundNotification event = familyEvent(100L, ACTOR_ID, NotificationType.SCHEDULE_CREATED, "가족 여행");
+
+        List<NotificationDelivery> deliveries = fanOut.expand(List.of(event), tokens);
+
+        assertThat(deliveries).extracting(NotificationDelivery::recipientId)
+                .containsExactly(MEMBER_ID, OTHER_MEMBER_ID);
+        assertThat(deliveries.get(0).tokens()).containsExactly("member-token", "member-tablet-token");
+        assertThat(deliveries).allSatisfy(delivery -> assertThat(delivery.direct()).isFalse());
+    }
+
+    @Test
+    @DisplayName("이벤트 한 건은 renderSingle 결과 그대로 보낸다")
+    void rendersSingleEvent() {
+        OutboundNotification event = familyEvent(100L, ACTOR_ID, NotificationType.ANSWER_CREATED, "오늘의 질문");
+        RenderedNotification expected = templateService.renderSingle(event);
+
+        List<NotificationDelivery> deliveries = fanOut.expand(List.of(event), tokens);
+
+        assertThat(deliveries).allSatisfy(delivery -> {
+            assertThat(delivery.type()).isEqualTo(NotificationType.ANSWER_CREATED);
+            assertThat(delivery.title()).isEqualTo(expected.title());
+            assertThat(delivery.body()).isEqualTo(expected.body());
+            assertThat(delivery.sourceIds()).containsExactly(100L);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 창의 이벤트 N 건은 받는 사람마다 DIGEST 한 건으로 묶고, sourceIds 에 N 건을 모두 담는다")
+    void coalescesEventsIntoDigest() {
+        List<OutboundNotification> batch = List.of(
+                familyEvent(100L, ACTOR_ID, NotificationType.ANSWER_CREATED, "오늘의 질문"),
+                familyEvent(101L, ACTOR_ID, NotificationType.COMMENT_CREATED, "오늘의 질문"),
+                familyEvent(102L, OTHER_MEMBER_ID, NotificationType.SCHEDULE_CREATED, "가족 여행"));
+
+        List<NotificationDelivery> deliveries = fanOut.expand(batch, tokens);
+
+        // 작성자 본인 이벤트는 빠지므로 ACTOR 는 1건 (102), OTHER 는 2건 (100, 101)
+        assertThat(deliveries).extracting(NotificationDelivery::recipientId)
+                .containsExactly(ACTOR_ID, MEMBER_ID, OTHER_MEMBER_ID);
+        NotificationDelivery member = deliveries.get(1);
+        assertThat(member.type()).isEqualTo(NotificationType.DIGEST);
+        assertThat(member.sourceIds()).containsExactly(100L, 101L, 102L);
+        assertThat(member.body()).isEqualTo(templateService.renderDigest(batch).body());
+
+        assertThat(deliveries.get(0).type()).isEqualTo(NotificationType.SCHEDULE_CREATED);
+        assertThat(deliveries.get(0).sourceIds()).containsExactly(102L);
+        assertThat(deliveries.get(2).type()).isEqualTo(NotificationType.DIGEST);
+        assertThat(deliveries.get(2).sourceIds()).containsExactly(100L, 101L);
+    }
+
+    @Test
+    @DisplayName("받는 사람 지정 행은 묶지 않고 제목/본문 그대로 그 사람 토큰으로만 보낸다")
+    void passesDirectRowsThrough() {
+        OutboundNotification direct = OutboundNotification.retryFor(FAMILY_ID, MEMBER_ID,
+                NotificationType.COMMENT_CREATED, "새 댓글", "댓글이 달렸어요", LocalDateTime.now(), "FCM 일시적 실패");
+        ReflectionTestUtils.setField(direct, "id", 200L);
+        OutboundNotification event = familyEvent(100L, ACTOR_ID, NotificationType.SCHEDULE_CREATED, "가족 여행");
+
+        List<NotificationDelivery> deliveries = fanOut.expand(List.of(direct, event), tokens);
+
+        NotificationDelivery delivery = deliveries.get(0);
+        assertThat(delivery.direct()).isTrue();
+        assertThat(delivery.recipientId()).isEqualTo(MEMBER_ID);
+        assertThat(delivery.type()).isEqualTo(NotificationType.COMMENT_CREATED);
+        assertThat(delivery.title()).isEqualTo("새 댓글");
+        assertThat(delivery.body()).isEqualTo("댓글이 달렸어요");
+        assertThat(delivery.tokens()).containsExactly("member-token", "member-tablet-token");
+        assertThat(delivery.sourceIds()).containsExactly(200L);
+        // 가족 이벤트는 따로 펼쳐지고 지정 행과 묶이지 않는다
+        assertThat(deliveries).hasSize(3);
+        assertThat(deliveries.subList(1, 3)).allSatisfy(d -> assertThat(d.sourceIds()).containsExactly(100L));
+    }
+
+    private static OutboundNotification familyEvent(Long id, Long actorId, NotificationType type, String subject) {
+        OutboundNotification event = OutboundNotification.familyEvent(FAMILY_ID, actorId, "엄마", "parent",
+                type, subject, LocalDateTime.now());
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.dadambackend.domain.notification.support;
+
+import com.example.dadambackend.domain.notification.repository.FamilyPushToken;
+import com.example.dadambackend.domain.notification.repository.PushTokenRepository;
+import com.example.dadambackend.support.MySqlContainerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PushTokenRegistry 증분 재적재
+ * - 다른 노드가 등록한 토큰 (이 노드의 registered 를 거치지 않은 행) 을 updated_at 기준으로 따라잡는지
+ * - 토큰이 다른 계정으로 옮겨가면 새 주인의 가족으로 옮겨지는지
+ */
+class PushTokenRegistryTest extends MySqlContainerTest {
+
+    @Autowired
+    private PushTokenRegistry pushTokenRegistry;
+    @Autowired
+    private PushTokenRepository pushTokenRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("다른 노드에서 등록된 토큰을 증분 재적재로 따라잡는다")
+    void picksUpTokensRegisteredElsewhere() {
+        Long familyId = insertFamily();
+        Long userId = insertMember(familyId);
+        String token = "elsewhere-" + UUID.randomUUID();
+
+        upsertOnAnotherNode(userId, token);
+        assertThat(tokensOf(familyId)).doesNotContain(token);
+
+        pushTokenRegistry.reloadChanged();
+
+        assertThat(tokensOf(familyId)).containsExactly(token);
+    }
+
+    @Test
+    @DisplayName("다른 계정으로 옮겨간 토큰은 새 주인의 가족으로 옮긴다")
+    void movesTokenToNewOwner() {
+        Long oldFamilyId = insertFamily();
+        Long newFamilyId = insertFamily();
+        Long oldOwner = insertMember(oldFamilyId);
+        Long newOwner = insertMember(newFamilyId);
+        String token = "moved-" + UUID.randomUUID();
+
+        upsertOnAnotherNode(oldOwner, token);
+        pushTokenRegistry.reloadChanged();
+        upsertOnAnotherNode(newOwner, token);
+        pushTokenRegistry.reloadChanged();
+
+        assertThat(tokensOf(oldFamilyId)).isEmpty();
+        assertThat(tokensOf(newFamilyId)).containsExactly(token);
+    }
+
+    private void upsertOnAnotherNode(Long userId, String token) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                pushTokenRepository.upsert(userId, token));
+    }
+
+    private List<String> tokensOf(Long familyId) {
+        return pushTokenRegistry.familyTokens(List.of(familyId)).stream().map(FamilyPushToken::token).toList();
+    }
+
+    private Long insertFamily() {
+        String code = "REGISTRY-" + UUID.randomUUID();
+        jdbcTemplate.update("insert into family (code, created_at) values (?, now(6))", code);
+        return jdbcTemplate.queryForObject("select id from family where code = ?", Long.class, code);
+    }
+
+    private Long insertMember(Long familyId) {
+        String email = UUID.randomUUID() + "@test.dadam";
+        jdbcTemplate.update("insert into app_user (email, password, name, family_id) values (?, 'x', '테스트', ?)",
+                email, familyId);
+        return jdbcTemplate.queryForObject("select id from app_user where email = ?", Long.class, email);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.dadambackend.global.db;
+
+import com.example.dadambackend.common.daily.DailyContentBufferRepository;
+import com.example.dadambackend.common.quota.UserQuotaRepository;
+import com.example.dadambackend.domain.answer.repository.AnswerRepository;
+import com.example.dadambackend.domain.family.repository.FamilyRepository;
+import com.example.dadambackend.domain.notification.repository.OutboundNotificationRepository;
+import com.example.dadambackend.domain.notification.repository.PushTokenChange;
+import com.example.dadambackend.domain.notification.repository.PushTokenRepository;
+import com.example.dadambackend.support.MySqlContainerTest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빈 MySQL 에 Flyway V1 → 최신을 적용하고 ddl-auto=validate 로 시작한 뒤,
+ * - 마이그레이션이 모두 적용됐는지
+ * - MySQL 전용 native 쿼리 (SKIP LOCKED, DELETE ... LIMIT, INSERT IGNORE, ON DUPLICATE KEY ... VALUES()) 문법
+ * - V3 의 조회별 인덱스가 해당 조회에 쓰일 수 있는지 (EXPLAIN)
+ * 를 확인한다. 엔티티와 스키마가 어긋나면 컨텍스트 시작 단계에서 실패한다.
+ */
+class SchemaMigrationTest extends MySqlContainerTest {
+
+    private static final Pattern MIGRATION_FILE = Pattern.compile("V(\\d+)__.+\\.sql");
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private OutboundNotificationRepository outboundNotificationRepository;
+    @Autowired
+    private PushTokenRepository pushTokenRepository;
+    @Autowired
+    private DailyContentBufferRepository dailyContentBufferRepository;
+    @Autowired
+    private FamilyRepository familyRepository;
+    @Autowired
+    private UserQuotaRepository userQuotaRepository;
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Test
+    @DisplayName("모든 마이그레이션이 적용되고 최신 버전까지 올라간다")
+    void appliesEveryMigration() throws IOException {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(applied).allMatch(m -> m.getState().isApplied() && !m.getState().isFailed());
+        assertThat(flyway.info().current().getVersion()).isEqualTo(latestMigrationVersion());
+    }
+
+    @Test
+    @DisplayName("MySQL 전용 native 쿼리가 실제 스키마에서 실행된다")
+    void nativeQueriesRun() {
+        inRolledBackTransaction(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            Long userId = insertUser("native-query@test.dadam");
+
+            // SKIP LOCKED / DELETE ... LIMIT
+            assertThat(outboundNotificationRepository.lockDueIds(now, 10)).isEmpty();
+            assertThat(outboundNotificationRepository.deleteFinishedBefore(now, 100)).isZero();
+            assertThat(dailyContentBufferRepository.findFirstClaimable("QUESTION", now)).isEmpty();
+
+            // UPDATE ... JOIN (id 구간 보정)
+            assertThat(answerRepository.reconcileCommentCounts(1, 1000)).isZero();
+
+            // INSERT ... ON DUPLICATE KEY UPDATE ... VALUES()
+            pushTokenRepository.upsert(userId, "token-1");
+            pushTokenRepository.upsert(userId, "token-1");
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from push_token where token = 'token-1'", Integer.class)).isEqualTo(1);
+            assertThat(pushTokenRepository.findChangedSince(now.minusMinutes(1)))
+                    .extracting(PushTokenChange::token).contains("token-1");
+
+            // INSERT IGNORE
+            assertThat(familyRepository.insertIfAbsent("SCHEMA-TEST", now)).isEqualTo(1);
+            assertThat(familyRepository.insertIfAbsent("SCHEMA-TEST", now)).isZero();
+            assertThat(userQuotaRepository.insertIfAbsent(userId, "COMMENT")).isEqualTo(1);
+            assertThat(userQuotaRepository.tryIncrement(userId, "COMMENT", 1)).isEqualTo(1);
+            assertThat(userQuotaRepository.tryIncrement(userId, "COMMENT", 1)).isZero();
+        });
+    }
+
+    @ParameterizedTest(name = "{0}.{1}")
+    @DisplayName("키셋 페이지네이션 정렬 키 컬럼은 NOT NULL 이다")
+    @CsvSource({"answer, created_at", "comment, created_at", "schedule, date"})
+    void keysetSortColumnsAreNotNull(String table, String column) {
+        String nullable = jdbcTemplate.queryForObject(
+                "select is_nullable from information_schema.columns "
+                        + "where table_schema = database() and table_name = ? and column_name = ?",
+                String.class, table, column);
+
+        assertThat(nullable).isEqualTo("NO");
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @DisplayName("조회별 인덱스가 EXPLAIN 후보에 잡힌다")
+    @CsvSource(delimiter = '|', value = {
+            "select * from answer where question_id = 1 and family_id = 1 order by created_at | idx_answer_question_family",
+            "select id from answer where question_id = 1 and user_id = 1                     | idx_answer_question_user",
+            "select * from comment where answer_id = 1 order by created_at                    | idx_comment_answer_created",
+            "select count(*) from comment where user_id = 1                                   | idx_comment_user",
+            "select * from schedule where family_id = 1 and date = '2025-01-01'               | idx_schedule_family_date",
+            "select id from app_user where family_id = 1                                      | idx_app_user_family",
+            "select * from balance_game_vote where balance_game_id = 1 and family_id = 1 order by created_at | idx_balance_game_vote_game_family",
+            "select * from slang_quiz_vote where slang_quiz_id = 1 and family_id = 1 order by created_at     | idx_slang_quiz_vote_quiz_family",
+            "select count(*) from daily_content_buffer where content_type = 'QUESTION'         | idx_daily_content_buffer_type_id",
+            "select id from outbound_notification where status = 'PENDING' and next_attempt_at <= now() order by next_attempt_at | idx_outbound_notification_status_next",
+            "select token from push_token where updated_at > now()                             | idx_push_token_updated",
+    })
+    void hotPathQueriesCanUseTheirIndex(String sql, String index) {
+        Map<String, Object> plan = jdbcTemplate.queryForList("explain " + sql).get(0);
+
+        assertThat(Objects.toString(plan.get("possible_keys"), "")).contains(index);
+    }
+
+    private Long insertUser(String email) {
+        jdbcTemplate.update("insert into app_user (email, password, name) values (?, 'x', '테스트')", email);
+        return jdbcTemplate.queryForObject("select id from app_user where email = ?", Long.class, email);
+    }
+
+    private void inRolledBackTransaction(Runnable body) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            body.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    private static MigrationVersion latestMigrationVersion() throws IOException {
+        Resource[] files = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql");
+        int latest = Arrays.stream(files)
+                .map(file -> MIGRATION_FILE.matcher(Objects.requireNonNull(file.getFilename())))
+                .filter(Matcher::matches)
+                .mapToInt(m -> Integer.parseInt(m.group(1)))
+                .max()
+                .orElseThrow();
+        return MigrationVersion.fromVersion(String.valueOf(latest));
+    }
+}
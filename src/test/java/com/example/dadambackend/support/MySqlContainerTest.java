@@ -0,0 +1,40 @@
+package com.example.dadambackend.support;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL 통합 테스트 기반 클래스
+ * - 운영과 같은 render 프로필 (Flyway V1 → 최신, ddl-auto=validate) 로 애플리케이션을 띄운다.
+ * - 컨테이너는 JVM 당 하나만 띄워서 테스트 클래스끼리 Spring 컨텍스트를 공유한다.
+ * - Docker 가 없는 환경에서는 건너뛴다 (CI 에서는 실행)
+ */
+@Tag("mysql")
+@SpringBootTest
+@ActiveProfiles({"render", "test"})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MySqlContainerTest {
+
+    protected static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36")
+            .withDatabaseName("dadam")
+            .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_0900_ai_ci");
+
+    static {
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            MYSQL.start();
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+}